@@ -0,0 +1,24 @@
+#!/bin/sh
+# Grid node'unda Chromium'u önceden ısıtılmış profil şablonuyla başlatır.
+# chromedriver her oturum için boş bir --user-data-dir oluşturur ve DevToolsActivePort dosyasını orada arar;
+# bu yüzden profil değiştirilmez, şablon o dizinin içine kopyalanır. Dizini chromedriver oturum sonunda siler.
+# Testler bu betiği selenium.profile.grid-binary capability'si (goog:chromeOptions.binary) ile kullanır.
+
+TEMPLATE="${BROWSER_PROFILE_TEMPLATE:-/opt/browser-profile/template}"
+BROWSER="${BROWSER_PROFILE_BINARY:-/usr/bin/chromium}"
+
+PROFILE=""
+for arg in "$@"; do
+    case "$arg" in
+        --user-data-dir=*) PROFILE="${arg#--user-data-dir=}" ;;
+    esac
+done
+
+if [ -n "$PROFILE" ] && [ -d "$TEMPLATE" ]; then
+    mkdir -p "$PROFILE"
+    # Copy-on-write destekleyen dosya sistemlerinde (btrfs, xfs) kopya anında oluşur
+    cp -a --reflink=auto "$TEMPLATE/." "$PROFILE/" 2>/dev/null || cp -a "$TEMPLATE/." "$PROFILE/"
+    rm -f "$PROFILE"/Singleton* "$PROFILE"/lockfile
+fi
+
+exec "$BROWSER" "$@"
@@ -0,0 +1,23 @@
+package com.sahibinden.uiautomation.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code static final By} constant of a page object as a locator.
+ * The initializer must be a {@code By.<strategy>(...)} call with a compile-time constant argument;
+ * XPath locators are syntax checked at compile time.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface Locator {
+
+    /**
+     * Human-readable element name, used in logs and reports.
+     *
+     * @return element name
+     */
+    String value();
+}
@@ -0,0 +1,22 @@
+package com.sahibinden.uiautomation.processor;
+
+/**
+ * Compile-time description of a page locator, as listed by the generated {@code <Page>Locators} classes.
+ *
+ * @param page     page object class simple name
+ * @param field    name of the By constant
+ * @param name     human-readable element name
+ * @param strategy By strategy (id, xpath, cssSelector, ...)
+ * @param value    locator expression
+ */
+public record LocatorMetadata(String page, String field, String name, String strategy, String value) {
+
+    /**
+     * Formats the locator the way {@code By.toString()} does, e.g. "By.id: advancedSorting".
+     *
+     * @return locator description
+     */
+    public String describe() {
+        return "By." + strategy + ": " + value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sahibinden.uiautomation.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a page object class for code generation.
+ * The processor adds a lazy accessor for the page to the generated Pages class and
+ * a {@code <Page>Locators} class listing the page's {@link Locator} constants.
+ * The page needs exactly one public constructor; its WebDriver parameter is supplied by Pages,
+ * other parameters become Pages constructor parameters (shared by name across pages).
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface PageObject {
+
+    /**
+     * Accessor method name in Pages, defaults to the decapitalized class name.
+     *
+     * @return accessor name
+     */
+    String value() default "";
+}
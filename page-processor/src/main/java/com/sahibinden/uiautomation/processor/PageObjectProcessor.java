@@ -0,0 +1,372 @@
+package com.sahibinden.uiautomation.processor;
+
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodInvocationTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates page object accessors and locator metadata from {@link PageObject} classes.
+ * For every page a {@code <Page>Locators} class lists its {@link Locator} constants with strategy and
+ * expression read from the source; one {@code Pages} class per run creates pages lazily through their
+ * constructors, so no reflection is needed when a test starts.
+ * Locator initializers are read through the javac Trees API, so the processor requires javac.
+ */
+@SupportedAnnotationTypes({
+        "com.sahibinden.uiautomation.processor.PageObject",
+        "com.sahibinden.uiautomation.processor.Locator"
+})
+public class PageObjectProcessor extends AbstractProcessor {
+
+    private static final String GENERATED = "@javax.annotation.processing.Generated(\""
+            + PageObjectProcessor.class.getName() + "\")";
+    private static final String WEB_DRIVER = "org.openqa.selenium.WebDriver";
+    private static final String BY = "org.openqa.selenium.By";
+    private static final Set<String> STRATEGIES = Set.of(
+            "id", "name", "className", "tagName", "cssSelector", "xpath", "linkText", "partialLinkText");
+
+    private final List<PageModel> pages = new ArrayList<>();
+    private Trees trees;
+    private XPath xpath;
+    private boolean pagesWritten;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        trees = Trees.instance(processingEnv);
+        xpath = XPathFactory.newDefaultInstance().newXPath();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Locator.class)) {
+            if (element.getEnclosingElement().getAnnotation(PageObject.class) == null) {
+                error(element, "@Locator constant outside a @PageObject class");
+            }
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(PageObject.class))) {
+            PageModel page = readPage(type);
+            if (page != null) {
+                pages.add(page);
+                writeLocators(page);
+            }
+        }
+
+        // Pages are all source files, so they arrive in the first round together
+        if (!pages.isEmpty() && !pagesWritten) {
+            pagesWritten = true;
+            writePages();
+        }
+        return true;
+    }
+
+    private PageModel readPage(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC))
+                .toList();
+        if (constructors.size() != 1) {
+            error(type, "@PageObject class needs exactly one public constructor");
+            return null;
+        }
+
+        List<Parameter> parameters = new ArrayList<>();
+        for (VariableElement parameter : constructors.get(0).getParameters()) {
+            String parameterType = parameter.asType().toString();
+            String name = parameter.getSimpleName().toString();
+            if (!WEB_DRIVER.equals(parameterType) && "driver".equals(name)) {
+                error(parameter, "Parameter name 'driver' is reserved for the WebDriver");
+                return null;
+            }
+            parameters.add(new Parameter(name, parameterType, WEB_DRIVER.equals(parameterType)));
+        }
+
+        List<LocatorMetadata> locators = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Locator locator = field.getAnnotation(Locator.class);
+            if (locator == null) {
+                continue;
+            }
+            LocatorMetadata metadata = readLocator(type, field, locator.value());
+            if (metadata != null) {
+                if (!names.add(metadata.name())) {
+                    error(field, "Duplicate locator name '" + metadata.name() + "' in " + type.getSimpleName());
+                }
+                locators.add(metadata);
+            }
+        }
+
+        String accessor = type.getAnnotation(PageObject.class).value();
+        if (accessor.isEmpty()) {
+            String simpleName = type.getSimpleName().toString();
+            accessor = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+        }
+        return new PageModel(type, accessor, parameters, locators);
+    }
+
+    private LocatorMetadata readLocator(TypeElement page, VariableElement field, String name) {
+        if (!field.getModifiers().containsAll(Set.of(Modifier.STATIC, Modifier.FINAL))
+                || !BY.equals(field.asType().toString())) {
+            error(field, "@Locator must be placed on a static final By constant");
+            return null;
+        }
+
+        VariableTree tree = (VariableTree) trees.getTree(field);
+        if (tree == null || !(tree.getInitializer() instanceof MethodInvocationTree call)
+                || !(call.getMethodSelect() instanceof MemberSelectTree select)
+                || !STRATEGIES.contains(select.getIdentifier().toString())
+                || call.getArguments().size() != 1) {
+            error(field, "@Locator initializer must be a By.<strategy>(...) call");
+            return null;
+        }
+
+        String strategy = select.getIdentifier().toString();
+        String value = constant(page, call.getArguments().get(0));
+        if (value == null) {
+            error(field, "@Locator argument must be a compile-time constant string");
+            return null;
+        }
+        if ("xpath".equals(strategy)) {
+            try {
+                xpath.compile(value);
+            } catch (XPathExpressionException e) {
+                error(field, "Invalid XPath '" + value + "': "
+                        + (e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+                return null;
+            }
+        }
+        return new LocatorMetadata(page.getSimpleName().toString(), field.getSimpleName().toString(),
+                name, strategy, value);
+    }
+
+    /**
+     * Evaluates a string literal, a concatenation of constants or a reference to a constant
+     * field of the page (or of a class named by its qualified or same-package name).
+     */
+    private String constant(TypeElement page, ExpressionTree expression) {
+        if (expression instanceof LiteralTree literal) {
+            return literal.getValue() instanceof String value ? value : null;
+        }
+        if (expression instanceof ParenthesizedTree parenthesized) {
+            return constant(page, parenthesized.getExpression());
+        }
+        if (expression instanceof BinaryTree binary && binary.getKind() == Tree.Kind.PLUS) {
+            String left = constant(page, binary.getLeftOperand());
+            String right = constant(page, binary.getRightOperand());
+            return left != null && right != null ? left + right : null;
+        }
+        if (expression instanceof IdentifierTree identifier) {
+            return constantField(page, identifier.getName().toString());
+        }
+        if (expression instanceof MemberSelectTree select) {
+            String owner = select.getExpression().toString();
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(owner);
+            if (type == null) {
+                String pagePackage = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+                type = processingEnv.getElementUtils().getTypeElement(pagePackage + "." + owner);
+            }
+            return type != null ? constantField(type, select.getIdentifier().toString()) : null;
+        }
+        return null;
+    }
+
+    private String constantField(TypeElement type, String name) {
+        return ElementFilter.fieldsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+                .filter(field -> field.getSimpleName().contentEquals(name))
+                .map(VariableElement::getConstantValue)
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void writeLocators(PageModel page) {
+        String packageName = page.packageName();
+        String className = page.type().getSimpleName() + "Locators";
+        String metadata = LocatorMetadata.class.getName();
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(packageName + "." + className, page.type()).openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("/**");
+            out.println(" * Locators of {@link " + page.type().getSimpleName() + "}, generated from its @Locator constants.");
+            out.println(" */");
+            out.println(GENERATED);
+            out.println("public final class " + className + " {");
+            out.println();
+            out.println("    public static final java.util.List<" + metadata + "> ALL = java.util.List.of(");
+            out.println(page.locators().stream()
+                    .map(locator -> String.format("            new %s(%s, %s, %s, %s, %s)", metadata,
+                            literal(locator.page()), literal(locator.field()), literal(locator.name()),
+                            literal(locator.strategy()), literal(locator.value())))
+                    .collect(Collectors.joining("," + System.lineSeparator())) + ");");
+            out.println();
+            out.println("    private " + className + "() {");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(page.type(), "Failed to write " + className + ": " + e.getMessage());
+        }
+    }
+
+    private void writePages() {
+        pages.sort(Comparator.comparing(page -> page.type().getQualifiedName().toString()));
+        String packageName = pages.get(0).packageName();
+        for (PageModel page : pages) {
+            if (!page.packageName().equals(packageName)) {
+                error(page.type(), "All @PageObject classes must be in package " + packageName);
+                return;
+            }
+        }
+
+        // Non-WebDriver constructor parameters of all pages, shared by name
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (PageModel page : pages) {
+            for (Parameter parameter : page.parameters()) {
+                if (parameter.driver()) {
+                    continue;
+                }
+                String previous = parameters.putIfAbsent(parameter.name(), parameter.type());
+                if (previous != null && !previous.equals(parameter.type())) {
+                    error(page.type(), "Constructor parameter '" + parameter.name() + "' has type " + parameter.type()
+                            + " here but " + previous + " in another page");
+                    return;
+                }
+            }
+        }
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(packageName + ".Pages", pages.stream().map(PageModel::type).toArray(Element[]::new))
+                .openWriter())) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("/**");
+            out.println(" * Page objects of one browser session, each created on first access.");
+            out.println(" * Generated from the @PageObject classes; not thread-safe, use one instance per test.");
+            out.println(" */");
+            out.println(GENERATED);
+            out.println("public final class Pages {");
+            out.println();
+            out.println("    private static final java.util.List<" + LocatorMetadata.class.getName() + "> LOCATORS = "
+                    + "java.util.stream.Stream.of(");
+            out.println(pages.stream()
+                    .map(page -> "            " + page.type().getSimpleName() + "Locators.ALL")
+                    .collect(Collectors.joining("," + System.lineSeparator()))
+                    + ").flatMap(java.util.List::stream).toList();");
+            out.println();
+            out.println("    private final " + WEB_DRIVER + " driver;");
+            parameters.forEach((name, type) -> out.println("    private final " + type + " " + name + ";"));
+            out.println();
+            for (PageModel page : pages) {
+                out.println("    private " + page.type().getSimpleName() + " " + page.accessor() + ";");
+            }
+            out.println();
+            out.println("    public Pages(" + WEB_DRIVER + " driver" + parameters.entrySet().stream()
+                    .map(entry -> ", " + entry.getValue() + " " + entry.getKey())
+                    .collect(Collectors.joining()) + ") {");
+            out.println("        this.driver = driver;");
+            parameters.keySet().forEach(name -> out.println("        this." + name + " = " + name + ";"));
+            out.println("    }");
+            for (PageModel page : pages) {
+                String pageClass = page.type().getSimpleName().toString();
+                String arguments = page.parameters().stream()
+                        .map(parameter -> parameter.driver() ? "driver" : parameter.name())
+                        .collect(Collectors.joining(", "));
+                out.println();
+                out.println("    public " + pageClass + " " + page.accessor() + "() {");
+                out.println("        if (" + page.accessor() + " == null) {");
+                out.println("            " + page.accessor() + " = new " + pageClass + "(" + arguments + ");");
+                out.println("        }");
+                out.println("        return " + page.accessor() + ";");
+                out.println("    }");
+            }
+            out.println();
+            out.println("    /**");
+            out.println("     * Gets the locators of all pages.");
+            out.println("     *");
+            out.println("     * @return locator metadata in page order");
+            out.println("     */");
+            out.println("    public static java.util.List<" + LocatorMetadata.class.getName() + "> locators() {");
+            out.println("        return LOCATORS;");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(pages.get(0).type(), "Failed to write Pages: " + e.getMessage());
+        }
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private record Parameter(String name, String type, boolean driver) {
+    }
+
+    private record PageModel(TypeElement type, String accessor, List<Parameter> parameters,
+                             List<LocatorMetadata> locators) {
+
+        String packageName() {
+            String qualifiedName = type.getQualifiedName().toString();
+            return qualifiedName.substring(0, qualifiedName.lastIndexOf('.'));
+        }
+    }
+}
@@ -1,10 +1,29 @@
 package com.sahibinden.uiautomation.api;
 
-import io.restassured.RestAssured;
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.metrics.MetricsRegistry;
+import com.sahibinden.uiautomation.metrics.Timer;
+import com.sahibinden.uiautomation.tracing.Span;
+import com.sahibinden.uiautomation.tracing.Tracer;
+import com.sahibinden.uiautomation.tracing.TracingRestAssuredFilter;
+import io.restassured.builder.ResponseBuilder;
 import io.restassured.http.Header;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static io.restassured.RestAssured.given;
 
 /**
@@ -14,15 +33,62 @@ import static io.restassured.RestAssured.given;
 @Slf4j
 public class AccuWeatherApiClient {
     
-    private static final String BASE_URL = "https://dataservice.accuweather.com";
     private static final String API_KEY = "zpka_6052ac2819484b93b9eb200dda2f8c74_32b7d4d9";
     
-    static {
-        RestAssured.baseURI = BASE_URL;
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    
+    private static final TracingRestAssuredFilter TRACING = new TracingRestAssuredFilter();
+    
+    // Shared by all async calls: requests are multiplexed over pooled connections
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(20);
+    
+    // Streams only successful bodies; error and throttled bodies are short and read into memory,
+    // so a response dropped for a retry never holds on to its connection
+    private static final HttpResponse.BodyHandler<InputStream> STREAMING_BODY = info -> info.statusCode() == 200
+            ? HttpResponse.BodySubscribers.ofInputStream()
+            : HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), ByteArrayInputStream::new);
+    
+    private final String baseUrl;
+    private final ApiResponseCache cache;
+    private final AdaptiveRateLimiter limiter;
+    
+    /**
+     * Creates a client for the configured API base URL (test.weather.api-base-url).
+     */
+    public AccuWeatherApiClient() {
+        this(TestBootstrap.testConfig().getWeather().getApiBaseUrl());
+    }
+    
+    /**
+     * Creates a client for another API base URL, e.g. a local stub server.
+     *
+     * @param baseUrl API base URL without trailing slash
+     */
+    public AccuWeatherApiClient(String baseUrl) {
+        this(baseUrl, ApiResponseCache.global(), AdaptiveRateLimiter.forEndpoint("currentconditions"));
+    }
+    
+    /**
+     * Creates a client with its own cache and rate limiter.
+     * Load generation uses a disabled cache and an unlimited limiter so every call reaches the server.
+     *
+     * @param baseUrl API base URL without trailing slash
+     * @param cache   response cache
+     * @param limiter rate limiter of the current conditions endpoint
+     */
+    public AccuWeatherApiClient(String baseUrl, ApiResponseCache cache, AdaptiveRateLimiter limiter) {
+        this.baseUrl = baseUrl;
+        this.cache = cache;
+        this.limiter = limiter;
     }
     
     /**
      * Gets current conditions for a location.
+     * Served from the response cache while fresh; a stale cached response is revalidated.
      * 
      * @param locationKey location key (e.g., 349727)
      * @return API response
@@ -30,21 +96,226 @@ public class AccuWeatherApiClient {
     public Response getCurrentConditions(String locationKey) {
         log.info("Getting current conditions for location key: {}", locationKey);
         
-        Response response = given()
-                .header(new Header("Authorization", "Bearer " + API_KEY))
-                .pathParam("locationKey", locationKey)
-                .when()
-                .get("/currentconditions/v1/{locationKey}")
-                .then()
-                .extract()
-                .response();
+        ApiResponseCache.Lookup cached = cache.lookup(cacheKey(locationKey));
+        if (cached.fresh()) {
+            log.info("✓ Current conditions for {} served from cache", locationKey);
+            return toResponse(cached.entry());
+        }
         
-        log.info("Response status code: {}", response.getStatusCode());
-        log.info("Response body: {}", response.getBody().asString());
+        Response response;
+        for (int attempt = 1; ; attempt++) {
+            AdaptiveRateLimiter.Permit permit = limiter.acquire();
+            Timer.Sample sample = METRICS.timer("api_request_seconds", "AccuWeather API request latency",
+                    "endpoint", "currentconditions").start();
+            try {
+                response = given()
+                        .baseUri(baseUrl)
+                        .filter(TRACING)
+                        .header(new Header("Authorization", "Bearer " + API_KEY))
+                        .headers(cached.conditionalHeaders())
+                        .pathParam("locationKey", locationKey)
+                        .when()
+                        .get("/currentconditions/v1/{locationKey}")
+                        .then()
+                        .extract()
+                        .response();
+            } catch (RuntimeException e) {
+                countRequest("error");
+                permit.abandon();
+                throw e;
+            } finally {
+                sample.stop();
+            }
+            countRequest(String.valueOf(response.getStatusCode()));
+            
+            Duration retryAfter = AdaptiveRateLimiter.parseRetryAfter(response.getHeader("Retry-After"));
+            permit.complete(response.getStatusCode(), retryAfter);
+            if (!AdaptiveRateLimiter.isThrottled(response.getStatusCode()) || attempt >= limiter.maxAttempts()) {
+                break;
+            }
+            Duration delay = limiter.retryDelay(attempt, retryAfter);
+            log.warn("API throttled with HTTP {} for {}, retrying in {} ms (attempt {}/{})",
+                    response.getStatusCode(), locationKey, delay.toMillis(), attempt + 1, limiter.maxAttempts());
+            sleep(delay);
+        }
+        
+        ApiResponseCache.Entry revalidated = cache.update(cacheKey(locationKey), cached, response.getStatusCode(),
+                cacheableBody(response.getStatusCode(), response.asByteArray()),
+                response.getHeader("ETag"), response.getHeader("Last-Modified"));
+        if (revalidated != null) {
+            log.info("✓ Current conditions for {} not modified, serving cached response", locationKey);
+            return toResponse(revalidated);
+        }
+        
+        log.info("Response status code: {} ({} bytes)", response.getStatusCode(), response.asByteArray().length);
         
         return response;
     }
     
+    /**
+     * Gets current conditions for a location without blocking the calling thread.
+     * Many locations can be requested at once; the calls share one HTTP client and the response cache.
+     * With the cache disabled a successful body is decoded while it streams in, without buffering it.
+     *
+     * @param locationKey location key (e.g., 349727)
+     * @return future completing with the parsed conditions, or exceptionally with
+     *         an IllegalStateException for non-200 responses and I/O errors
+     */
+    public CompletableFuture<CurrentConditions> getCurrentConditionsAsync(String locationKey) {
+        log.debug("Requesting current conditions asynchronously for location key: {}", locationKey);
+        
+        ApiResponseCache.Lookup cached = cache.lookup(cacheKey(locationKey));
+        if (cached.fresh()) {
+            return CompletableFuture.completedFuture(CurrentConditions.parse(locationKey, cached.entry().body()));
+        }
+        
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + "/currentconditions/v1/" + locationKey))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + API_KEY)
+                .header("Accept", "application/json")
+                .GET();
+        cached.conditionalHeaders().forEach(builder::header);
+        HttpRequest request = builder.build();
+        
+        if (!cache.isEnabled()) {
+            // Nothing is stored, so a successful body is decoded straight from the connection
+            return traced(request, sendAsync(request, STREAMING_BODY, locationKey, 1))
+                    .handle((response, error) -> {
+                        if (error != null) {
+                            throw new IllegalStateException("Current conditions request failed for " + locationKey, error);
+                        }
+                        try (InputStream body = response.body()) {
+                            if (response.statusCode() != 200) {
+                                String text = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                                throw new IllegalStateException(String.format("Current conditions for %s returned HTTP %d: %s",
+                                        locationKey, response.statusCode(), text));
+                            }
+                            CurrentConditions conditions = CurrentConditions.parse(locationKey, body);
+                            // The parser stops after the fields it needs; reading the rest keeps the connection reusable
+                            body.transferTo(OutputStream.nullOutputStream());
+                            return conditions;
+                        } catch (IOException e) {
+                            throw new IllegalStateException("Failed to read current conditions for " + locationKey, e);
+                        }
+                    });
+        }
+        
+        // The cache stores the body, so it is read into memory before decoding
+        return traced(request, sendAsync(request, HttpResponse.BodyHandlers.ofByteArray(), locationKey, 1))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw new IllegalStateException("Current conditions request failed for " + locationKey, error);
+                    }
+                    ApiResponseCache.Entry revalidated = cache.update(cacheKey(locationKey), cached,
+                            response.statusCode(), cacheableBody(response.statusCode(), response.body()),
+                            response.headers().firstValue("ETag").orElse(null),
+                            response.headers().firstValue("Last-Modified").orElse(null));
+                    if (revalidated != null) {
+                        return CurrentConditions.parse(locationKey, revalidated.body());
+                    }
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException(String.format("Current conditions for %s returned HTTP %d: %s",
+                                locationKey, response.statusCode(), new String(response.body(), StandardCharsets.UTF_8)));
+                    }
+                    return CurrentConditions.parse(locationKey, new ByteArrayInputStream(response.body()));
+                });
+    }
+    
+    // Ends a client span when the response headers arrive or the request fails
+    private static <T> CompletableFuture<HttpResponse<T>> traced(HttpRequest request,
+                                                                 CompletableFuture<HttpResponse<T>> response) {
+        Span span = Tracer.global().startDetachedSpan("HTTP GET", Span.Kind.CLIENT)
+                .setAttribute("http.request.method", "GET")
+                .setAttribute("url.full", request.uri().toString());
+        return response.whenComplete((result, error) -> {
+            if (error != null) {
+                span.recordError(error);
+            } else {
+                span.setAttribute("http.response.status_code", result.statusCode());
+                if (result.statusCode() >= 400) {
+                    span.recordError("HTTP " + result.statusCode());
+                }
+            }
+            span.end();
+        });
+    }
+    
+    // Sends one attempt under a rate limiter permit and retries throttled responses after a jittered delay
+    private <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                                             String locationKey, int attempt) {
+        return limiter.acquireAsync().thenCompose(permit -> {
+            Timer.Sample sample = METRICS.timer("api_request_seconds", "AccuWeather API request latency",
+                    "endpoint", "currentconditions").start();
+            CompletableFuture<HttpResponse<T>> sent;
+            try {
+                sent = HTTP_CLIENT.sendAsync(request, bodyHandler);
+            } catch (RuntimeException e) {
+                // whenComplete below is never attached, so release the permit here
+                sample.stop();
+                countRequest("error");
+                permit.abandon();
+                return CompletableFuture.failedFuture(e);
+            }
+            return sent
+                    .whenComplete((response, error) -> {
+                        sample.stop();
+                        if (error != null) {
+                            countRequest("error");
+                            permit.abandon();
+                        } else {
+                            countRequest(String.valueOf(response.statusCode()));
+                            permit.complete(response.statusCode(), retryAfter(response));
+                        }
+                    });
+        }).thenCompose(response -> {
+            if (!AdaptiveRateLimiter.isThrottled(response.statusCode()) || attempt >= limiter.maxAttempts()) {
+                return CompletableFuture.completedFuture(response);
+            }
+            Duration delay = limiter.retryDelay(attempt, retryAfter(response));
+            log.warn("API throttled with HTTP {} for {}, retrying in {} ms (attempt {}/{})",
+                    response.statusCode(), locationKey, delay.toMillis(), attempt + 1, limiter.maxAttempts());
+            return CompletableFuture.runAsync(() -> { },
+                            CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS))
+                    .thenCompose(ignored -> sendAsync(request, bodyHandler, locationKey, attempt + 1));
+        });
+    }
+    
+    private static Duration retryAfter(HttpResponse<?> response) {
+        return AdaptiveRateLimiter.parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null));
+    }
+    
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a throttled API request", e);
+        }
+    }
+    
+    private static String cacheKey(String locationKey) {
+        return "currentconditions/" + locationKey;
+    }
+    
+    // Only successful bodies are cached, so other bodies are never decoded to text
+    private static String cacheableBody(int statusCode, byte[] body) {
+        return statusCode == 200 ? new String(body, StandardCharsets.UTF_8) : null;
+    }
+    
+    private static Response toResponse(ApiResponseCache.Entry entry) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setStatusLine("HTTP/1.1 200 OK")
+                .setContentType("application/json")
+                .setBody(entry.body())
+                .build();
+    }
+    
+    private static void countRequest(String status) {
+        METRICS.counter("api_requests", "AccuWeather API requests by status",
+                "endpoint", "currentconditions", "status", status).increment();
+    }
+    
     /**
      * Gets current conditions for the default location (349727).
      * 
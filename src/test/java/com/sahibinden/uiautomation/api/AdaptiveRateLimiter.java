@@ -0,0 +1,280 @@
+package com.sahibinden.uiautomation.api;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import com.sahibinden.uiautomation.metrics.MetricsRegistry;
+import com.sahibinden.uiautomation.metrics.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side quota control for one API endpoint.
+ * Requests take a token from a bucket refilled at the endpoint's rate (bursts up to the bucket size)
+ * and a slot under an adaptive concurrency limit. The limit grows by one per limit-many successful
+ * responses and halves on a 429/503 (additive increase, multiplicative decrease), so parallel
+ * callers settle just below the throughput the API accepts. A throttled response also empties the
+ * bucket and pauses the endpoint for its Retry-After period; retries wait a jittered exponential
+ * backoff so parallel forks do not retry in lockstep.
+ */
+@Slf4j
+public final class AdaptiveRateLimiter {
+
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+
+    private static final Map<String, AdaptiveRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    // Waiting for a permit blocks, so async callers wait on these threads instead of the HTTP client's
+    private static final ExecutorService WAITERS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "api-rate-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String endpoint;
+    private final TestConfig.RateLimitConfig config;
+    private final double tokensPerNano;
+    private final Timer queueWait;
+
+    // Guarded by this
+    private double tokens;
+    private long refilledAtNanos;
+    private double limit;
+    private int inFlight;
+    private long pausedUntilNanos;
+    private long decreasedAtNanos;
+
+    AdaptiveRateLimiter(String endpoint, TestConfig.RateLimitConfig config) {
+        this.endpoint = endpoint;
+        this.config = config;
+        double ratePerSecond = config.getEndpointRates().getOrDefault(endpoint, config.getRequestsPerSecond());
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = config.getBurst();
+        this.refilledAtNanos = System.nanoTime();
+        this.limit = Math.min(config.getInitialConcurrency(), config.getMaxConcurrency());
+        this.decreasedAtNanos = refilledAtNanos;
+        this.queueWait = METRICS.timer("api_rate_limiter_wait_seconds", "Time API requests waited for a permit",
+                "endpoint", endpoint);
+    }
+
+    /**
+     * Gets the limiter of an endpoint, shared by all clients of this test JVM.
+     *
+     * @param endpoint endpoint name, e.g. "currentconditions"
+     * @return limiter of the endpoint
+     */
+    public static AdaptiveRateLimiter forEndpoint(String endpoint) {
+        return LIMITERS.computeIfAbsent(endpoint, name -> {
+            AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(name, TestBootstrap.testConfig().getRateLimit());
+            METRICS.gauge("api_concurrency_limit", "Adaptive concurrency limit of API requests",
+                    limiter::currentLimit, "endpoint", name);
+            METRICS.gauge("api_in_flight", "API requests currently holding a permit",
+                    limiter::currentInFlight, "endpoint", name);
+            return limiter;
+        });
+    }
+
+    /**
+     * Creates a limiter that hands out permits immediately, e.g. for load generation at a fixed rate.
+     *
+     * @param endpoint endpoint name
+     * @return unlimited limiter, not shared
+     */
+    public static AdaptiveRateLimiter unlimited(String endpoint) {
+        TestConfig.RateLimitConfig config = new TestConfig.RateLimitConfig();
+        config.setEnabled(false);
+        return new AdaptiveRateLimiter(endpoint, config);
+    }
+
+    /**
+     * Waits until a request may be sent.
+     *
+     * @return permit to complete with the response outcome
+     * @throws IllegalStateException if interrupted while waiting
+     */
+    public Permit acquire() {
+        if (!config.isEnabled()) {
+            return new Permit(this, System.nanoTime(), false);
+        }
+        Timer.Sample sample = queueWait.start();
+        try {
+            synchronized (this) {
+                while (true) {
+                    long now = System.nanoTime();
+                    refill(now);
+                    if (now < pausedUntilNanos) {
+                        TimeUnit.NANOSECONDS.timedWait(this, pausedUntilNanos - now);
+                    } else if (inFlight >= (int) limit) {
+                        wait();
+                    } else if (tokens < 1) {
+                        TimeUnit.NANOSECONDS.timedWait(this, (long) Math.ceil((1 - tokens) / tokensPerNano));
+                    } else {
+                        tokens -= 1;
+                        inFlight++;
+                        return new Permit(this, now, true);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an API permit: " + endpoint, e);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    /**
+     * Waits for a permit without blocking the calling thread.
+     *
+     * @return future completing with the permit
+     */
+    public CompletableFuture<Permit> acquireAsync() {
+        return CompletableFuture.supplyAsync(this::acquire, WAITERS);
+    }
+
+    /**
+     * Number of attempts a throttled request gets, including the first one.
+     *
+     * @return maximum attempts
+     */
+    public int maxAttempts() {
+        return Math.max(1, config.getMaxAttempts());
+    }
+
+    /**
+     * Delay before retrying a throttled request: the server's Retry-After if given,
+     * otherwise a random delay between half and all of an exponentially growing, capped backoff.
+     *
+     * @param attempt    attempt that was throttled, starting at 1
+     * @param retryAfter Retry-After of the throttled response, null if absent
+     * @return delay before the next attempt
+     */
+    public Duration retryDelay(int attempt, Duration retryAfter) {
+        METRICS.counter("api_retries", "Throttled API requests that were retried", "endpoint", endpoint).increment();
+        if (retryAfter != null) {
+            return retryAfter;
+        }
+        long ceiling = Math.min(config.getMaxBackoffMillis(), config.getBaseBackoffMillis() << Math.min(attempt - 1, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+    }
+
+    /**
+     * Whether a status means the API rejected the request because of load.
+     *
+     * @param statusCode HTTP status
+     * @return true for 429 and 503
+     */
+    public static boolean isThrottled(int statusCode) {
+        return statusCode == 429 || statusCode == 503;
+    }
+
+    /**
+     * Parses a Retry-After header given in seconds or as an HTTP date.
+     *
+     * @param header header value, may be null
+     * @return delay, null if absent or unparseable
+     */
+    public static Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(header.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(header.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(config.getBurst(), tokens + (now - refilledAtNanos) * tokensPerNano);
+        refilledAtNanos = now;
+    }
+
+    private synchronized void release(long acquiredAtNanos, Boolean throttled, Duration retryAfter) {
+        inFlight--;
+        if (Boolean.TRUE.equals(throttled)) {
+            long now = System.nanoTime();
+            // Responses to requests sent before the last decrease already count in that decrease
+            if (acquiredAtNanos >= decreasedAtNanos) {
+                limit = Math.max(config.getMinConcurrency(), limit / 2);
+                decreasedAtNanos = now;
+                log.warn("API endpoint {} throttled, concurrency limit lowered to {}", endpoint, (int) limit);
+            }
+            tokens = 0;
+            Duration pause = retryAfter != null ? retryAfter : Duration.ofMillis(config.getBaseBackoffMillis());
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + pause.toNanos());
+        } else if (Boolean.FALSE.equals(throttled)) {
+            limit = Math.min(config.getMaxConcurrency(), limit + 1 / limit);
+        }
+        notifyAll();
+    }
+
+    synchronized double currentLimit() {
+        return limit;
+    }
+
+    synchronized double currentInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Right to send one request. Complete it exactly once with the outcome of the request.
+     */
+    public static final class Permit {
+
+        private final AdaptiveRateLimiter limiter;
+        private final long acquiredAtNanos;
+        private boolean held;
+
+        private Permit(AdaptiveRateLimiter limiter, long acquiredAtNanos, boolean held) {
+            this.limiter = limiter;
+            this.acquiredAtNanos = acquiredAtNanos;
+            this.held = held;
+        }
+
+        /**
+         * Completes the permit with a response status.
+         *
+         * @param statusCode HTTP status of the response
+         * @param retryAfter Retry-After of the response, null if absent
+         */
+        public void complete(int statusCode, Duration retryAfter) {
+            boolean throttled = isThrottled(statusCode);
+            if (throttled) {
+                METRICS.counter("api_throttled", "API responses rejecting the request because of load",
+                        "endpoint", limiter.endpoint, "status", String.valueOf(statusCode)).increment();
+            }
+            release(throttled, retryAfter);
+        }
+
+        /**
+         * Completes the permit for a request that failed without a response; the limit is left unchanged.
+         */
+        public void abandon() {
+            release(null, null);
+        }
+
+        private synchronized void release(Boolean throttled, Duration retryAfter) {
+            if (held) {
+                held = false;
+                limiter.release(acquiredAtNanos, throttled, retryAfter);
+            }
+        }
+    }
+}
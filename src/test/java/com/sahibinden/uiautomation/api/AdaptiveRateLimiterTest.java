@@ -0,0 +1,137 @@
+package com.sahibinden.uiautomation.api;
+
+import com.sahibinden.uiautomation.config.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Offline tests of the AIMD concurrency limit, permit release and Retry-After parsing.
+ */
+@DisplayName("AdaptiveRateLimiter Birim Testleri")
+class AdaptiveRateLimiterTest {
+
+    private static AdaptiveRateLimiter limiter(int initialConcurrency) {
+        TestConfig.RateLimitConfig config = new TestConfig.RateLimitConfig();
+        // Fast refill and a short pause, so a throttled response only delays the next permit by ~1 ms
+        config.setRequestsPerSecond(1000);
+        config.setBurst(10);
+        config.setInitialConcurrency(initialConcurrency);
+        config.setMinConcurrency(1);
+        config.setMaxConcurrency(16);
+        config.setBaseBackoffMillis(1);
+        config.setMaxBackoffMillis(30000);
+        return new AdaptiveRateLimiter("unit-test", config);
+    }
+
+    @Test
+    @DisplayName("Başarılı yanıtlar limiti limit kadar yanıtta yaklaşık bir artırmalı")
+    void successesIncreaseLimitAdditively() {
+        AdaptiveRateLimiter limiter = limiter(4);
+
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire().complete(200, null);
+        }
+
+        // 4 + 1/4 + 1/4.25 + ... stays just below 5
+        assertThat(limiter.currentLimit()).isGreaterThan(4.9).isLessThan(5.0);
+        assertThat(limiter.currentInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Throttle yanıtı limiti yarıya indirmeli, önceki isteklerin yanıtları tekrar indirmemeli")
+    void throttlingHalvesLimitOncePerDecreaseWindow() {
+        AdaptiveRateLimiter limiter = limiter(4);
+        AdaptiveRateLimiter.Permit first = limiter.acquire();
+        AdaptiveRateLimiter.Permit second = limiter.acquire();
+
+        first.complete(429, Duration.ZERO);
+        assertThat(limiter.currentLimit()).isEqualTo(2.0);
+
+        // Sent before the decrease, so it is already accounted for
+        second.complete(429, Duration.ZERO);
+        assertThat(limiter.currentLimit()).isEqualTo(2.0);
+
+        limiter.acquire().complete(503, Duration.ZERO);
+        assertThat(limiter.currentLimit()).isEqualTo(1.0);
+
+        limiter.acquire().complete(429, Duration.ZERO);
+        assertThat(limiter.currentLimit()).as("never below min-concurrency").isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Permit yalnızca bir kez serbest bırakılmalı")
+    void permitIsReleasedExactlyOnce() {
+        AdaptiveRateLimiter limiter = limiter(4);
+        AdaptiveRateLimiter.Permit permit = limiter.acquire();
+        assertThat(limiter.currentInFlight()).isEqualTo(1.0);
+
+        permit.complete(200, null);
+        permit.complete(200, null);
+        permit.abandon();
+
+        assertThat(limiter.currentInFlight()).isZero();
+        assertThat(limiter.currentLimit()).isEqualTo(4.25);
+    }
+
+    @Test
+    @DisplayName("Yanıtsız biten istek limiti değiştirmemeli")
+    void abandonedPermitLeavesLimitUnchanged() {
+        AdaptiveRateLimiter limiter = limiter(4);
+
+        limiter.acquire().abandon();
+
+        assertThat(limiter.currentLimit()).isEqualTo(4.0);
+        assertThat(limiter.currentInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Retry-After saniye olarak okunmalı")
+    void parsesRetryAfterSeconds() {
+        assertThat(AdaptiveRateLimiter.parseRetryAfter("120")).isEqualTo(Duration.ofSeconds(120));
+        assertThat(AdaptiveRateLimiter.parseRetryAfter(" 5 ")).isEqualTo(Duration.ofSeconds(5));
+        assertThat(AdaptiveRateLimiter.parseRetryAfter("-3")).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Retry-After HTTP tarihi olarak okunmalı")
+    void parsesRetryAfterHttpDate() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String inOneMinute = DateTimeFormatter.RFC_1123_DATE_TIME.format(now.plusSeconds(60));
+        String oneMinuteAgo = DateTimeFormatter.RFC_1123_DATE_TIME.format(now.minusSeconds(60));
+
+        // The header has whole seconds, so up to a second is lost, plus the time the test takes
+        assertThat(AdaptiveRateLimiter.parseRetryAfter(inOneMinute))
+                .isBetween(Duration.ofSeconds(55), Duration.ofSeconds(60));
+        assertThat(AdaptiveRateLimiter.parseRetryAfter(oneMinuteAgo)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Eksik veya bozuk Retry-After yok sayılmalı")
+    void ignoresMissingOrMalformedRetryAfter() {
+        assertThat(AdaptiveRateLimiter.parseRetryAfter(null)).isNull();
+        assertThat(AdaptiveRateLimiter.parseRetryAfter(" ")).isNull();
+        assertThat(AdaptiveRateLimiter.parseRetryAfter("soon")).isNull();
+    }
+
+    @Test
+    @DisplayName("Yeniden deneme beklemesi Retry-After'a uymalı, yoksa üstel backoff'un yarısı ile tamamı arasında olmalı")
+    void retryDelayUsesRetryAfterOrJitteredBackoff() {
+        TestConfig.RateLimitConfig config = new TestConfig.RateLimitConfig();
+        config.setBaseBackoffMillis(1000);
+        config.setMaxBackoffMillis(30000);
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("unit-test", config);
+
+        assertThat(limiter.retryDelay(1, Duration.ofSeconds(7))).isEqualTo(Duration.ofSeconds(7));
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.retryDelay(3, null)).isBetween(Duration.ofMillis(2000), Duration.ofMillis(4000));
+            assertThat(limiter.retryDelay(10, null)).isBetween(Duration.ofMillis(15000), Duration.ofMillis(30000));
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.sahibinden.uiautomation.api;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import com.sahibinden.uiautomation.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of successful API responses with conditional revalidation.
+ * A response younger than the TTL is served without a request. An older one is revalidated with
+ * If-None-Match / If-Modified-Since, so an unchanged resource costs a 304 without a body.
+ * Entries are kept in a size-bounded LRU map and, optionally, in one file per key that all test
+ * JVM forks share; files are replaced atomically, so readers never see a partial entry.
+ */
+@Slf4j
+public final class ApiResponseCache {
+
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+
+    private static volatile ApiResponseCache global;
+
+    private final TestConfig.ApiCacheConfig config;
+    private final Duration ttl;
+    private final Path directory;
+    private final Map<String, Entry> memory;
+
+    ApiResponseCache(TestConfig.ApiCacheConfig config) {
+        this.config = config;
+        this.ttl = Duration.ofSeconds(config.getTtlSeconds());
+        this.directory = config.isDiskEnabled() ? Path.of(config.getDirectory()) : null;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= config.getMaxEntries()) {
+                    return false;
+                }
+                METRICS.counter("api_cache_evictions", "API responses evicted from the in-memory cache").increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets the cache of this test JVM.
+     *
+     * @return global cache
+     */
+    public static ApiResponseCache global() {
+        if (global == null) {
+            synchronized (ApiResponseCache.class) {
+                if (global == null) {
+                    ApiResponseCache cache = new ApiResponseCache(TestBootstrap.testConfig().getApiCache());
+                    METRICS.gauge("api_cache_entries", "API responses held in the in-memory cache", cache::size);
+                    global = cache;
+                }
+            }
+        }
+        return global;
+    }
+
+    /**
+     * Creates a cache that never stores or serves responses.
+     *
+     * @return disabled cache
+     */
+    public static ApiResponseCache disabled() {
+        TestConfig.ApiCacheConfig config = new TestConfig.ApiCacheConfig();
+        config.setEnabled(false);
+        config.setDiskEnabled(false);
+        return new ApiResponseCache(config);
+    }
+
+    /**
+     * Whether responses are stored at all; callers may skip buffering bodies otherwise.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Looks up a response, falling back to the disk tier on a memory miss.
+     *
+     * @param key cache key, e.g. "currentconditions/349727"
+     * @return fresh entry, stale entry to revalidate, or {@link Lookup#MISS}
+     */
+    public Lookup lookup(String key) {
+        if (!config.isEnabled()) {
+            return Lookup.MISS;
+        }
+        String tier = "memory";
+        Entry entry;
+        synchronized (this) {
+            entry = memory.get(key);
+        }
+        if (entry == null && directory != null) {
+            entry = readFromDisk(key);
+            tier = "disk";
+            if (entry != null) {
+                synchronized (this) {
+                    memory.put(key, entry);
+                }
+            }
+        }
+
+        if (entry == null) {
+            countLookup("miss", "none");
+            return Lookup.MISS;
+        }
+        boolean fresh = entry.isFresh(ttl, System.currentTimeMillis());
+        countLookup(fresh ? "hit" : "stale", tier);
+        return new Lookup(entry, fresh);
+    }
+
+    /**
+     * Stores the outcome of a request made after a lookup.
+     *
+     * @param key          cache key
+     * @param previous     lookup made before the request
+     * @param statusCode   response status
+     * @param body         response body
+     * @param etag         ETag header, may be null
+     * @param lastModified Last-Modified header, may be null
+     * @return entry to serve instead of the response (the cached body on a 304), or null to serve the response
+     */
+    public Entry update(String key, Lookup previous, int statusCode, String body, String etag, String lastModified) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        Entry entry;
+        if (statusCode == 304 && previous.entry() != null) {
+            entry = previous.entry().refreshed(System.currentTimeMillis());
+            countRevalidation("not_modified");
+        } else if (statusCode == 200 && body != null && !body.isEmpty()) {
+            entry = new Entry(body, etag, lastModified, System.currentTimeMillis());
+            if (previous.entry() != null) {
+                countRevalidation("modified");
+            }
+        } else {
+            // Errors and quota responses are never cached
+            return null;
+        }
+
+        synchronized (this) {
+            memory.put(key, entry);
+        }
+        if (directory != null) {
+            writeToDisk(key, entry);
+        }
+        return statusCode == 304 ? entry : null;
+    }
+
+    private synchronized int size() {
+        return memory.size();
+    }
+
+    private Entry readFromDisk(String key) {
+        Path file = fileFor(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return Entry.decode(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            log.debug("Ignoring unreadable cache entry {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, Entry entry) {
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.writeString(temp, entry.encode(), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path fileFor(String key) {
+        return directory.resolve(key.replaceAll("[^A-Za-z0-9._-]", "_") + ".entry");
+    }
+
+    private static void countLookup(String result, String tier) {
+        METRICS.counter("api_cache_lookups", "API cache lookups by result and tier",
+                "result", result, "tier", tier).increment();
+    }
+
+    private static void countRevalidation(String outcome) {
+        METRICS.counter("api_cache_revalidations", "Conditional API requests by outcome",
+                "outcome", outcome).increment();
+    }
+
+    /**
+     * Result of a cache lookup.
+     *
+     * @param entry cached entry, null on a miss
+     * @param fresh whether the entry can be served without a request
+     */
+    public record Lookup(Entry entry, boolean fresh) {
+
+        public static final Lookup MISS = new Lookup(null, false);
+
+        /**
+         * Headers that turn the request into a revalidation of the stale entry.
+         *
+         * @return If-None-Match / If-Modified-Since headers, empty on a miss
+         */
+        public Map<String, String> conditionalHeaders() {
+            Map<String, String> headers = new LinkedHashMap<>();
+            if (entry != null && entry.etag() != null) {
+                headers.put("If-None-Match", entry.etag());
+            }
+            if (entry != null && entry.lastModified() != null) {
+                headers.put("If-Modified-Since", entry.lastModified());
+            }
+            return headers;
+        }
+    }
+
+    /**
+     * A cached 200 response.
+     *
+     * @param body           response body
+     * @param etag           ETag header, null if not sent
+     * @param lastModified   Last-Modified header, null if not sent
+     * @param storedAtMillis time the response was received or last revalidated
+     */
+    public record Entry(String body, String etag, String lastModified, long storedAtMillis) {
+
+        boolean isFresh(Duration ttl, long nowMillis) {
+            return nowMillis - storedAtMillis < ttl.toMillis();
+        }
+
+        Entry refreshed(long nowMillis) {
+            return new Entry(body, etag, lastModified, nowMillis);
+        }
+
+        // Three header lines (stored-at, ETag, Last-Modified) followed by the body
+        String encode() {
+            return storedAtMillis + "\n" + (etag != null ? etag : "") + "\n"
+                    + (lastModified != null ? lastModified : "") + "\n" + body;
+        }
+
+        static Entry decode(String content) {
+            String[] parts = content.split("\n", 4);
+            if (parts.length < 4) {
+                throw new IllegalArgumentException("truncated entry");
+            }
+            return new Entry(parts[3], parts[1].isEmpty() ? null : parts[1],
+                    parts[2].isEmpty() ? null : parts[2], Long.parseLong(parts[0]));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sahibinden.uiautomation.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Offline tests of the disk format and freshness of cached API responses.
+ */
+@DisplayName("ApiResponseCache Kayıt Birim Testleri")
+class ApiResponseCacheEntryTest {
+
+    @Test
+    @DisplayName("Kayıt başlıklarıyla birlikte kodlanıp aynen geri okunmalı")
+    void encodeDecodeRoundTrip() {
+        ApiResponseCache.Entry entry = new ApiResponseCache.Entry("[{\"Link\":\"https://example.com\"}]",
+                "\"abc123\"", "Wed, 21 Oct 2026 07:28:00 GMT", 1_700_000_000_000L);
+
+        assertThat(ApiResponseCache.Entry.decode(entry.encode())).isEqualTo(entry);
+    }
+
+    @Test
+    @DisplayName("Eksik ETag ve Last-Modified null olarak geri okunmalı")
+    void missingValidatorsDecodeAsNull() {
+        ApiResponseCache.Entry entry = new ApiResponseCache.Entry("[]", null, null, 42L);
+
+        ApiResponseCache.Entry decoded = ApiResponseCache.Entry.decode(entry.encode());
+
+        assertThat(decoded).isEqualTo(entry);
+        assertThat(decoded.etag()).isNull();
+        assertThat(decoded.lastModified()).isNull();
+    }
+
+    @Test
+    @DisplayName("Satır sonu içeren gövde bozulmadan geri okunmalı")
+    void bodyWithLineBreaksSurvives() {
+        ApiResponseCache.Entry entry = new ApiResponseCache.Entry("[\n  {\"Temperature\": 21.5}\n]\n", "\"v1\"", null, 7L);
+
+        assertThat(ApiResponseCache.Entry.decode(entry.encode()).body()).isEqualTo(entry.body());
+    }
+
+    @Test
+    @DisplayName("Eksik veya bozuk başlıklı kayıt reddedilmeli")
+    void truncatedEntryIsRejected() {
+        assertThatThrownBy(() -> ApiResponseCache.Entry.decode("1700000000000\n\"abc\""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ApiResponseCache.Entry.decode("not-a-time\n\n\n[]"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Kayıt TTL dolana kadar taze sayılmalı, yenilenince tekrar taze olmalı")
+    void freshnessFollowsTtl() {
+        ApiResponseCache.Entry entry = new ApiResponseCache.Entry("[]", null, null, 1_000L);
+        Duration ttl = Duration.ofSeconds(60);
+
+        assertThat(entry.isFresh(ttl, 1_000L + 59_999)).isTrue();
+        assertThat(entry.isFresh(ttl, 1_000L + 60_000)).isFalse();
+        assertThat(entry.refreshed(100_000L).isFresh(ttl, 100_000L + 30_000)).isTrue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.sahibinden.uiautomation.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Fields of a current conditions response used by the API/UI comparison.
+ * Decoded with a streaming parser: only the first observation's Link and
+ * Temperature.Metric.Value are read, all other fields are skipped without being
+ * materialized, and parsing stops as soon as both values are known.
+ *
+ * @param locationKey AccuWeather location key
+ * @param link        AccuWeather page of the location
+ * @param temperature metric temperature in °C
+ */
+public record CurrentConditions(String locationKey, String link, Double temperature) {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * Reads the first observation of a current conditions response body.
+     *
+     * @param locationKey requested location key
+     * @param body        response body
+     * @return parsed conditions; link or temperature are null when missing
+     * @throws IllegalArgumentException if the body is not valid JSON
+     */
+    public static CurrentConditions parse(String locationKey, String body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            return read(locationKey, parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed current conditions response for " + locationKey, e);
+        }
+    }
+
+    /**
+     * Reads the first observation directly from a response stream.
+     * The stream is not closed.
+     *
+     * @param locationKey requested location key
+     * @param body        response body stream, UTF-8 encoded
+     * @return parsed conditions; link or temperature are null when missing
+     * @throws IllegalArgumentException if the body is not valid JSON
+     */
+    public static CurrentConditions parse(String locationKey, InputStream body) {
+        try (JsonParser parser = JSON.createParser(body)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return read(locationKey, parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed current conditions response for " + locationKey, e);
+        }
+    }
+
+    private static CurrentConditions read(String locationKey, JsonParser parser) throws IOException {
+        // The endpoint returns an array of observations; only the first one is used
+        if (parser.nextToken() != JsonToken.START_ARRAY || parser.nextToken() != JsonToken.START_OBJECT) {
+            return new CurrentConditions(locationKey, null, null);
+        }
+        String link = null;
+        Double temperature = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME && (link == null || temperature == null)) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("Link".equals(field) && value == JsonToken.VALUE_STRING) {
+                link = parser.getText();
+            } else if ("Temperature".equals(field) && value == JsonToken.START_OBJECT) {
+                temperature = readMetricValue(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new CurrentConditions(locationKey, link, temperature);
+    }
+
+    // Reads Temperature.Metric.Value, leaving the parser at the end of the Temperature object
+    private static Double readMetricValue(JsonParser parser) throws IOException {
+        Double value = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("Metric".equals(field) && token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String metricField = parser.getCurrentName();
+                    JsonToken metricValue = parser.nextToken();
+                    if ("Value".equals(metricField) && metricValue.isNumeric()) {
+                        value = parser.getDoubleValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sahibinden.uiautomation.benchmark;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.WebDriverFactory;
+import io.qameta.allure.Allure;
+import io.restassured.RestAssured;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Child process used by StartupBenchmark.
+ * Resolves the WebDriverFactory exactly like a test fork does and stops right before the
+ * new session request would be sent, then prints the JVM uptime at that point.
+ *
+ * With --full-runtime the probe also initializes RestAssured and the Allure lifecycle first,
+ * so the measurement covers the cold start of the whole test runtime (used by CdsBenchmark).
+ */
+public final class BootstrapProbe {
+
+    static final String RESULT_PREFIX = "FIRST_DRIVER_REQUEST_MS=";
+    static final String FULL_RUNTIME_ARG = "--full-runtime";
+
+    private BootstrapProbe() {
+    }
+
+    public static void main(String[] args) {
+        if (Arrays.asList(args).contains(FULL_RUNTIME_ARG)) {
+            RestAssured.given().baseUri("http://localhost");
+            Allure.getLifecycle();
+        }
+
+        WebDriverFactory factory = TestBootstrap.webDriverFactory();
+        factory.getOptions();
+
+        System.out.println(RESULT_PREFIX + ManagementFactory.getRuntimeMXBean().getUptime());
+        System.exit(0);
+    }
+}
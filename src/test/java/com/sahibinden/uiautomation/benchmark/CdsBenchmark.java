@@ -0,0 +1,62 @@
+package com.sahibinden.uiautomation.benchmark;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Repeatable cold-start benchmark with and without an AppCDS archive.
+ *
+ * The archive used here is trained by the benchmark itself on the probe's own classpath,
+ * because a CDS archive is only accepted by a JVM whose classpath matches the training run.
+ * The Gradle test task uses its own archive trained by cdsTrainingRun (see build.gradle).
+ *
+ * Usage: ./gradlew cdsBenchmark [-Pbenchmark.iterations=10]
+ */
+@Slf4j
+public final class CdsBenchmark {
+
+    private static final Path ARCHIVE_DIR = Path.of("build/cds/benchmark");
+    private static final Path REPORT = Path.of("build/reports/cds-benchmark.txt");
+
+    private CdsBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        Files.createDirectories(ARCHIVE_DIR);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        for (TestBootstrap.Mode mode : TestBootstrap.Mode.values()) {
+            String name = mode.name().toLowerCase(Locale.ROOT);
+            String modeArg = "-D" + TestBootstrap.MODE_PROPERTY + "=" + name;
+            Path archive = ARCHIVE_DIR.resolve(name + ".jsa").toAbsolutePath();
+
+            train(modeArg, archive);
+
+            variants.put(name, List.of(modeArg));
+            variants.put(name + "+appcds", List.of(modeArg, "-XX:SharedArchiveFile=" + archive, "-Xshare:auto"));
+        }
+
+        Map<String, List<Long>> samples = StartupBenchmark.run(variants, iterations, BootstrapProbe.FULL_RUNTIME_ARG);
+        StartupBenchmark.writeReport(REPORT, "Cold start with/without AppCDS: JVM start -> first driver request (ms)",
+                samples);
+    }
+
+    private static void train(String modeArg, Path archive) throws Exception {
+        Files.deleteIfExists(archive);
+        log.info("Training CDS archive {}", archive);
+        StartupBenchmark.runProbe(List.of(modeArg, "-XX:ArchiveClassesAtExit=" + archive),
+                BootstrapProbe.FULL_RUNTIME_ARG);
+
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("CDS archive was not created: " + archive);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.sahibinden.uiautomation.benchmark;
+
+import com.sahibinden.uiautomation.config.SeleniumConfig;
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.WebDriverFactory;
+import com.sahibinden.uiautomation.pages.SahibindenHomePage;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the first page load of a fresh browser session with an empty profile and with a copy of
+ * the pre-warmed profile template. Each round starts one session per variant, opens the home page
+ * and reads the browser's navigation timing (navigation start to load event end) and the bytes
+ * transferred for the document and its resources; cache hits transfer nothing. CDN hosts that do not
+ * send Timing-Allow-Origin report zero bytes either way, so the byte counts are a lower bound.
+ * Rounds that hit a Cloudflare challenge are discarded, because the challenge dominates the load time.
+ *
+ * Usage: ./gradlew browserProfileTemplate firstPageLoadBenchmark [-Pbenchmark.iterations=5]
+ */
+@Slf4j
+public final class FirstPageLoadBenchmark {
+
+    private static final Path REPORT = Path.of("build/reports/first-page-load-benchmark.txt");
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int PAGE_LOAD_TIMEOUT = 30;
+
+    private static final String LOAD_MILLIS_SCRIPT =
+            "const nav = performance.getEntriesByType('navigation')[0];"
+            + "return nav ? Math.round(nav.loadEventEnd - nav.startTime) : -1;";
+    private static final String TRANSFERRED_BYTES_SCRIPT =
+            "return performance.getEntriesByType('navigation').concat(performance.getEntriesByType('resource'))"
+            + ".reduce((sum, entry) => sum + (entry.transferSize || 0), 0);";
+
+    private FirstPageLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        SeleniumConfig.ProfileConfig profile = TestBootstrap.seleniumConfig().getProfile();
+        if (!Files.isDirectory(Path.of(profile.getTemplate()))) {
+            throw new IllegalStateException("Profile template " + profile.getTemplate()
+                    + " not found, build it with ./gradlew browserProfileTemplate");
+        }
+        WebDriverFactory factory = TestBootstrap.webDriverFactory();
+        String baseUrl = TestBootstrap.testConfig().getBaseUrl();
+
+        Map<String, List<Long>> samples = new LinkedHashMap<>();
+        for (String name : List.of("empty-ms", "template-ms", "empty-kb", "template-kb")) {
+            samples.put(name, new ArrayList<>());
+        }
+        for (int round = 0; round < WARMUP_ROUNDS + iterations; round++) {
+            for (boolean template : new boolean[]{false, true}) {
+                // The factory reads the profile settings on every session
+                profile.setEnabled(template);
+                long[] load = firstPageLoad(factory, baseUrl);
+                String variant = template ? "template" : "empty";
+                if (load == null) {
+                    log.warn("Round {} ({}) hit a Cloudflare challenge, discarded", round, variant);
+                } else if (round >= WARMUP_ROUNDS) {
+                    samples.get(variant + "-ms").add(load[0]);
+                    samples.get(variant + "-kb").add(load[1] / 1024);
+                }
+            }
+        }
+
+        if (samples.values().stream().anyMatch(List::isEmpty)) {
+            throw new IllegalStateException("Every round hit a Cloudflare challenge for at least one variant");
+        }
+        StartupBenchmark.writeReport(REPORT, "First page load of a new session: navigation -> load event (ms), "
+                + "transferred (KB)", samples);
+    }
+
+    // Returns {load millis, transferred bytes}, or null if a Cloudflare challenge was shown
+    private static long[] firstPageLoad(WebDriverFactory factory, String baseUrl) {
+        WebDriver driver = factory.createDriver();
+        try {
+            SahibindenHomePage homePage = new SahibindenHomePage(driver, baseUrl).open();
+            if (homePage.isCloudflareChallenge() || !homePage.waitForPageLoad(PAGE_LOAD_TIMEOUT)) {
+                return null;
+            }
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            long loadMillis = ((Number) js.executeScript(LOAD_MILLIS_SCRIPT)).longValue();
+            long transferred = ((Number) js.executeScript(TRANSFERRED_BYTES_SCRIPT)).longValue();
+            return new long[]{loadMillis, transferred};
+        } finally {
+            factory.quitDriver(driver);
+        }
+    }
+}
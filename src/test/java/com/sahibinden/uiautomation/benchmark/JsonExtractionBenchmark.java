@@ -0,0 +1,192 @@
+package com.sahibinden.uiautomation.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sahibinden.uiautomation.api.CurrentConditions;
+import io.restassured.path.json.JsonPath;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Measures extracting Link and Temperature.Metric.Value from current conditions responses.
+ * Compares the previous path (body decoded to a String, then parsed by RestAssured's JsonPath)
+ * with the streaming decoder in CurrentConditions reading the raw bytes. Payloads follow the
+ * shape of a details=true response: one observation (~4 KB, a single location) and 150
+ * observations (the size of a top-cities response).
+ *
+ * Usage: ./gradlew jsonExtractionBenchmark [-Pbenchmark.iterations=2000]
+ */
+@Slf4j
+public final class JsonExtractionBenchmark {
+
+    private static final Path REPORT = Path.of("build/reports/json-extraction-benchmark.txt");
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 15;
+    private static final int[] OBSERVATIONS = {1, 150};
+
+    private static volatile Object sink;
+
+    private JsonExtractionBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+        Map<String, Function<byte[], Object>> variants = new LinkedHashMap<>();
+        Map<String, byte[]> payloads = new LinkedHashMap<>();
+        for (int observations : OBSERVATIONS) {
+            byte[] payload = payload(observations);
+            payloads.put("jsonpath-" + observations, payload);
+            variants.put("jsonpath-" + observations, body -> {
+                JsonPath jsonPath = new JsonPath(new String(body, StandardCharsets.UTF_8));
+                return new CurrentConditions("349727", jsonPath.getString("[0].Link"),
+                        jsonPath.getDouble("[0].Temperature.Metric.Value"));
+            });
+            payloads.put("stream-" + observations, payload);
+            variants.put("stream-" + observations,
+                    body -> CurrentConditions.parse("349727", new ByteArrayInputStream(body)));
+            log.info("Payload with {} observations: {} bytes", observations, payload.length);
+        }
+
+        // Both decoders must agree before their speed is compared
+        for (Map.Entry<String, Function<byte[], Object>> variant : variants.entrySet()) {
+            Object decoded = variant.getValue().apply(payloads.get(variant.getKey()));
+            if (!decoded.equals(new CurrentConditions("349727", link(0), temperature(0)))) {
+                throw new IllegalStateException(variant.getKey() + " decoded " + decoded);
+            }
+        }
+
+        Map<String, List<Long>> samples = new LinkedHashMap<>();
+        variants.keySet().forEach(name -> samples.put(name, new ArrayList<>()));
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            for (Map.Entry<String, Function<byte[], Object>> variant : variants.entrySet()) {
+                long nanosPerCall = measure(variant.getValue(), payloads.get(variant.getKey()), iterations);
+                if (round >= WARMUP_ROUNDS) {
+                    samples.get(variant.getKey()).add(nanosPerCall);
+                }
+            }
+        }
+
+        StartupBenchmark.writeReport(REPORT, "Current conditions extraction per response (ns)", samples);
+    }
+
+    private static long measure(Function<byte[], Object> decoder, byte[] payload, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = decoder.apply(payload);
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+
+    private static byte[] payload(int observations) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator json = new JsonFactory().createGenerator(out)) {
+            json.writeStartArray();
+            for (int i = 0; i < observations; i++) {
+                writeObservation(json, i);
+            }
+            json.writeEndArray();
+        }
+        return out.toByteArray();
+    }
+
+    // Field order and nesting of a details=true observation; Link comes last as in the real response
+    private static void writeObservation(JsonGenerator json, int index) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("LocalObservationDateTime", "2024-01-15T14:25:00+03:00");
+        json.writeNumberField("EpochTime", 1705317900 + index);
+        json.writeStringField("WeatherText", "Partly sunny");
+        json.writeNumberField("WeatherIcon", 3);
+        json.writeBooleanField("HasPrecipitation", false);
+        json.writeNullField("PrecipitationType");
+        json.writeBooleanField("IsDayTime", true);
+        json.writeFieldName("Temperature");
+        writeMeasure(json, temperature(index), "C", 17, temperature(index) * 1.8 + 32, "F", 18);
+        for (String name : List.of("RealFeelTemperature", "RealFeelTemperatureShade", "DewPoint",
+                "WindChillTemperature", "WetBulbTemperature", "WetBulbGlobeTemperature", "ApparentTemperature")) {
+            json.writeFieldName(name);
+            writeMeasure(json, 6.1 + index % 7, "C", 17, 43.0, "F", 18);
+        }
+        json.writeNumberField("RelativeHumidity", 62);
+        json.writeNumberField("IndoorRelativeHumidity", 45);
+        json.writeFieldName("Wind");
+        json.writeStartObject();
+        json.writeObjectFieldStart("Direction");
+        json.writeNumberField("Degrees", 225);
+        json.writeStringField("Localized", "SW");
+        json.writeStringField("English", "SW");
+        json.writeEndObject();
+        json.writeFieldName("Speed");
+        writeMeasure(json, 14.8, "km/h", 7, 9.2, "mi/h", 9);
+        json.writeEndObject();
+        json.writeFieldName("WindGust");
+        json.writeStartObject();
+        json.writeFieldName("Speed");
+        writeMeasure(json, 25.9, "km/h", 7, 16.1, "mi/h", 9);
+        json.writeEndObject();
+        json.writeNumberField("UVIndex", 2);
+        json.writeStringField("UVIndexText", "Low");
+        json.writeFieldName("Visibility");
+        writeMeasure(json, 16.1, "km", 6, 10.0, "mi", 2);
+        json.writeStringField("ObstructionsToVisibility", "");
+        json.writeNumberField("CloudCover", 45);
+        json.writeFieldName("Ceiling");
+        writeMeasure(json, 9144.0, "m", 5, 30000.0, "ft", 0);
+        json.writeFieldName("Pressure");
+        writeMeasure(json, 1016.0, "mb", 14, 30.0, "inHg", 12);
+        json.writeObjectFieldStart("PressureTendency");
+        json.writeStringField("LocalizedText", "Steady");
+        json.writeStringField("Code", "S");
+        json.writeEndObject();
+        json.writeFieldName("Past24HourTemperatureDeparture");
+        writeMeasure(json, 1.1, "C", 17, 2.0, "F", 18);
+        json.writeObjectFieldStart("TemperatureSummary");
+        for (String range : List.of("Past6HourRange", "Past12HourRange", "Past24HourRange")) {
+            json.writeObjectFieldStart(range);
+            json.writeFieldName("Minimum");
+            writeMeasure(json, 3.3, "C", 17, 38.0, "F", 18);
+            json.writeFieldName("Maximum");
+            writeMeasure(json, 12.8, "C", 17, 55.0, "F", 18);
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+        json.writeStringField("MobileLink", link(index).replace("www.", "m."));
+        json.writeStringField("Link", link(index));
+        json.writeEndObject();
+    }
+
+    private static void writeMeasure(JsonGenerator json, double metric, String metricUnit, int metricType,
+                                     double imperial, String imperialUnit, int imperialType) throws IOException {
+        json.writeStartObject();
+        json.writeObjectFieldStart("Metric");
+        json.writeNumberField("Value", metric);
+        json.writeStringField("Unit", metricUnit);
+        json.writeNumberField("UnitType", metricType);
+        json.writeEndObject();
+        json.writeObjectFieldStart("Imperial");
+        json.writeNumberField("Value", Math.round(imperial));
+        json.writeStringField("Unit", imperialUnit);
+        json.writeNumberField("UnitType", imperialType);
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static String link(int index) {
+        return "http://www.accuweather.com/en/tr/istanbul/" + (318251 + index)
+                + "/current-weather/" + (318251 + index) + "?lang=en-us";
+    }
+
+    private static double temperature(int index) {
+        return 8.9 + index % 10;
+    }
+}
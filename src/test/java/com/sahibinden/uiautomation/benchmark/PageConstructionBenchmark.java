@@ -0,0 +1,89 @@
+package com.sahibinden.uiautomation.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.sahibinden.uiautomation.pages.Pages;
+import com.sahibinden.uiautomation.pages.SahibindenHomePage;
+import com.sahibinden.uiautomation.pages.YepyPage;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.PageFactory;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Measures the page object construction cost a test pays in setUp.
+ * Compares the previous eager construction of every page with PageFactory.initElements against
+ * the generated, lazily constructing Pages accessor. The driver is an inert proxy, so only
+ * page object construction is measured, not browser round trips.
+ *
+ * Usage: ./gradlew pageConstructionBenchmark [-Pbenchmark.iterations=200000]
+ */
+@Slf4j
+public final class PageConstructionBenchmark {
+
+    private static final Path REPORT = Path.of("build/reports/page-construction-benchmark.txt");
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 15;
+    private static final String BASE_URL = "https://www.sahibinden.com";
+
+    private static volatile Object sink;
+
+    private PageConstructionBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        // Constructor debug logs would dominate the measurement and flood the console
+        ((Logger) LoggerFactory.getLogger("com.sahibinden.uiautomation.pages")).setLevel(Level.INFO);
+
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(PageConstructionBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, methodArgs) -> null);
+
+        Map<String, Supplier<Object>> variants = new LinkedHashMap<>();
+        variants.put("pagefactory", () -> {
+            SahibindenHomePage homePage = new SahibindenHomePage(driver, BASE_URL);
+            YepyPage yepyPage = new YepyPage(driver);
+            PageFactory.initElements(driver, homePage);
+            PageFactory.initElements(driver, yepyPage);
+            return yepyPage;
+        });
+        variants.put("eager", () -> {
+            new SahibindenHomePage(driver, BASE_URL);
+            return new YepyPage(driver);
+        });
+        variants.put("lazy-one", () -> new Pages(driver, BASE_URL).yepyPage());
+        variants.put("lazy-none", () -> new Pages(driver, BASE_URL));
+
+        Map<String, List<Long>> samples = new LinkedHashMap<>();
+        variants.keySet().forEach(name -> samples.put(name, new ArrayList<>()));
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            for (Map.Entry<String, Supplier<Object>> variant : variants.entrySet()) {
+                long nanosPerTest = measure(variant.getValue(), iterations);
+                if (round >= WARMUP_ROUNDS) {
+                    samples.get(variant.getKey()).add(nanosPerTest);
+                }
+            }
+        }
+
+        StartupBenchmark.writeReport(REPORT, "Page object construction per test (ns), "
+                + Pages.locators().size() + " generated locators", samples);
+    }
+
+    private static long measure(Supplier<Object> setUp, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = setUp.get();
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+}
@@ -0,0 +1,124 @@
+package com.sahibinden.uiautomation.benchmark;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures JVM-start-to-first-driver-request latency for each bootstrap mode.
+ * Every sample is a fresh JVM running BootstrapProbe, so the numbers include class loading
+ * and context creation exactly as a sharded test fork pays them.
+ *
+ * Usage: ./gradlew startupBenchmark [-Pbenchmark.iterations=10]
+ */
+@Slf4j
+public final class StartupBenchmark {
+
+    private static final Path REPORT = Path.of("build/reports/startup-benchmark.txt");
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("spring", List.of("-D" + TestBootstrap.MODE_PROPERTY + "=spring"));
+        variants.put("lite", List.of("-D" + TestBootstrap.MODE_PROPERTY + "=lite"));
+
+        Map<String, List<Long>> samples = run(variants, iterations);
+        writeReport(REPORT, "JVM start -> first driver request (ms)", samples);
+    }
+
+    /**
+     * Runs every variant the given number of times, interleaving variants so that
+     * machine noise (page cache, CPU frequency) is spread evenly across them.
+     *
+     * @param variants variant name to extra JVM arguments
+     * @param iterations samples per variant
+     * @param probeArgs arguments passed to BootstrapProbe
+     * @return variant name to collected samples in milliseconds
+     */
+    static Map<String, List<Long>> run(Map<String, List<String>> variants, int iterations,
+                                       String... probeArgs) throws IOException, InterruptedException {
+        Map<String, List<Long>> samples = new LinkedHashMap<>();
+        variants.keySet().forEach(name -> samples.put(name, new ArrayList<>()));
+
+        // One unmeasured round warms the OS page cache for the classpath jars
+        for (List<String> jvmArgs : variants.values()) {
+            runProbe(jvmArgs, probeArgs);
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+                long millis = runProbe(variant.getValue(), probeArgs);
+                samples.get(variant.getKey()).add(millis);
+                log.info("[{}] run {}/{}: {} ms", variant.getKey(), i + 1, iterations, millis);
+            }
+        }
+        return samples;
+    }
+
+    static long runProbe(List<String> jvmArgs, String... probeArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(BootstrapProbe.class.getName());
+        command.addAll(List.of(probeArgs));
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .start();
+
+        Long result = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(BootstrapProbe.RESULT_PREFIX)) {
+                    result = Long.parseLong(line.substring(BootstrapProbe.RESULT_PREFIX.length()).trim());
+                }
+            }
+        }
+
+        int exitCode = process.waitFor();
+        if (exitCode != 0 || result == null) {
+            throw new IllegalStateException("Probe failed (exit code " + exitCode + ") for " + jvmArgs);
+        }
+        return result;
+    }
+
+    static void writeReport(Path reportFile, String title, Map<String, List<Long>> samples) throws IOException {
+        StringBuilder report = new StringBuilder(title).append(System.lineSeparator());
+        report.append(String.format("%-12s %6s %8s %8s %8s %8s%n", "variant", "runs", "min", "median", "p90", "max"));
+
+        samples.forEach((name, values) -> {
+            List<Long> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            report.append(String.format("%-12s %6d %8d %8d %8d %8d%n", name, sorted.size(),
+                    sorted.get(0), percentile(sorted, 50), percentile(sorted, 90), sorted.get(sorted.size() - 1)));
+        });
+
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report.toString());
+        log.info("Startup benchmark results ({}):{}{}", reportFile, System.lineSeparator(), report);
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
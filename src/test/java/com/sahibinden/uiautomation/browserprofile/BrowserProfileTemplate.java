@@ -0,0 +1,142 @@
+package com.sahibinden.uiautomation.browserprofile;
+
+import com.sahibinden.uiautomation.config.SeleniumConfig;
+import com.sahibinden.uiautomation.metrics.MetricsRegistry;
+import com.sahibinden.uiautomation.metrics.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Pre-warmed Chromium user-data-dir that local sessions start from.
+ * The template is built once by {@link ProfileTemplateBuilder} and holds the HTTP disk cache of
+ * sahibinden.com's static assets (JS bundles, CSS, fonts, sprites), so a new session loads the first
+ * page without downloading them again. Every session gets its own copy, because Chromium locks its
+ * user-data-dir and writes to the cache; the copy is deleted when the session quits.
+ * Grid nodes copy the template themselves through a wrapper binary (docker/browser-profile).
+ */
+@Slf4j
+public final class BrowserProfileTemplate {
+
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+
+    private final SeleniumConfig.ProfileConfig config;
+    private final AtomicBoolean missingLogged = new AtomicBoolean();
+
+    /**
+     * Creates a template handle; the configuration is read on every session, so it can be toggled at runtime.
+     *
+     * @param config profile settings
+     */
+    public BrowserProfileTemplate(SeleniumConfig.ProfileConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Whether local sessions should start from the template.
+     *
+     * @return true if enabled and the template has been built
+     */
+    public boolean isAvailable() {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        if (!Files.isDirectory(Path.of(config.getTemplate()))) {
+            if (missingLogged.compareAndSet(false, true)) {
+                log.warn("Browser profile template {} not found, sessions start with an empty profile "
+                        + "(build it with ./gradlew browserProfileTemplate)", config.getTemplate());
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Copies the template into a new user-data-dir for one session.
+     *
+     * @return session profile directory
+     * @throws IllegalStateException if the copy fails
+     */
+    public Path newSession() {
+        Timer.Sample copy = METRICS.timer("browser_profile_copy_seconds", "Time to copy the browser profile template").start();
+        Path template = Path.of(config.getTemplate());
+        try {
+            Path sessions = Path.of(config.getSessionDirectory());
+            Files.createDirectories(sessions);
+            Path session = Files.createTempDirectory(sessions, "session-").toAbsolutePath();
+            copy(template, session);
+            log.debug("Copied browser profile template to {} in {} ms", session, copy.stop() / 1_000_000);
+            return session;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to copy browser profile template " + template, e);
+        }
+    }
+
+    /**
+     * Deletes a session profile after its browser has exited.
+     *
+     * @param session directory returned by {@link #newSession()}
+     */
+    public void release(Path session) {
+        try {
+            deleteRecursively(session);
+        } catch (IOException e) {
+            log.debug("Failed to delete browser profile {}: {}", session, e.getMessage());
+        }
+    }
+
+    /**
+     * Copies a user-data-dir without the lock files of the browser that used it.
+     *
+     * @param source profile to copy
+     * @param target existing, empty directory
+     * @throws IOException if a file cannot be copied
+     */
+    static void copy(Path source, Path target) throws IOException {
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (!isLock(file) && attrs.isRegularFile()) {
+                    Files.copy(file, target.resolve(source.relativize(file).toString()), StandardCopyOption.COPY_ATTRIBUTES);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Whether a file only marks a running browser (SingletonLock/Socket/Cookie, lockfile).
+     *
+     * @param file file in a user-data-dir
+     * @return true for lock files, which must not be copied
+     */
+    static boolean isLock(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith("Singleton") || name.equals("lockfile");
+    }
+
+    static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.sahibinden.uiautomation.browserprofile;
+
+import com.sahibinden.uiautomation.config.SeleniumConfig;
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import com.sahibinden.uiautomation.pages.SahibindenHomePage;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Builds the browser profile template: starts a local browser on an empty user-data-dir, opens the
+ * pages the tests start from so their static assets land in the HTTP disk cache, then clears cookies
+ * and site storage so that tests still see the site like a first-time visitor (cookie banner included).
+ * Quitting the browser flushes the cache to disk. Always runs locally, even when the Grid is enabled;
+ * Grid nodes get the template through a volume (see docker-compose.yml).
+ *
+ * Usage: ./gradlew browserProfileTemplate
+ */
+@Slf4j
+public final class ProfileTemplateBuilder {
+
+    private static final List<String> WARMUP_PATHS = List.of("/", "/yepy", "/yepy/yenilenmis-telefonlar");
+    private static final int PAGE_LOAD_TIMEOUT = 30;
+    private static final String CLEARED_STORAGE =
+            "cookies,local_storage,session_storage,indexeddb,service_workers,cache_storage";
+
+    private ProfileTemplateBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        SeleniumConfig seleniumConfig = TestBootstrap.seleniumConfig();
+        TestConfig testConfig = TestBootstrap.testConfig();
+        Path template = Path.of(seleniumConfig.getProfile().getTemplate()).toAbsolutePath();
+
+        BrowserProfileTemplate.deleteRecursively(template);
+        Files.createDirectories(template);
+
+        if (!(TestBootstrap.webDriverFactory().getOptions() instanceof ChromiumOptions<?> options)) {
+            throw new IllegalStateException("Browser profile templates need Chrome or Edge");
+        }
+        options.addArguments("--user-data-dir=" + template);
+        ChromiumDriver driver = createDriver(options);
+        try {
+            SahibindenHomePage homePage = new SahibindenHomePage(driver, testConfig.getBaseUrl());
+            homePage.open();
+            if (homePage.isCloudflareChallenge()
+                    && !homePage.waitForCloudflareVerification(testConfig.getCloudflareWaitTimeout())) {
+                throw new IllegalStateException("Cloudflare verification did not complete, template not built");
+            }
+            for (String path : WARMUP_PATHS) {
+                driver.get(testConfig.getBaseUrl() + path);
+                if (!homePage.waitForPageLoad(PAGE_LOAD_TIMEOUT)) {
+                    throw new IllegalStateException("Warm-up page did not load: " + path);
+                }
+            }
+
+            URI base = URI.create(testConfig.getBaseUrl());
+            driver.executeCdpCommand("Storage.clearDataForOrigin", Map.of(
+                    "origin", base.getScheme() + "://" + base.getHost(), "storageTypes", CLEARED_STORAGE));
+            driver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } finally {
+            driver.quit();
+        }
+
+        try (Stream<Path> files = Files.walk(template)) {
+            for (Path lock : files.filter(BrowserProfileTemplate::isLock).toList()) {
+                Files.deleteIfExists(lock);
+            }
+        }
+        log.info("✓ Browser profile template built at {} ({} MB)", template, size(template) / (1024 * 1024));
+    }
+
+    private static ChromiumDriver createDriver(ChromiumOptions<?> options) {
+        if (options instanceof EdgeOptions edgeOptions) {
+            WebDriverManager.edgedriver().setup();
+            return new EdgeDriver(edgeOptions);
+        }
+        if (options instanceof ChromeOptions chromeOptions) {
+            WebDriverManager.chromedriver().setup();
+            return new ChromeDriver(chromeOptions);
+        }
+        throw new IllegalStateException("Unsupported browser options: " + options.getClass().getSimpleName());
+    }
+
+    private static long size(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+}
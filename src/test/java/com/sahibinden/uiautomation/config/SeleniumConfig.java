@@ -17,6 +17,11 @@ public class SeleniumConfig {
     private BrowserConfig browser = new BrowserConfig();
     private TimeoutsConfig timeouts = new TimeoutsConfig();
     private WindowConfig window = new WindowConfig();
+    private EventsConfig events = new EventsConfig();
+    private HarConfig har = new HarConfig();
+    private ProfilerConfig profiler = new ProfilerConfig();
+    private ContextsConfig contexts = new ContextsConfig();
+    private ProfileConfig profile = new ProfileConfig();
     
     @Data
     public static class GridConfig {
@@ -44,4 +49,40 @@ public class SeleniumConfig {
         private int width = 1920;
         private int height = 1080;
     }
+    
+    @Data
+    public static class EventsConfig {
+        private boolean enabled = false;
+        private int bufferSize = 500;
+    }
+    
+    @Data
+    public static class HarConfig {
+        private boolean enabled = false;
+        private String directory = "build/har";
+        private int maxEntries = 2000;
+        private int maxPendingRequests = 500;
+        private long attachThresholdBytes = 10_000_000;
+        private long attachThresholdMillis = 10_000;
+    }
+    
+    @Data
+    public static class ProfilerConfig {
+        private boolean enabled = false;
+        private int topN = 15;
+    }
+    
+    @Data
+    public static class ContextsConfig {
+        private boolean enabled = false;
+        private int perBrowser = 4;
+    }
+    
+    @Data
+    public static class ProfileConfig {
+        private boolean enabled = false;
+        private String template = ".browser-profile/template";
+        private String sessionDirectory = "build/browser-profile/sessions";
+        private String gridBinary = "/opt/browser-profile/chrome-with-profile.sh";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.sahibinden.uiautomation.config;
+
+import com.sahibinden.uiautomation.UiAutomationApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Entry point for obtaining framework components in tests.
+ * Selectable per run with -Dtest.bootstrap=spring|lite:
+ * - spring (default): components come from a cached Spring Boot context, as with @SpringBootTest
+ * - lite: application.yml is bound directly and components are wired by hand, no Spring context
+ *
+ * Components are created once per JVM fork and shared by all test classes.
+ */
+@Slf4j
+public final class TestBootstrap {
+
+    public static final String MODE_PROPERTY = "test.bootstrap";
+    private static final String CONFIG_RESOURCE = "application.yml";
+
+    public enum Mode { SPRING, LITE }
+
+    private TestBootstrap() {
+    }
+
+    /**
+     * Gets the bootstrap mode selected for this run.
+     *
+     * @return configured mode, SPRING when not specified
+     */
+    public static Mode mode() {
+        String value = System.getProperty(MODE_PROPERTY, "spring");
+        return Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static SeleniumConfig seleniumConfig() {
+        return Holder.INSTANCE.seleniumConfig;
+    }
+
+    public static TestConfig testConfig() {
+        return Holder.INSTANCE.testConfig;
+    }
+
+    public static WebDriverFactory webDriverFactory() {
+        return Holder.INSTANCE.webDriverFactory;
+    }
+
+    /**
+     * Lazy holder - the context is built on first access and reused by every test in the fork.
+     */
+    private static final class Holder {
+        private static final Components INSTANCE = create();
+    }
+
+    private record Components(SeleniumConfig seleniumConfig, TestConfig testConfig,
+                              WebDriverFactory webDriverFactory) {
+    }
+
+    private static Components create() {
+        Mode mode = mode();
+        long start = System.nanoTime();
+
+        Components components = mode == Mode.LITE ? createLite() : createSpring();
+
+        log.info("Bootstrap '{}' completed in {} ms ({} ms after JVM start)",
+                mode.name().toLowerCase(Locale.ROOT),
+                (System.nanoTime() - start) / 1_000_000,
+                ManagementFactory.getRuntimeMXBean().getUptime());
+        return components;
+    }
+
+    private static Components createLite() {
+        YamlConfigLoader loader = YamlConfigLoader.load(CONFIG_RESOURCE);
+        SeleniumConfig seleniumConfig = loader.bind("selenium", new SeleniumConfig());
+        TestConfig testConfig = loader.bind("test", new TestConfig());
+        return new Components(seleniumConfig, testConfig, new WebDriverFactory(seleniumConfig));
+    }
+
+    private static Components createSpring() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(UiAutomationApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+        return new Components(
+                context.getBean(SeleniumConfig.class),
+                context.getBean(TestConfig.class),
+                context.getBean(WebDriverFactory.class));
+    }
+}
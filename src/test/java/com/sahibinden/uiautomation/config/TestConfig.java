@@ -4,6 +4,10 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Test-specific configuration properties.
  * Follows Single Responsibility Principle (SRP).
@@ -15,4 +19,96 @@ public class TestConfig {
     
     private String baseUrl = "https://www.sahibinden.com";
     private int cloudflareWaitTimeout = 30;
-}
\ No newline at end of file
+    private int listingMaxPages = 50;
+    private HybridConfig hybrid = new HybridConfig();
+    private TracingConfig tracing = new TracingConfig();
+    private AdaptiveTimeoutsConfig adaptiveTimeouts = new AdaptiveTimeoutsConfig();
+    private SiteHealthConfig siteHealth = new SiteHealthConfig();
+    private JournalConfig journal = new JournalConfig();
+    private WeatherConfig weather = new WeatherConfig();
+    private ApiCacheConfig apiCache = new ApiCacheConfig();
+    private RateLimitConfig rateLimit = new RateLimitConfig();
+    private OrderingConfig ordering = new OrderingConfig();
+
+    @Data
+    public static class HybridConfig {
+        private double crossCheckRate = 0.25;
+        private int requestTimeoutSeconds = 15;
+    }
+
+    @Data
+    public static class TracingConfig {
+        private boolean enabled = false;
+        private String directory = "build/traces";
+        private String serviceName = "hybrid-automation";
+        private int flushSpans = 1000;
+        private int flushIntervalSeconds = 10;
+    }
+
+    @Data
+    public static class AdaptiveTimeoutsConfig {
+        private boolean enabled = false;
+        private boolean record = true;
+        private String store = ".timeouts/wait-history.tsv";
+        private double safetyFactor = 3.0;
+        private int minSamples = 20;
+        private long minTimeoutMillis = 2000;
+        private int maxSamples = 200;
+        private double driftFactor = 1.5;
+    }
+
+    @Data
+    public static class SiteHealthConfig {
+        private boolean enabled = true;
+        private int failureThreshold = 3;
+        private int openSeconds = 120;
+    }
+
+    @Data
+    public static class JournalConfig {
+        private boolean enabled = true;
+        private String directory = "build/journal";
+        private int slots = 65536;
+    }
+
+    @Data
+    public static class WeatherConfig {
+        private String apiBaseUrl = "https://dataservice.accuweather.com";
+        private List<String> locationKeys = List.of("349727", "318251", "328328", "623", "226396", "178087");
+        private int uiSessions = 4;
+        private double temperatureTolerance = 1.0;
+    }
+
+    @Data
+    public static class ApiCacheConfig {
+        private boolean enabled = true;
+        private int ttlSeconds = 300;
+        private int maxEntries = 256;
+        private boolean diskEnabled = true;
+        private String directory = "build/api-cache";
+    }
+
+    @Data
+    public static class RateLimitConfig {
+        private boolean enabled = true;
+        private double requestsPerSecond = 5.0;
+        private Map<String, Double> endpointRates = new LinkedHashMap<>();
+        private int burst = 5;
+        private int initialConcurrency = 4;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 16;
+        private int maxAttempts = 4;
+        private long baseBackoffMillis = 1000;
+        private long maxBackoffMillis = 30000;
+    }
+
+    @Data
+    public static class OrderingConfig {
+        private boolean enabled = true;
+        private String store = ".test-history/test-history.tsv";
+        private int recentRuns = 5;
+        private int changeWindowRuns = 3;
+        private int maxSamples = 20;
+        private int failFastAfter = 0;
+    }
+}
@@ -1,5 +1,15 @@
 package com.sahibinden.uiautomation.config;
 
+import com.sahibinden.uiautomation.browserprofile.BrowserProfileTemplate;
+import com.sahibinden.uiautomation.contexts.BrowserContextPool;
+import com.sahibinden.uiautomation.devtools.DevToolsEventSource;
+import com.sahibinden.uiautomation.journal.JournalRecord;
+import com.sahibinden.uiautomation.journal.RunJournal;
+import com.sahibinden.uiautomation.metrics.MetricsRegistry;
+import com.sahibinden.uiautomation.metrics.Timer;
+import com.sahibinden.uiautomation.profiling.WebDriverCommandProfiler;
+import com.sahibinden.uiautomation.tracing.Tracer;
+import com.sahibinden.uiautomation.tracing.WebDriverTracingListener;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,12 +21,23 @@ import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.Augmenter;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Factory class for creating WebDriver instances.
@@ -28,43 +49,234 @@ import java.time.Duration;
 @RequiredArgsConstructor
 public class WebDriverFactory {
     
+    private static final AtomicBoolean FIRST_REQUEST_LOGGED = new AtomicBoolean();
+    
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    
+    private static final AtomicInteger ACTIVE_SESSIONS = new AtomicInteger();
+    
+    static {
+        METRICS.gauge("webdriver_active_sessions", "WebDriver sessions currently open", ACTIVE_SESSIONS::get);
+    }
+    
     private final SeleniumConfig config;
     
+    private final Map<WebDriver, DevToolsEventSource> eventSources = new ConcurrentHashMap<>();
+    
+    private final Map<WebDriver, Path> sessionProfiles = new ConcurrentHashMap<>();
+    
+    private BrowserContextPool contextPool;
+    
+    private BrowserProfileTemplate profileTemplate;
+    
     /**
      * Creates and configures a WebDriver instance based on configuration.
      * Follows DRY principle - single method for driver creation.
      */
     public WebDriver createDriver() {
+        if (FIRST_REQUEST_LOGGED.compareAndSet(false, true)) {
+            log.info("First driver request {} ms after JVM start (bootstrap={})",
+                    ManagementFactory.getRuntimeMXBean().getUptime(), TestBootstrap.mode());
+        }
+        
         log.info("Creating WebDriver with configuration: browser={}, grid={}, headless={}", 
                 config.getBrowser().getType(), 
                 config.getGrid().isEnabled(),
                 config.getBrowser().isHeadless());
         
-        WebDriver driver;
+        boolean contexts = useBrowserContexts();
+        String mode = contexts ? "context" : config.getGrid().isEnabled() ? "grid" : "local";
+        String browser = config.getBrowser().getType().toLowerCase();
+        Timer.Sample creation = METRICS.timer("webdriver_create_seconds", "WebDriver session creation time",
+                "mode", mode, "browser", browser).start();
         
-        if (config.getGrid().isEnabled()) {
-            driver = createRemoteDriver();
-        } else {
-            driver = createLocalDriver();
+        WebDriver driver = null;
+        Path profile = null;
+        
+        try {
+            if (contexts) {
+                driver = contextPool().acquire();
+            } else if (config.getGrid().isEnabled()) {
+                driver = createRemoteDriver();
+            } else {
+                profile = newSessionProfile(browser);
+                driver = createLocalDriver(profile);
+            }
+            
+            configureDriver(driver);
+        } catch (RuntimeException e) {
+            if (driver != null) {
+                // Quit first: the browser may still run from the profile, and an acquired context must be disposed
+                if (profile != null) {
+                    sessionProfiles.put(driver, profile);
+                }
+                ACTIVE_SESSIONS.incrementAndGet();
+                try {
+                    quitDriver(driver);
+                } catch (RuntimeException quitError) {
+                    e.addSuppressed(quitError);
+                }
+            } else if (profile != null) {
+                profileTemplate().release(profile);
+            }
+            METRICS.counter("webdriver_create_failures", "Failed WebDriver session creations",
+                    "mode", mode, "browser", browser).increment();
+            RunJournal.global().append(JournalRecord.Type.DRIVER_CREATE, JournalRecord.Status.FAILED,
+                    System.nanoTime() - creation.startNanos(), mode + " " + browser);
+            throw e;
+        }
+        
+        RunJournal.global().append(JournalRecord.Type.DRIVER_CREATE, JournalRecord.Status.PASSED,
+                creation.stop(), mode + " " + browser);
+        ACTIVE_SESSIONS.incrementAndGet();
+        
+        // HAR recording is built on the event stream, so it implies event streaming.
+        // A context shares its browser's DevTools session, so context drivers poll instead.
+        boolean events = (config.getEvents().isEnabled() || config.getHar().isEnabled()) && !contexts;
+        if (events && config.getGrid().isEnabled()) {
+            // Remote drivers are augmented so that DevTools is reachable through the Grid
+            driver = new Augmenter().augment(driver);
+        }
+        
+        List<WebDriverListener> listeners = new ArrayList<>();
+        Tracer tracer = Tracer.global();
+        if (tracer.isEnabled()) {
+            listeners.add(new WebDriverTracingListener(tracer));
+        }
+        if (config.getProfiler().isEnabled()) {
+            listeners.add(WebDriverCommandProfiler.enable(config.getProfiler().getTopN()));
+        }
+        if (!listeners.isEmpty()) {
+            driver = new EventFiringDecorator<>(listeners.toArray(WebDriverListener[]::new)).decorate(driver);
+        }
+        
+        if (events) {
+            attachEventSource(driver);
+        }
+        if (profile != null) {
+            sessionProfiles.put(driver, profile);
         }
         
-        configureDriver(driver);
         return driver;
     }
     
+    /**
+     * Checks whether tests get browser contexts instead of full browser sessions.
+     * Contexts need CDP, so they are only used for Chromium-based browsers.
+     */
+    private boolean useBrowserContexts() {
+        if (!config.getContexts().isEnabled()) {
+            return false;
+        }
+        String browserType = config.getBrowser().getType().toLowerCase();
+        if (!browserType.equals("chrome") && !browserType.equals("edge")) {
+            log.warn("Browser contexts require a Chromium-based browser, creating a full session for {}", browserType);
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Gets the browser context pool, starting it on first use.
+     * Pooled browser sessions are quit when the test JVM exits.
+     */
+    private synchronized BrowserContextPool contextPool() {
+        if (contextPool == null) {
+            BrowserContextPool pool = new BrowserContextPool(
+                    () -> config.getGrid().isEnabled() ? createRemoteDriver() : createLocalDriver(null),
+                    config.getContexts().getPerBrowser(),
+                    Duration.ofSeconds(config.getTimeouts().getPageLoad()));
+            Runtime.getRuntime().addShutdownHook(new Thread(pool::close, "browser-context-pool-shutdown"));
+            METRICS.gauge("browser_contexts_active", "Browser contexts currently handed out", pool::activeContexts);
+            contextPool = pool;
+        }
+        return contextPool;
+    }
+    
+    /**
+     * Gets the browser profile template, reading the current profile settings on every session.
+     */
+    private synchronized BrowserProfileTemplate profileTemplate() {
+        if (profileTemplate == null) {
+            profileTemplate = new BrowserProfileTemplate(config.getProfile());
+        }
+        return profileTemplate;
+    }
+    
+    /**
+     * Copies the profile template for a new local session.
+     * Only Chromium-based browsers can reuse the template's disk cache.
+     *
+     * @param browserType configured browser type
+     * @return session user-data-dir, or null to start with an empty profile
+     */
+    private Path newSessionProfile(String browserType) {
+        if (!profileTemplate().isAvailable()) {
+            return null;
+        }
+        if (!browserType.equals("chrome") && !browserType.equals("edge")) {
+            log.warn("Browser profile templates require a Chromium-based browser, starting {} with an empty profile", browserType);
+            return null;
+        }
+        return profileTemplate().newSession();
+    }
+    
+    /**
+     * Releases resources attached to the driver and quits the session.
+     * Tests should use this instead of calling driver.quit() directly.
+     *
+     * @param driver driver created by this factory
+     */
+    public void quitDriver(WebDriver driver) {
+        DevToolsEventSource source = eventSources.remove(driver);
+        if (source != null) {
+            source.close();
+        }
+        long startNanos = System.nanoTime();
+        JournalRecord.Status status = JournalRecord.Status.FAILED;
+        try {
+            METRICS.timer("webdriver_quit_seconds", "WebDriver session quit time").record(() -> {
+                driver.quit();
+                return null;
+            });
+            status = JournalRecord.Status.PASSED;
+        } finally {
+            ACTIVE_SESSIONS.decrementAndGet();
+            Path profile = sessionProfiles.remove(driver);
+            if (profile != null) {
+                profileTemplate().release(profile);
+            }
+            RunJournal.global().append(JournalRecord.Type.DRIVER_QUIT, status, System.nanoTime() - startNanos,
+                    config.getBrowser().getType().toLowerCase());
+        }
+    }
+    
+    /**
+     * Attaches CDP event streaming (navigation, network, console) to the driver.
+     * The bus is registered for the exact instance handed out to tests.
+     *
+     * @param driver the driver to hand out to tests (augmented and/or decorated)
+     */
+    private void attachEventSource(WebDriver driver) {
+        DevToolsEventSource.attach(driver, config.getEvents().getBufferSize())
+                .ifPresent(source -> eventSources.put(driver, source));
+    }
+    
     /**
      * Creates a local WebDriver instance.
+     *
+     * @param profile user-data-dir of the session, null for an empty profile
      */
-    private WebDriver createLocalDriver() {
+    private WebDriver createLocalDriver(Path profile) {
         String browserType = config.getBrowser().getType().toLowerCase();
         
         return switch (browserType) {
-            case "chrome" -> createChromeDriver();
+            case "chrome" -> createChromeDriver(profile);
             case "firefox" -> createFirefoxDriver();
-            case "edge" -> createEdgeDriver();
+            case "edge" -> createEdgeDriver(profile);
             default -> {
                 log.warn("Unknown browser type: {}. Defaulting to Chrome.", browserType);
-                yield createChromeDriver();
+                yield createChromeDriver(profile);
             }
         };
     }
@@ -72,10 +284,14 @@ public class WebDriverFactory {
     /**
      * Creates a Chrome driver with configured options.
      */
-    private WebDriver createChromeDriver() {
+    private WebDriver createChromeDriver(Path profile) {
         log.info("Setting up Chrome driver");
         WebDriverManager.chromedriver().setup();
-        return new ChromeDriver(getChromeOptions());
+        ChromeOptions options = getChromeOptions();
+        if (profile != null) {
+            options.addArguments("--user-data-dir=" + profile);
+        }
+        return new ChromeDriver(options);
     }
     
     /**
@@ -90,10 +306,14 @@ public class WebDriverFactory {
     /**
      * Creates an Edge driver with configured options.
      */
-    private WebDriver createEdgeDriver() {
+    private WebDriver createEdgeDriver(Path profile) {
         log.info("Setting up Edge driver");
         WebDriverManager.edgedriver().setup();
-        return new EdgeDriver(getEdgeOptions());
+        EdgeOptions options = getEdgeOptions();
+        if (profile != null) {
+            options.addArguments("--user-data-dir=" + profile);
+        }
+        return new EdgeDriver(options);
     }
     
     /**
@@ -104,12 +324,11 @@ public class WebDriverFactory {
             log.info("Connecting to Selenium Grid/Selenoid at: {}", config.getGrid().getHubUrl());
             URL hubUrl = new URL(config.getGrid().getHubUrl());
             
-            AbstractDriverOptions<?> options = switch (config.getBrowser().getType().toLowerCase()) {
-                case "firefox" -> getFirefoxOptions();
-                case "edge" -> getEdgeOptions();
-                default -> getChromeOptions();
-            };
-            
+            AbstractDriverOptions<?> options = getOptions();
+            if (config.getProfile().isEnabled() && options instanceof ChromeOptions chromeOptions) {
+                // The node's wrapper copies its mounted template into the profile chromedriver creates
+                chromeOptions.setBinary(config.getProfile().getGridBinary());
+            }
             return new RemoteWebDriver(hubUrl, options);
             
         } catch (MalformedURLException e) {
@@ -118,6 +337,20 @@ public class WebDriverFactory {
         }
     }
     
+    /**
+     * Builds the capabilities for the configured browser type.
+     * This is the last step before a new session request is sent.
+     *
+     * @return browser options for the configured browser
+     */
+    public AbstractDriverOptions<?> getOptions() {
+        return switch (config.getBrowser().getType().toLowerCase()) {
+            case "firefox" -> getFirefoxOptions();
+            case "edge" -> getEdgeOptions();
+            default -> getChromeOptions();
+        };
+    }
+    
     /**
      * Configures Chrome options including headless mode and custom user agent.
      */
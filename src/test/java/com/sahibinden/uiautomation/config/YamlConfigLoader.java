@@ -0,0 +1,179 @@
+package com.sahibinden.uiautomation.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Lightweight loader for application.yml that binds properties without a Spring context.
+ * Mirrors the subset of Spring Boot relaxed binding used by this project:
+ * kebab-case keys, ${ENV:default} placeholders and system property overrides.
+ * Follows Single Responsibility Principle (SRP) - only reads and binds configuration.
+ */
+@Slf4j
+public class YamlConfigLoader {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^:}]+)(?::([^}]*))?}");
+
+    private final Map<String, String> properties;
+
+    private YamlConfigLoader(Map<String, String> properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Loads the given classpath resource and overlays matching system properties.
+     *
+     * @param resource classpath resource name (e.g., application.yml)
+     * @return loader holding the flattened properties
+     */
+    public static YamlConfigLoader load(String resource) {
+        Map<String, String> flattened = new LinkedHashMap<>();
+
+        try (InputStream in = YamlConfigLoader.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                log.warn("Configuration resource not found on classpath: {}", resource);
+            } else {
+                Object root = new Yaml().load(in);
+                flatten("", root, flattened);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read configuration: " + resource, e);
+        }
+
+        flattened.replaceAll((key, value) -> resolvePlaceholders(value));
+
+        // System properties win over the file, same as Spring's property source order
+        System.getProperties().stringPropertyNames()
+                .forEach(key -> flattened.put(key, System.getProperty(key)));
+
+        log.debug("Loaded {} configuration properties from {}", flattened.size(), resource);
+        return new YamlConfigLoader(flattened);
+    }
+
+    /**
+     * Binds all properties under the given prefix onto the target bean.
+     * Nested objects are reached through their getters, leaf values through setters.
+     *
+     * @param prefix property prefix (e.g., selenium)
+     * @param target bean to populate
+     * @return the populated target
+     */
+    public <T> T bind(String prefix, T target) {
+        String keyPrefix = prefix + ".";
+        properties.forEach((key, value) -> {
+            if (key.startsWith(keyPrefix)) {
+                bindProperty(target, key.substring(keyPrefix.length()).split("\\."), value, key);
+            }
+        });
+        return target;
+    }
+
+    private static void flatten(String path, Object node, Map<String, String> out) {
+        if (node instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> flatten(path.isEmpty() ? key.toString() : path + "." + key, value, out));
+        } else if (node instanceof List<?> list) {
+            out.put(path, list.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } else if (node != null) {
+            out.put(path, node.toString());
+        }
+    }
+
+    private static String resolvePlaceholders(String value) {
+        Matcher matcher = PLACEHOLDER.matcher(value);
+        StringBuilder resolved = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            String replacement = System.getProperty(name, System.getenv(name));
+            if (replacement == null) {
+                replacement = matcher.group(2) != null ? matcher.group(2) : "";
+            }
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void bindProperty(Object target, String[] path, String value, String fullKey) {
+        Object current = target;
+        try {
+            for (int i = 0; i < path.length - 1; i++) {
+                Method getter = findMethod(current.getClass(), "get" + toPropertyName(path[i]), 0);
+                Object next = getter.invoke(current);
+                if (next instanceof Map map && getter.getGenericReturnType() instanceof ParameterizedType mapType) {
+                    // Map keys are data (e.g. endpoint names), kept as written instead of mapped to properties
+                    map.put(String.join(".", Arrays.copyOfRange(path, i + 1, path.length)),
+                            convert(value, (Class<?>) mapType.getActualTypeArguments()[1]));
+                    return;
+                }
+                current = next;
+            }
+            Method setter = findMethod(current.getClass(), "set" + toPropertyName(path[path.length - 1]), 1);
+            setter.invoke(current, convert(value, setter.getParameterTypes()[0]));
+        } catch (NoSuchMethodException e) {
+            log.debug("Ignoring unknown configuration property: {}", fullKey);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to bind configuration property: " + fullKey, e);
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name, int parameterCount) throws NoSuchMethodException {
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == parameterCount) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(type.getName() + "." + name);
+    }
+
+    /**
+     * Converts kebab-case (page-load) or camelCase keys to the bean property suffix (PageLoad).
+     */
+    private static String toPropertyName(String key) {
+        StringBuilder name = new StringBuilder();
+        boolean upperNext = true;
+        for (char c : key.toCharArray()) {
+            if (c == '-' || c == '_') {
+                upperNext = true;
+            } else {
+                name.append(upperNext ? Character.toUpperCase(c) : c);
+                upperNext = false;
+            }
+        }
+        return name.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(String value, Class<?> type) {
+        String trimmed = value.trim();
+        if (type == String.class) {
+            return value;
+        } else if (type == int.class || type == Integer.class) {
+            return Integer.parseInt(trimmed);
+        } else if (type == long.class || type == Long.class) {
+            return Long.parseLong(trimmed);
+        } else if (type == double.class || type == Double.class) {
+            return Double.parseDouble(trimmed);
+        } else if (type == boolean.class || type == Boolean.class) {
+            return Boolean.parseBoolean(trimmed);
+        } else if (type == List.class) {
+            return Arrays.stream(trimmed.split(",")).map(String::trim).filter(item -> !item.isEmpty()).toList();
+        } else if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, trimmed.toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+        throw new IllegalArgumentException("Unsupported property type: " + type.getName());
+    }
+}
@@ -0,0 +1,124 @@
+package com.sahibinden.uiautomation.contexts;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Binds a shared browser session to one browser context.
+ * Every command (including calls on elements, navigation and options) takes the browser's lock
+ * and first switches to the context's window. Navigations only hold the lock to start loading,
+ * then poll for completion, so page loads of different contexts overlap.
+ * quit() disposes the context instead of ending the shared session.
+ */
+class BrowserContextDriverDecorator extends WebDriverDecorator<WebDriver> {
+
+    private static final long NAVIGATION_POLL_MILLIS = 100;
+
+    // Returns the resolved target for a fragment navigation, which keeps the current document, otherwise null
+    private static final String START_NAVIGATION_SCRIPT =
+            "const target = new URL(arguments[1], location.href);"
+                    + "const fragmentOnly = target.hash !== '' && target.href.split('#')[0] === location.href.split('#')[0];"
+                    + "window.__contextNavigation = arguments[0]; window.location.assign(target.href);"
+                    + "return fragmentOnly ? target.href : null;";
+
+    // A new document has lost the marker; a fragment navigation is done once the URL shows the fragment
+    private static final String NAVIGATION_DONE_SCRIPT =
+            "return (arguments[1] === null ? window.__contextNavigation !== arguments[0] : location.href === arguments[1])"
+                    + " && document.readyState === 'complete';";
+
+    private final BrowserContextPool.Browser browser;
+    private final BrowserContextPool.Context context;
+
+    BrowserContextDriverDecorator(BrowserContextPool.Browser browser, BrowserContextPool.Context context) {
+        this.browser = browser;
+        this.context = context;
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        Object original = target.getOriginal();
+        String name = method.getName();
+
+        if (original instanceof WebDriver && "quit".equals(name)) {
+            browser.dispose(context);
+            return null;
+        }
+        if ((original instanceof WebDriver && "get".equals(name))
+                || (original instanceof WebDriver.Navigation && "to".equals(name))) {
+            navigate(String.valueOf(args[0]));
+            return null;
+        }
+
+        browser.lock.lock();
+        try {
+            browser.activate(context);
+            Object result = super.call(target, method, args);
+
+            if (original instanceof WebDriver.TargetLocator && ("window".equals(name) || "newWindow".equals(name))) {
+                browser.switchedTo(context, browser.driver.getWindowHandle());
+            } else if (original instanceof WebDriver && "getWindowHandles".equals(name)) {
+                Set<String> handles = toStrings((Set<?>) result);
+                handles.retainAll(browser.windowHandles(context));
+                return handles;
+            }
+            return result;
+        } finally {
+            browser.lock.unlock();
+        }
+    }
+
+    private void navigate(String url) {
+        String token = UUID.randomUUID().toString();
+        Object fragmentTarget = runLocked(() -> ((JavascriptExecutor) browser.driver)
+                .executeScript(START_NAVIGATION_SCRIPT, token, url));
+
+        long deadline = System.nanoTime() + browser.pageLoadTimeout().toNanos();
+        while (true) {
+            Object done;
+            try {
+                done = runLocked(() -> ((JavascriptExecutor) browser.driver).executeScript(NAVIGATION_DONE_SCRIPT, token, fragmentTarget));
+            } catch (WebDriverException e) {
+                // Script evaluation can fail while the old document is being replaced
+                done = false;
+            }
+            if (Boolean.TRUE.equals(done)) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("Page load timed out in browser context " + context.contextId + ": " + url);
+            }
+            try {
+                Thread.sleep(NAVIGATION_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while waiting for page load: " + url, e);
+            }
+        }
+    }
+
+    private Object runLocked(Supplier<Object> command) {
+        browser.lock.lock();
+        try {
+            browser.activate(context);
+            return command.get();
+        } finally {
+            browser.lock.unlock();
+        }
+    }
+
+    private static Set<String> toStrings(Set<?> values) {
+        Set<String> strings = new LinkedHashSet<>();
+        values.forEach(value -> strings.add(String.valueOf(value)));
+        return strings;
+    }
+}
@@ -0,0 +1,242 @@
+package com.sahibinden.uiautomation.contexts;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.devtools.SeleniumCdpConnection;
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Hands out isolated browser contexts that share a few browser sessions.
+ * Each context is created with CDP Target.createBrowserContext, so it has its own cookies,
+ * storage and cache like an incognito profile, but no Chrome process of its own. A browser
+ * session hosts up to the configured number of contexts; further sessions are started on demand.
+ * Tests receive a driver bound to their context, see {@link BrowserContextDriverDecorator}.
+ */
+@Slf4j
+public class BrowserContextPool implements AutoCloseable {
+
+    private static final Duration CDP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Supplier<WebDriver> browserFactory;
+    private final int contextsPerBrowser;
+    private final Duration pageLoadTimeout;
+    private final List<Browser> browsers = new ArrayList<>();
+
+    /**
+     * Creates a pool.
+     *
+     * @param browserFactory     starts a new Chromium browser session (local or Grid)
+     * @param contextsPerBrowser maximum contexts hosted by one browser session
+     * @param pageLoadTimeout    timeout for navigations made through context drivers
+     */
+    public BrowserContextPool(Supplier<WebDriver> browserFactory, int contextsPerBrowser, Duration pageLoadTimeout) {
+        this.browserFactory = browserFactory;
+        this.contextsPerBrowser = contextsPerBrowser;
+        this.pageLoadTimeout = pageLoadTimeout;
+    }
+
+    /**
+     * Opens a new isolated context on a browser with free capacity.
+     *
+     * @return driver bound to the new context; quit() disposes the context only
+     */
+    public WebDriver acquire() {
+        Browser browser;
+        synchronized (this) {
+            browser = browsers.stream()
+                    .filter(candidate -> candidate.activeContexts < contextsPerBrowser)
+                    .findFirst()
+                    .orElseGet(this::startBrowser);
+            browser.activeContexts++;
+        }
+
+        try {
+            return browser.openContext();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                browser.activeContexts--;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of contexts currently handed out.
+     *
+     * @return active contexts over all browsers
+     */
+    public synchronized int activeContexts() {
+        return browsers.stream().mapToInt(browser -> browser.activeContexts).sum();
+    }
+
+    /**
+     * Quits all browser sessions of the pool.
+     */
+    @Override
+    public synchronized void close() {
+        for (Browser browser : browsers) {
+            try {
+                browser.connection.close();
+                browser.driver.quit();
+            } catch (RuntimeException e) {
+                log.debug("Error closing pooled browser: {}", e.getMessage());
+            }
+        }
+        log.info("Closed {} pooled browser sessions", browsers.size());
+        browsers.clear();
+    }
+
+    private Browser startBrowser() {
+        WebDriver driver = browserFactory.get();
+        Connection connection = SeleniumCdpConnection.create(driver)
+                .orElseThrow(() -> {
+                    driver.quit();
+                    return new IllegalStateException("Browser contexts require a CDP endpoint (Chromium-based browser)");
+                });
+        Browser browser = new Browser(driver, connection);
+        browsers.add(browser);
+        log.info("✓ Started pooled browser #{} for up to {} contexts", browsers.size(), contextsPerBrowser);
+        return browser;
+    }
+
+    synchronized void released(Browser browser) {
+        browser.activeContexts--;
+    }
+
+    /**
+     * A browser session hosting several contexts. Commands for all contexts go through one
+     * WebDriver session, so they are serialized by a lock and preceded by a window switch
+     * when the previous command belonged to another context.
+     */
+    final class Browser {
+
+        final WebDriver driver;
+        final Connection connection;
+        final ReentrantLock lock = new ReentrantLock();
+        int activeContexts;
+        private String currentHandle;
+
+        private Browser(WebDriver driver, Connection connection) {
+            this.driver = driver;
+            this.connection = connection;
+            this.currentHandle = driver.getWindowHandle();
+        }
+
+        Duration pageLoadTimeout() {
+            return pageLoadTimeout;
+        }
+
+        WebDriver openContext() {
+            String contextId = (String) send("Target.createBrowserContext", Map.of("disposeOnDetach", false))
+                    .get("browserContextId");
+            String targetId = (String) send("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId, "newWindow", true))
+                    .get("targetId");
+
+            // WebDriver window handles are CDP target ids
+            lock.lock();
+            try {
+                awaitWindowHandle(targetId);
+            } finally {
+                lock.unlock();
+            }
+            log.info("✓ Opened browser context {} ({} active on this browser)", contextId, activeContexts);
+            return new BrowserContextDriverDecorator(this, new Context(contextId, targetId)).decorate(driver);
+        }
+
+        /**
+         * Makes the context's window the session's current window. Caller must hold the lock.
+         */
+        void activate(Context context) {
+            if (!context.currentHandle.equals(currentHandle)) {
+                driver.switchTo().window(context.currentHandle);
+                currentHandle = context.currentHandle;
+            }
+        }
+
+        /**
+         * Records a window switch made by a context driver. Caller must hold the lock.
+         */
+        void switchedTo(Context context, String handle) {
+            context.currentHandle = handle;
+            currentHandle = handle;
+        }
+
+        /**
+         * Gets the window handles that belong to the context.
+         */
+        @SuppressWarnings("unchecked")
+        Set<String> windowHandles(Context context) {
+            List<Map<String, Object>> targets = (List<Map<String, Object>>) send("Target.getTargets", Map.of())
+                    .get("targetInfos");
+            return targets.stream()
+                    .filter(target -> "page".equals(target.get("type")))
+                    .filter(target -> context.contextId.equals(target.get("browserContextId")))
+                    .map(target -> (String) target.get("targetId"))
+                    .collect(Collectors.toSet());
+        }
+
+        void dispose(Context context) {
+            lock.lock();
+            try {
+                send("Target.disposeBrowserContext", Map.of("browserContextId", context.contextId));
+                // The context's windows are gone; the next command must switch explicitly
+                currentHandle = null;
+                log.info("Disposed browser context {}", context.contextId);
+            } catch (WebDriverException e) {
+                log.warn("Failed to dispose browser context {}: {}", context.contextId, e.getMessage());
+            } finally {
+                lock.unlock();
+                released(this);
+            }
+        }
+
+        private void awaitWindowHandle(String handle) {
+            long deadline = System.nanoTime() + CDP_TIMEOUT.toNanos();
+            while (!driver.getWindowHandles().contains(handle)) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Window of new browser context did not appear: " + handle);
+                }
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while opening browser context", e);
+                }
+            }
+        }
+
+        // Browser-level CDP command (no session id), which the Target domain requires
+        private Map<String, Object> send(String method, Map<String, Object> params) {
+            return connection.sendAndWait(null,
+                    new Command<>(method, params, input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                    CDP_TIMEOUT);
+        }
+    }
+
+    /**
+     * One isolated browser context and the window its driver currently targets.
+     */
+    static final class Context {
+
+        final String contextId;
+        volatile String currentHandle;
+
+        Context(String contextId, String initialHandle) {
+            this.contextId = contextId;
+            this.currentHandle = initialHandle;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.sahibinden.uiautomation.devtools;
+
+import java.util.Map;
+
+/**
+ * A single browser event received over the DevTools protocol.
+ *
+ * @param type      event category
+ * @param method    CDP event name (e.g., Page.frameNavigated)
+ * @param params    raw event parameters
+ * @param timestamp System.nanoTime() at which the event was received
+ */
+public record BrowserEvent(Type type, String method, Map<String, Object> params, long timestamp) {
+
+    public enum Type { NAVIGATION, NETWORK, CONSOLE }
+
+    /**
+     * Reads a nested parameter by path, e.g. param("frame", "url").
+     *
+     * @param path keys to follow through nested objects
+     * @return value at the path or null if any segment is missing
+     */
+    public Object param(String... path) {
+        Object current = params;
+        for (String key : path) {
+            if (!(current instanceof Map<?, ?> map)) {
+                return null;
+            }
+            current = map.get(key);
+        }
+        return current;
+    }
+
+    /**
+     * Reads a nested string parameter by path.
+     *
+     * @param path keys to follow through nested objects
+     * @return string value at the path or null
+     */
+    public String stringParam(String... path) {
+        Object value = param(path);
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,291 @@
+package com.sahibinden.uiautomation.devtools;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-memory event bus fed by DevToolsEventSource.
+ * Keeps the main frame URL up to date from navigation events so that waits can complete
+ * on the event itself instead of polling the driver.
+ *
+ * One bus exists per WebDriver session; it is looked up with {@link #of(WebDriver)}.
+ */
+@Slf4j
+public class BrowserEventBus {
+
+    private static final Map<WebDriver, BrowserEventBus> REGISTRY = new ConcurrentHashMap<>();
+
+    private final List<Consumer<BrowserEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final Deque<BrowserEvent> recentEvents = new ArrayDeque<>();
+    private final int bufferSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition navigated = lock.newCondition();
+    private volatile String currentUrl;
+    private volatile String mainFrameId;
+    private long navigationSequence;
+    private volatile boolean suspended;
+
+    public BrowserEventBus(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the bus attached to the given driver.
+     *
+     * @param driver WebDriver instance returned by WebDriverFactory
+     * @return bus if event streaming is active for this driver
+     */
+    public static Optional<BrowserEventBus> of(WebDriver driver) {
+        return Optional.ofNullable(REGISTRY.get(driver)).filter(bus -> !bus.suspended);
+    }
+
+    /**
+     * Suspends or resumes the bus of the given driver.
+     * Events are only received for the window the session was attached to, so while other
+     * windows are driven the bus is suspended and {@link #of(WebDriver)} returns empty.
+     *
+     * @param driver    WebDriver instance returned by WebDriverFactory
+     * @param suspended true to suspend, false to resume
+     */
+    public static void setSuspended(WebDriver driver, boolean suspended) {
+        BrowserEventBus bus = REGISTRY.get(driver);
+        if (bus != null) {
+            bus.suspended = suspended;
+        }
+    }
+
+    static void register(WebDriver driver, BrowserEventBus bus) {
+        REGISTRY.put(driver, bus);
+    }
+
+    static void unregister(WebDriver driver) {
+        REGISTRY.remove(driver);
+    }
+
+    /**
+     * Subscribes a listener to all events.
+     *
+     * @param listener called on the DevTools connection thread, must not block
+     * @return handle that removes the listener when closed
+     */
+    public AutoCloseable subscribe(Consumer<BrowserEvent> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Publishes an event to all listeners and updates navigation state.
+     *
+     * @param event received event
+     */
+    public void publish(BrowserEvent event) {
+        synchronized (recentEvents) {
+            if (recentEvents.size() >= bufferSize) {
+                recentEvents.removeFirst();
+            }
+            recentEvents.addLast(event);
+        }
+
+        if (event.type() == BrowserEvent.Type.NAVIGATION) {
+            onNavigation(event);
+        }
+
+        for (Consumer<BrowserEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.warn("Browser event listener failed for {}: {}", event.method(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Seeds navigation state when the source attaches to an already open page.
+     *
+     * @param url     current main frame URL
+     * @param frameId main frame id, may be null if unknown
+     */
+    public void seed(String url, String frameId) {
+        this.mainFrameId = frameId;
+        updateUrl(url);
+    }
+
+    /**
+     * Gets the main frame URL as last reported by navigation events.
+     *
+     * @return last observed URL or null if nothing was observed yet
+     */
+    public String currentUrl() {
+        return currentUrl;
+    }
+
+    /**
+     * Waits until the observed URL matches the condition.
+     * Completes as soon as the matching navigation event arrives - no driver calls are made.
+     *
+     * @param condition URL predicate
+     * @param timeout   maximum wait time
+     * @return true if the condition was met within timeout
+     */
+    public boolean awaitUrl(Predicate<String> condition, Duration timeout) {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (!matches(condition)) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = navigated.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the condition is true, re-evaluating it whenever a navigation or load event arrives.
+     * Conditions that need page state the events do not carry (e.g. the title) are re-checked
+     * at most once per event, plus once per recheck interval as a safety net.
+     *
+     * @param condition       condition to evaluate, may call the driver
+     * @param timeout         maximum wait time
+     * @param recheckInterval maximum time between evaluations when no events arrive
+     * @return true if the condition was met within timeout
+     */
+    public boolean awaitCondition(BooleanSupplier condition, Duration timeout, Duration recheckInterval) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long observedSequence = navigationSequence();
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+
+            lock.lock();
+            try {
+                long waitNanos = Math.min(remaining, recheckInterval.toNanos());
+                while (navigationSequence == observedSequence && waitNanos > 0) {
+                    waitNanos = navigated.awaitNanos(waitNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the most recent events of the given type.
+     *
+     * @param type event type
+     * @return events in arrival order, bounded by the configured buffer size
+     */
+    public List<BrowserEvent> recentEvents(BrowserEvent.Type type) {
+        synchronized (recentEvents) {
+            return recentEvents.stream().filter(event -> event.type() == type).toList();
+        }
+    }
+
+    /**
+     * Formats recent events of a type for attachments and logs.
+     *
+     * @param type event type
+     * @return one line per event
+     */
+    public String describeRecent(BrowserEvent.Type type) {
+        List<String> lines = new ArrayList<>();
+        for (BrowserEvent event : recentEvents(type)) {
+            lines.add(String.format("+%d ms %s %s",
+                    TimeUnit.NANOSECONDS.toMillis(event.timestamp() - firstTimestamp()),
+                    event.method(), event.params()));
+        }
+        return String.join(System.lineSeparator(), lines);
+    }
+
+    private long firstTimestamp() {
+        synchronized (recentEvents) {
+            return recentEvents.isEmpty() ? 0 : recentEvents.peekFirst().timestamp();
+        }
+    }
+
+    private boolean matches(Predicate<String> condition) {
+        String url = currentUrl;
+        return url != null && condition.test(url);
+    }
+
+    private long navigationSequence() {
+        lock.lock();
+        try {
+            return navigationSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onNavigation(BrowserEvent event) {
+        switch (event.method()) {
+            case "Page.frameNavigated" -> {
+                if (event.param("frame", "parentId") == null) {
+                    mainFrameId = event.stringParam("frame", "id");
+                    String fragment = event.stringParam("frame", "urlFragment");
+                    updateUrl(event.stringParam("frame", "url") + (fragment != null ? fragment : ""));
+                    return;
+                }
+            }
+            case "Page.navigatedWithinDocument" -> {
+                String frameId = event.stringParam("frameId");
+                if (mainFrameId == null || mainFrameId.equals(frameId)) {
+                    updateUrl(event.stringParam("url"));
+                    return;
+                }
+            }
+            default -> {
+                // Load events carry no URL but still wake up condition waits
+            }
+        }
+        signalNavigation();
+    }
+
+    private void updateUrl(String url) {
+        currentUrl = url;
+        log.debug("Observed navigation: {}", url);
+        signalNavigation();
+    }
+
+    private void signalNavigation() {
+        lock.lock();
+        try {
+            navigationSequence++;
+            navigated.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
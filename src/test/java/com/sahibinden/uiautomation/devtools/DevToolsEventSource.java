@@ -0,0 +1,125 @@
+package com.sahibinden.uiautomation.devtools;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Subscribes to CDP navigation, network and console events and feeds them into a BrowserEventBus.
+ * Uses raw, version-independent CDP method names so the same code works against any
+ * Chromium version the Grid nodes run, without pinning a selenium-devtools-vNNN module.
+ */
+@Slf4j
+public class DevToolsEventSource implements AutoCloseable {
+
+    private static final List<String> ENABLE_COMMANDS = List.of(
+            "Page.enable", "Network.enable", "Runtime.enable", "Log.enable");
+
+    private static final Map<String, BrowserEvent.Type> EVENTS = Map.ofEntries(
+            Map.entry("Page.frameNavigated", BrowserEvent.Type.NAVIGATION),
+            Map.entry("Page.navigatedWithinDocument", BrowserEvent.Type.NAVIGATION),
+            Map.entry("Page.domContentEventFired", BrowserEvent.Type.NAVIGATION),
+            Map.entry("Page.loadEventFired", BrowserEvent.Type.NAVIGATION),
+            Map.entry("Network.requestWillBeSent", BrowserEvent.Type.NETWORK),
+            Map.entry("Network.responseReceived", BrowserEvent.Type.NETWORK),
+            Map.entry("Network.loadingFinished", BrowserEvent.Type.NETWORK),
+            Map.entry("Network.loadingFailed", BrowserEvent.Type.NETWORK),
+            Map.entry("Runtime.consoleAPICalled", BrowserEvent.Type.CONSOLE),
+            Map.entry("Runtime.exceptionThrown", BrowserEvent.Type.CONSOLE),
+            Map.entry("Log.entryAdded", BrowserEvent.Type.CONSOLE));
+
+    private final WebDriver driver;
+    private final DevTools devTools;
+    private final BrowserEventBus bus;
+
+    private DevToolsEventSource(WebDriver driver, DevTools devTools, BrowserEventBus bus) {
+        this.driver = driver;
+        this.devTools = devTools;
+        this.bus = bus;
+    }
+
+    /**
+     * Attaches an event source to the driver and registers its bus.
+     * Failure to attach is not fatal - waits fall back to polling when no bus is registered.
+     *
+     * @param driver     driver supporting DevTools (local Chromium or augmented remote driver)
+     * @param bufferSize number of recent events kept in memory
+     * @return attached source, or empty if the driver does not support DevTools
+     */
+    public static Optional<DevToolsEventSource> attach(WebDriver driver, int bufferSize) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            log.info("Driver does not support DevTools, browser events disabled: {}", driver.getClass().getSimpleName());
+            return Optional.empty();
+        }
+
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+
+            DevToolsEventSource source = new DevToolsEventSource(driver, devTools, new BrowserEventBus(bufferSize));
+            source.start();
+            BrowserEventBus.register(driver, source.bus);
+            log.info("✓ Browser event streaming attached ({} event types)", EVENTS.size());
+            return Optional.of(source);
+        } catch (RuntimeException e) {
+            log.warn("Failed to attach browser event streaming, falling back to polling: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public BrowserEventBus bus() {
+        return bus;
+    }
+
+    /**
+     * Sends a raw CDP command on this source's session.
+     *
+     * @param method CDP method name
+     * @param params command parameters
+     * @return command result
+     */
+    public Map<String, Object> send(String method, Map<String, Object> params) {
+        return devTools.send(new Command<>(method, params, input -> input.<Map<String, Object>>read(Json.MAP_TYPE)));
+    }
+
+    private void start() {
+        EVENTS.forEach((method, type) -> devTools.addListener(
+                new Event<>(method, input -> input.<Map<String, Object>>read(Json.MAP_TYPE)),
+                params -> bus.publish(new BrowserEvent(type, method, params, System.nanoTime()))));
+
+        ENABLE_COMMANDS.forEach(method -> send(method, Map.of()));
+
+        seedNavigationState();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void seedNavigationState() {
+        String frameId = null;
+        try {
+            Map<String, Object> frameTree = (Map<String, Object>) send("Page.getFrameTree", Map.of()).get("frameTree");
+            frameId = (String) ((Map<String, Object>) frameTree.get("frame")).get("id");
+        } catch (RuntimeException e) {
+            log.debug("Could not read main frame id: {}", e.getMessage());
+        }
+        bus.seed(driver.getCurrentUrl(), frameId);
+    }
+
+    @Override
+    public void close() {
+        BrowserEventBus.unregister(driver);
+        try {
+            devTools.clearListeners();
+            devTools.close();
+        } catch (RuntimeException e) {
+            log.debug("Error closing DevTools session: {}", e.getMessage());
+        }
+    }
+}
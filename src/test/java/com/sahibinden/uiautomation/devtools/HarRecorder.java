@@ -0,0 +1,347 @@
+package com.sahibinden.uiautomation.devtools;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sahibinden.uiautomation.config.SeleniumConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Records network events of one test into a HAR 1.2 file.
+ *
+ * Memory stays bounded: only requests still in flight are held, in a ring capped at
+ * max-pending-requests (the oldest is evicted when full). Completed entries are written
+ * to disk immediately through a streaming JSON generator and the file itself is capped
+ * at max-entries; beyond that only the per-host summary keeps counting.
+ */
+@Slf4j
+public class HarRecorder implements Consumer<BrowserEvent>, AutoCloseable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final SeleniumConfig.HarConfig config;
+    private final Path file;
+    private final JsonGenerator json;
+    private final AutoCloseable subscription;
+    private final Map<String, PendingEntry> pending;
+    private final Map<String, HarSummary.HostStats> hosts = new HashMap<>();
+
+    private int entries;
+    private int written;
+    private int dropped;
+    private long totalBytes;
+    private double slowestMillis;
+    private String slowestUrl = "-";
+    private boolean closed;
+
+    private HarRecorder(SeleniumConfig.HarConfig config, Path file, BrowserEventBus bus) throws IOException {
+        this.config = config;
+        this.file = file;
+        this.pending = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PendingEntry> eldest) {
+                if (size() > config.getMaxPendingRequests()) {
+                    dropped++;
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.json = JSON_FACTORY.createGenerator(file.toFile(), JsonEncoding.UTF8);
+        json.writeStartObject();
+        json.writeObjectFieldStart("log");
+        json.writeStringField("version", "1.2");
+        json.writeObjectFieldStart("creator");
+        json.writeStringField("name", "ui-automation");
+        json.writeStringField("version", "1.0");
+        json.writeEndObject();
+        json.writeArrayFieldStart("pages");
+        json.writeEndArray();
+        json.writeArrayFieldStart("entries");
+        json.flush();
+
+        this.subscription = bus.subscribe(this);
+    }
+
+    /**
+     * Starts recording network events of the driver's event bus into a new HAR file.
+     *
+     * @param bus      event bus of the test's driver
+     * @param config   HAR configuration
+     * @param testName test name used in the file name
+     * @return the recorder, to be closed at the end of the test
+     */
+    public static HarRecorder start(BrowserEventBus bus, SeleniumConfig.HarConfig config, String testName) {
+        try {
+            Path directory = Path.of(config.getDirectory());
+            Files.createDirectories(directory);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
+            Path file = directory.resolve(testName.replaceAll("[^A-Za-z0-9._-]", "_") + "_" + timestamp + ".har");
+            log.info("Recording HAR to {}", file);
+            return new HarRecorder(config, file, bus);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start HAR recording", e);
+        }
+    }
+
+    @Override
+    public synchronized void accept(BrowserEvent event) {
+        if (closed || event.type() != BrowserEvent.Type.NETWORK) {
+            return;
+        }
+
+        String requestId = event.stringParam("requestId");
+        switch (event.method()) {
+            case "Network.requestWillBeSent" -> {
+                PendingEntry redirected = pending.remove(requestId);
+                if (redirected != null && event.param("redirectResponse") instanceof Map<?, ?> redirect) {
+                    redirected.response = cast(redirect);
+                    complete(redirected, toDouble(event.param("timestamp")), 0, null);
+                }
+                pending.put(requestId, new PendingEntry(event));
+            }
+            case "Network.responseReceived" -> {
+                PendingEntry entry = pending.get(requestId);
+                if (entry != null && event.param("response") instanceof Map<?, ?> response) {
+                    entry.response = cast(response);
+                }
+            }
+            case "Network.loadingFinished" -> {
+                PendingEntry entry = pending.remove(requestId);
+                if (entry != null) {
+                    complete(entry, toDouble(event.param("timestamp")),
+                            (long) toDouble(event.param("encodedDataLength")), null);
+                }
+            }
+            case "Network.loadingFailed" -> {
+                PendingEntry entry = pending.remove(requestId);
+                if (entry != null) {
+                    complete(entry, toDouble(event.param("timestamp")), 0, event.stringParam("errorText"));
+                }
+            }
+            default -> {
+                // Other network events are not part of HAR
+            }
+        }
+    }
+
+    /**
+     * Stops recording, finishes the HAR document and returns the summary.
+     * Requests still in flight are counted as dropped.
+     *
+     * @return summary of the recording
+     */
+    public synchronized HarSummary stop() {
+        if (!closed) {
+            closed = true;
+            dropped += pending.size();
+            pending.clear();
+            try {
+                subscription.close();
+                json.writeEndArray();
+                json.writeEndObject();
+                json.writeEndObject();
+                json.close();
+            } catch (Exception e) {
+                log.warn("Failed to finish HAR file {}: {}", file, e.getMessage());
+            }
+        }
+        return new HarSummary(file, entries, written, dropped, totalBytes, slowestMillis, slowestUrl, Map.copyOf(hosts));
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private void complete(PendingEntry entry, double endTimestamp, long bytes, String error) {
+        double totalMillis = Math.max(0, (endTimestamp - entry.timestamp) * 1000);
+        entries++;
+        totalBytes += bytes;
+        hosts.merge(hostOf(entry.url), new HarSummary.HostStats(1, bytes, totalMillis, totalMillis),
+                (existing, ignored) -> existing.add(bytes, totalMillis));
+        if (totalMillis > slowestMillis) {
+            slowestMillis = totalMillis;
+            slowestUrl = entry.url;
+        }
+
+        if (written >= config.getMaxEntries()) {
+            dropped++;
+            return;
+        }
+
+        try {
+            writeEntry(entry, totalMillis, bytes, error);
+            written++;
+            json.flush();
+        } catch (IOException e) {
+            dropped++;
+            log.warn("Failed to write HAR entry for {}: {}", entry.url, e.getMessage());
+        }
+    }
+
+    private void writeEntry(PendingEntry entry, double totalMillis, long bytes, String error) throws IOException {
+        Map<String, Object> response = entry.response != null ? entry.response : Map.of();
+        Map<String, Object> timing = cast(response.get("timing"));
+
+        json.writeStartObject();
+        json.writeStringField("startedDateTime", Instant.ofEpochMilli((long) (entry.wallTime * 1000)).toString());
+        json.writeNumberField("time", totalMillis);
+
+        json.writeObjectFieldStart("request");
+        json.writeStringField("method", entry.method);
+        json.writeStringField("url", entry.url);
+        json.writeStringField("httpVersion", stringOr(response.get("protocol"), "unknown"));
+        json.writeArrayFieldStart("cookies");
+        json.writeEndArray();
+        writeHeaders(entry.requestHeaders);
+        writeQueryString(entry.url);
+        json.writeNumberField("headersSize", -1);
+        json.writeNumberField("bodySize", -1);
+        json.writeEndObject();
+
+        json.writeObjectFieldStart("response");
+        json.writeNumberField("status", (int) toDouble(response.get("status")));
+        json.writeStringField("statusText", error != null ? error : stringOr(response.get("statusText"), ""));
+        json.writeStringField("httpVersion", stringOr(response.get("protocol"), "unknown"));
+        json.writeArrayFieldStart("cookies");
+        json.writeEndArray();
+        writeHeaders(cast(response.get("headers")));
+        json.writeObjectFieldStart("content");
+        json.writeNumberField("size", bytes);
+        json.writeStringField("mimeType", stringOr(response.get("mimeType"), "x-unknown"));
+        json.writeEndObject();
+        json.writeStringField("redirectURL", "");
+        json.writeNumberField("headersSize", -1);
+        json.writeNumberField("bodySize", bytes);
+        json.writeEndObject();
+
+        json.writeObjectFieldStart("cache");
+        json.writeEndObject();
+        writeTimings(timing, totalMillis);
+        if (error != null) {
+            json.writeStringField("_error", error);
+        }
+        json.writeEndObject();
+    }
+
+    /**
+     * Converts CDP ResourceTiming (offsets in ms from requestTime) into HAR timings.
+     */
+    private void writeTimings(Map<String, Object> timing, double totalMillis) throws IOException {
+        json.writeObjectFieldStart("timings");
+        if (timing.isEmpty()) {
+            json.writeNumberField("blocked", -1);
+            json.writeNumberField("dns", -1);
+            json.writeNumberField("connect", -1);
+            json.writeNumberField("ssl", -1);
+            json.writeNumberField("send", 0);
+            json.writeNumberField("wait", totalMillis);
+            json.writeNumberField("receive", 0);
+        } else {
+            double dnsStart = toDouble(timing.get("dnsStart"));
+            double connectStart = toDouble(timing.get("connectStart"));
+            double sslStart = toDouble(timing.get("sslStart"));
+            double sendStart = toDouble(timing.get("sendStart"));
+            double sendEnd = toDouble(timing.get("sendEnd"));
+            double receiveHeadersEnd = toDouble(timing.get("receiveHeadersEnd"));
+
+            double firstPhase = dnsStart >= 0 ? dnsStart : connectStart >= 0 ? connectStart : sendStart;
+            json.writeNumberField("blocked", Math.max(0, firstPhase));
+            json.writeNumberField("dns", dnsStart >= 0 ? toDouble(timing.get("dnsEnd")) - dnsStart : -1);
+            json.writeNumberField("connect", connectStart >= 0 ? toDouble(timing.get("connectEnd")) - connectStart : -1);
+            json.writeNumberField("ssl", sslStart >= 0 ? toDouble(timing.get("sslEnd")) - sslStart : -1);
+            json.writeNumberField("send", Math.max(0, sendEnd - sendStart));
+            json.writeNumberField("wait", Math.max(0, receiveHeadersEnd - sendEnd));
+            json.writeNumberField("receive", Math.max(0, totalMillis - receiveHeadersEnd));
+        }
+        json.writeEndObject();
+    }
+
+    private void writeHeaders(Map<String, Object> headers) throws IOException {
+        json.writeArrayFieldStart("headers");
+        for (Map.Entry<String, Object> header : headers.entrySet()) {
+            json.writeStartObject();
+            json.writeStringField("name", header.getKey());
+            json.writeStringField("value", String.valueOf(header.getValue()));
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+    }
+
+    private void writeQueryString(String url) throws IOException {
+        json.writeArrayFieldStart("queryString");
+        int start = url.indexOf('?');
+        if (start >= 0) {
+            int end = url.indexOf('#', start);
+            String query = url.substring(start + 1, end >= 0 ? end : url.length());
+            for (String pair : query.split("&")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                int separator = pair.indexOf('=');
+                json.writeStartObject();
+                json.writeStringField("name", separator >= 0 ? pair.substring(0, separator) : pair);
+                json.writeStringField("value", separator >= 0 ? pair.substring(separator + 1) : "");
+                json.writeEndObject();
+            }
+        }
+        json.writeEndArray();
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : "(no host)";
+        } catch (IllegalArgumentException e) {
+            return "(invalid url)";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> cast(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0;
+    }
+
+    private static String stringOr(Object value, String fallback) {
+        return value != null ? value.toString() : fallback;
+    }
+
+    /**
+     * A request that has been sent but not finished yet.
+     */
+    private static final class PendingEntry {
+        private final String url;
+        private final String method;
+        private final Map<String, Object> requestHeaders;
+        private final double timestamp;
+        private final double wallTime;
+        private Map<String, Object> response;
+
+        private PendingEntry(BrowserEvent event) {
+            this.url = stringOr(event.param("request", "url"), "");
+            this.method = stringOr(event.param("request", "method"), "GET");
+            this.requestHeaders = cast(event.param("request", "headers"));
+            this.timestamp = toDouble(event.param("timestamp"));
+            this.wallTime = toDouble(event.param("wallTime"));
+        }
+    }
+}
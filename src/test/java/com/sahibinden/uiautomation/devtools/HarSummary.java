@@ -0,0 +1,67 @@
+package com.sahibinden.uiautomation.devtools;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Aggregated view of a HAR recording: totals plus per-host bytes and timings.
+ *
+ * @param file          HAR file on disk
+ * @param entries       completed requests observed
+ * @param written       entries written to the HAR file
+ * @param dropped       entries not written (file cap reached or evicted while pending)
+ * @param totalBytes    encoded bytes transferred over all requests
+ * @param slowestMillis duration of the slowest request
+ * @param slowestUrl    URL of the slowest request
+ * @param hosts         statistics per host
+ */
+public record HarSummary(Path file, int entries, int written, int dropped, long totalBytes,
+                         double slowestMillis, String slowestUrl, Map<String, HostStats> hosts) {
+
+    /**
+     * Request statistics for a single host.
+     */
+    public record HostStats(int requests, long bytes, double totalMillis, double maxMillis) {
+
+        HostStats add(long entryBytes, double entryMillis) {
+            return new HostStats(requests + 1, bytes + entryBytes, totalMillis + entryMillis,
+                    Math.max(maxMillis, entryMillis));
+        }
+    }
+
+    /**
+     * Checks whether the recording breaches the configured attachment thresholds.
+     *
+     * @param maxBytes  total bytes threshold
+     * @param maxMillis slowest request threshold
+     * @return true if either threshold is exceeded
+     */
+    public boolean breaches(long maxBytes, long maxMillis) {
+        return totalBytes > maxBytes || slowestMillis > maxMillis;
+    }
+
+    /**
+     * Formats the summary as a table sorted by bytes per host.
+     *
+     * @return human readable summary
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Requests: %d (written: %d, dropped: %d), total: %.1f KB%n",
+                entries, written, dropped, totalBytes / 1024.0));
+        text.append(String.format("Slowest: %.0f ms %s%n%n", slowestMillis, slowestUrl));
+        text.append(String.format("%-45s %8s %12s %12s %10s%n", "host", "requests", "KB", "avg ms", "max ms"));
+
+        hosts.entrySet().stream()
+                .sorted(Map.Entry.<String, HostStats>comparingByValue(
+                        Comparator.comparingLong(HostStats::bytes)).reversed())
+                .forEach(entry -> {
+                    HostStats stats = entry.getValue();
+                    text.append(String.format("%-45s %8d %12.1f %12.0f %10.0f%n", entry.getKey(),
+                            stats.requests(), stats.bytes() / 1024.0,
+                            stats.totalMillis() / stats.requests(), stats.maxMillis()));
+                });
+        return text.toString();
+    }
+}
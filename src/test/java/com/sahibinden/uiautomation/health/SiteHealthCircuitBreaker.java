@@ -0,0 +1,189 @@
+package com.sahibinden.uiautomation.health;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import com.sahibinden.uiautomation.metrics.MetricsRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker shared by all tests of the JVM that need the site to be reachable.
+ * After a number of consecutive navigation preamble failures (site down, Cloudflare never clearing,
+ * page not loading) the circuit opens and tests are rejected before they create a browser session.
+ * Once the open period has passed a single test is admitted as a probe: its success closes the circuit,
+ * its failure opens it again for another period.
+ */
+@Slf4j
+public final class SiteHealthCircuitBreaker {
+
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+
+    private static volatile SiteHealthCircuitBreaker global;
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private String lastFailure;
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param config circuit breaker settings
+     */
+    public SiteHealthCircuitBreaker(TestConfig.SiteHealthConfig config) {
+        this.enabled = config.isEnabled();
+        this.failureThreshold = Math.max(1, config.getFailureThreshold());
+        this.openDuration = Duration.ofSeconds(config.getOpenSeconds());
+    }
+
+    /**
+     * Gets the circuit breaker shared by the tests of this JVM.
+     *
+     * @return global circuit breaker
+     */
+    public static SiteHealthCircuitBreaker global() {
+        if (global == null) {
+            synchronized (SiteHealthCircuitBreaker.class) {
+                if (global == null) {
+                    SiteHealthCircuitBreaker breaker = new SiteHealthCircuitBreaker(TestBootstrap.testConfig().getSiteHealth());
+                    METRICS.gauge("site_health_circuit_state", "Site health circuit: 0 closed, 1 half-open, 2 open",
+                            () -> breaker.state().ordinal());
+                    global = breaker;
+                }
+            }
+        }
+        return global;
+    }
+
+    /**
+     * Asks whether a test may start.
+     * Rejected permits carry the reason; the caller is expected to abort the test with it.
+     *
+     * @return permit to report the preamble outcome with
+     */
+    public synchronized Permit admit() {
+        if (!enabled || state == State.CLOSED) {
+            return new Permit(false, null);
+        }
+
+        if (state == State.OPEN) {
+            Duration remaining = openDuration.minusNanos(System.nanoTime() - openedAtNanos);
+            if (remaining.isNegative() || remaining.isZero()) {
+                state = State.HALF_OPEN;
+                log.info("Site health circuit half-open, admitting one probe test");
+                return new Permit(true, null);
+            }
+            return reject(String.format("Site health circuit open after %d consecutive navigation failures, "
+                    + "next probe in %d s. Last failure: %s", consecutiveFailures, remaining.toSeconds() + 1, lastFailure));
+        }
+
+        return reject("Site health circuit half-open, probe test in progress. Last failure: " + lastFailure);
+    }
+
+    /**
+     * Records a successful navigation preamble; closes the circuit.
+     *
+     * @param permit permit of the test
+     */
+    public synchronized void recordSuccess(Permit permit) {
+        if (!permit.resolve()) {
+            return;
+        }
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            log.info("✓ Site reachable again, site health circuit closed");
+            state = State.CLOSED;
+        }
+    }
+
+    /**
+     * Records a failed navigation preamble; opens the circuit at the threshold or when the probe failed.
+     *
+     * @param permit permit of the test
+     * @param cause  preamble failure
+     */
+    public synchronized void recordFailure(Permit permit, Throwable cause) {
+        if (!permit.resolve()) {
+            return;
+        }
+        consecutiveFailures++;
+        lastFailure = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        if (enabled && (permit.probe || (state == State.CLOSED && consecutiveFailures >= failureThreshold))) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+            log.error("❌ Site health circuit open for {} s after {} consecutive navigation failures: {}",
+                    openDuration.toSeconds(), consecutiveFailures, lastFailure);
+        }
+    }
+
+    /**
+     * Releases a permit whose test ended without reporting a preamble outcome.
+     * An unresolved probe lets the next test probe right away.
+     *
+     * @param permit permit of the test
+     */
+    public synchronized void release(Permit permit) {
+        if (permit.resolve() && permit.probe && state == State.HALF_OPEN) {
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime() - openDuration.toNanos();
+        }
+    }
+
+    /**
+     * Gets the current circuit state.
+     *
+     * @return circuit state
+     */
+    public synchronized State state() {
+        return state;
+    }
+
+    private Permit reject(String reason) {
+        METRICS.counter("site_health_rejections", "Tests aborted by the open site health circuit").increment();
+        return new Permit(false, reason);
+    }
+
+    /**
+     * Circuit states, in gauge order.
+     */
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    /**
+     * Admission of one test. Each permit reports at most one outcome.
+     */
+    public static final class Permit {
+
+        private final boolean probe;
+        private final String rejectionReason;
+        private boolean resolved;
+
+        private Permit(boolean probe, String rejectionReason) {
+            this.probe = probe;
+            this.rejectionReason = rejectionReason;
+            this.resolved = rejectionReason != null;
+        }
+
+        public boolean isRejected() {
+            return rejectionReason != null;
+        }
+
+        public String rejectionReason() {
+            return rejectionReason;
+        }
+
+        private boolean resolve() {
+            boolean first = !resolved;
+            resolved = true;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.sahibinden.uiautomation.hybrid;
+
+import com.sahibinden.uiautomation.config.TestConfig;
+import com.sahibinden.uiautomation.pages.YepyPage;
+import com.sahibinden.uiautomation.tracing.Span;
+import com.sahibinden.uiautomation.tracing.Tracer;
+import com.sahibinden.uiautomation.verification.PriceParser;
+import com.sahibinden.uiautomation.verification.StreamingPriceVerifier;
+import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Verifies listing pages over plain HTTP instead of rendering them in the browser.
+ * The browser session is still used for interaction-dependent steps (Cloudflare, cookie consent,
+ * navigation); its cookies and user agent are then reused by a shared, pooled HTTP client and
+ * the returned HTML is parsed with jsoup using the same XPath locators as YepyPage.
+ * Pages blocked for plain HTTP are loaded in the browser instead, and a sample of HTTP results
+ * is re-checked in the browser so both paths are known to agree.
+ */
+@Slf4j
+public class HybridListingEngine {
+
+    // One client for all sessions: connections are pooled and reused across tests
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final WebDriver driver;
+    private final YepyPage yepyPage;
+    private final TestConfig.HybridConfig config;
+    private final List<ListingPage> crossCheckSamples = new ArrayList<>();
+
+    private String cookieHeader;
+    private String userAgent;
+    private boolean browserOnly;
+
+    /**
+     * Creates an engine bound to a browser session and copies the session's cookies.
+     *
+     * @param driver   browser session that has already passed the interaction-dependent steps
+     * @param yepyPage page object used for browser fallbacks and cross-checks
+     * @param config   hybrid verification settings
+     */
+    public HybridListingEngine(WebDriver driver, YepyPage yepyPage, TestConfig.HybridConfig config) {
+        this.driver = driver;
+        this.yepyPage = yepyPage;
+        this.config = config;
+        syncSession();
+    }
+
+    /**
+     * Copies cookies and user agent from the browser session.
+     * Call again after the browser picks up new cookies (e.g. a renewed Cloudflare clearance).
+     */
+    public void syncSession() {
+        Set<Cookie> cookies = driver.manage().getCookies();
+        cookieHeader = cookies.stream()
+                .map(cookie -> cookie.getName() + "=" + cookie.getValue())
+                .collect(Collectors.joining("; "));
+        userAgent = (String) ((JavascriptExecutor) driver).executeScript("return navigator.userAgent;");
+        log.info("Synchronized {} browser cookies for HTTP verification", cookies.size());
+    }
+
+    /**
+     * Verifies prices on every results page of a listing, following next-page links over HTTP.
+     *
+     * @param listingUrl first results page
+     * @param ascending  expected order, null to skip the order check
+     * @param minPrice   inclusive lower bound, null for none
+     * @param maxPrice   inclusive upper bound, null for none
+     * @param maxPages   maximum number of result pages to walk
+     * @return verification result
+     */
+    @Step("Fiyatlar HTTP üzerinden doğrulanır: {listingUrl}")
+    public StreamingPriceVerifier.Result verifyPrices(String listingUrl, Boolean ascending, Double minPrice,
+                                                      Double maxPrice, int maxPages) {
+        StreamingPriceVerifier verifier = new StreamingPriceVerifier(ascending, minPrice, maxPrice);
+        String url = listingUrl;
+        int pageNumber = 0;
+
+        while (url != null && pageNumber < maxPages) {
+            ListingPage page = load(url);
+            pageNumber++;
+
+            verifier.startPage();
+            for (int i = 0; i < page.prices().size(); i++) {
+                verifier.accept(page.prices().get(i), i);
+            }
+
+            if (page.source() == Source.HTTP && shouldCrossCheck()) {
+                crossCheckSamples.add(page);
+            }
+            url = Objects.equals(page.nextUrl(), url) ? null : page.nextUrl();
+        }
+
+        StreamingPriceVerifier.Result result = verifier.result();
+        log.info("{} Checked {} prices on {} pages{}", result.passed() ? "✓" : "❌",
+                result.checked(), result.pages(), browserOnly ? " (browser fallback)" : " over HTTP");
+        return result;
+    }
+
+    /**
+     * Re-loads the sampled HTTP-verified pages in the browser and compares the extracted prices.
+     * The first HTTP-verified page is always sampled; further pages by the configured rate.
+     *
+     * @return one cross-check per sampled page
+     */
+    @Step("HTTP ve tarayıcı sonuçları örneklem üzerinde karşılaştırılır")
+    public List<CrossCheck> crossCheck() {
+        List<CrossCheck> checks = new ArrayList<>();
+        for (ListingPage page : crossCheckSamples) {
+            yepyPage.openListing(page.url());
+            List<Double> browserPrices = yepyPage.getAllPricesAsDoubles();
+            CrossCheck check = new CrossCheck(page.url(), page.prices(), browserPrices);
+            if (check.agrees()) {
+                log.info("✓ HTTP and browser agree on {} prices: {}", browserPrices.size(), page.url());
+            } else {
+                log.error("❌ HTTP and browser disagree on {}: {}", page.url(), check.describe());
+            }
+            checks.add(check);
+        }
+        crossCheckSamples.clear();
+        return checks;
+    }
+
+    private boolean shouldCrossCheck() {
+        return crossCheckSamples.isEmpty() || ThreadLocalRandom.current().nextDouble() < config.getCrossCheckRate();
+    }
+
+    private ListingPage load(String url) {
+        if (!browserOnly) {
+            ListingPage page = fetch(url);
+            if (page != null) {
+                return page;
+            }
+            // Once the site challenges plain HTTP, the rest of the run stays in the browser
+            browserOnly = true;
+        }
+        return loadInBrowser(url);
+    }
+
+    private ListingPage fetch(String url) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(config.getRequestTimeoutSeconds()))
+                .header("User-Agent", userAgent)
+                .header("Accept", "text/html,application/xhtml+xml")
+                .header("Accept-Language", "tr-TR,tr;q=0.9")
+                .GET();
+        if (!cookieHeader.isEmpty()) {
+            request.header("Cookie", cookieHeader);
+        }
+
+        Span span = Tracer.global().startSpan("HTTP GET", Span.Kind.CLIENT)
+                .setAttribute("http.request.method", "GET")
+                .setAttribute("url.full", url);
+        try {
+            HttpResponse<String> response = HTTP_CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            span.setAttribute("http.response.status_code", response.statusCode());
+            Document document = Jsoup.parse(response.body(), response.uri().toString());
+            if (isBlocked(response.statusCode(), document)) {
+                log.warn("Plain HTTP request was challenged (status {}), falling back to browser: {}",
+                        response.statusCode(), url);
+                span.recordError("challenged");
+                return null;
+            }
+
+            List<Double> prices = parsePrices(document.selectXpath(YepyPage.ALL_PRICE_ELEMENTS_XPATH));
+            Element next = document.selectXpath(YepyPage.NEXT_PAGE_LINK_XPATH).first();
+            String nextUrl = next != null && !next.absUrl("href").isEmpty() ? next.absUrl("href") : null;
+            log.debug("Fetched {} prices over HTTP: {}", prices.size(), url);
+            return new ListingPage(url, prices, nextUrl, Source.HTTP);
+        } catch (IOException e) {
+            log.warn("HTTP request failed, falling back to browser: {} ({})", url, e.getMessage());
+            span.recordError(e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching " + url, e);
+        } finally {
+            span.end();
+        }
+    }
+
+    private ListingPage loadInBrowser(String url) {
+        yepyPage.openListing(url);
+        return new ListingPage(url, yepyPage.getAllPricesAsDoubles(), yepyPage.getNextPageUrl(), Source.BROWSER);
+    }
+
+    private static boolean isBlocked(int statusCode, Document document) {
+        String title = document.title().toLowerCase(Locale.ROOT);
+        return statusCode == 403 || statusCode == 503 || statusCode == 429
+                || title.contains("just a moment") || title.contains("cloudflare")
+                || !document.select("#challenge-form, #cf-challenge-running").isEmpty();
+    }
+
+    private static List<Double> parsePrices(List<Element> elements) {
+        List<Double> prices = new ArrayList<>();
+        for (Element element : elements) {
+            String priceText = element.text().trim();
+            if (priceText.isEmpty()) {
+                continue;
+            }
+            try {
+                prices.add(PriceParser.parse(priceText));
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping unparseable price: {}", priceText);
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Where a listing page was loaded from.
+     */
+    public enum Source {
+        HTTP,
+        BROWSER
+    }
+
+    /**
+     * Prices extracted from one results page.
+     *
+     * @param url     page URL
+     * @param prices  prices in listing order
+     * @param nextUrl next results page, null on the last page
+     * @param source  how the page was loaded
+     */
+    public record ListingPage(String url, List<Double> prices, String nextUrl, Source source) {
+    }
+
+    /**
+     * Comparison of the prices extracted over HTTP and in the browser for the same page.
+     *
+     * @param url           page URL
+     * @param httpPrices    prices parsed from the HTTP response
+     * @param browserPrices prices read from the rendered page
+     */
+    public record CrossCheck(String url, List<Double> httpPrices, List<Double> browserPrices) {
+
+        public boolean agrees() {
+            return !browserPrices.isEmpty() && httpPrices.equals(browserPrices);
+        }
+
+        public String describe() {
+            return String.format("HTTP %d prices %s, browser %d prices %s",
+                    httpPrices.size(), httpPrices, browserPrices.size(), browserPrices);
+        }
+    }
+}
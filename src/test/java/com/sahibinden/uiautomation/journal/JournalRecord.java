@@ -0,0 +1,49 @@
+package com.sahibinden.uiautomation.journal;
+
+/**
+ * One entry of the run journal.
+ *
+ * @param sequence       global write order within the journal
+ * @param epochMillis    wall-clock time the record was written (end of the timed operation)
+ * @param durationNanos  duration of the operation, 0 for start markers
+ * @param threadId       writing thread
+ * @param type           record type
+ * @param status         outcome
+ * @param name           test, step, page action or driver name (truncated to the slot size)
+ */
+public record JournalRecord(long sequence, long epochMillis, long durationNanos, long threadId,
+                            Type type, Status status, String name) {
+
+    /**
+     * Start time derived from the record time and the duration.
+     *
+     * @return start time in epoch milliseconds
+     */
+    public long startEpochMillis() {
+        return epochMillis - durationNanos / 1_000_000;
+    }
+
+    /**
+     * Record types. The ordinal is stored in the journal, so new types are only appended.
+     */
+    public enum Type {
+        TEST_START,
+        TEST_END,
+        STEP_START,
+        STEP_END,
+        WAIT,
+        CLICK,
+        DRIVER_CREATE,
+        DRIVER_QUIT
+    }
+
+    /**
+     * Outcomes. The ordinal is stored in the journal, so new values are only appended.
+     */
+    public enum Status {
+        PASSED,
+        FAILED,
+        BROKEN,
+        SKIPPED
+    }
+}
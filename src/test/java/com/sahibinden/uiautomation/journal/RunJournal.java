@@ -0,0 +1,175 @@
+package com.sahibinden.uiautomation.journal;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only run journal in a memory-mapped ring file, one file per test JVM.
+ * Threads claim a fixed-size slot with a single atomic increment and write the record with plain
+ * stores; a release store of the slot's commit marker publishes it. There are no locks and no
+ * system calls on the write path, and since the data lives in the OS page cache it survives a
+ * crashed or killed JVM. When the ring is full the oldest records are overwritten.
+ * Read after the run with {@link RunJournalReader}.
+ */
+@Slf4j
+public final class RunJournal {
+
+    static final int MAGIC = 0x524A4E4C; // "RJNL"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int SLOT_SIZE = 128;
+
+    // Slot layout: commit marker (sequence + 1, 0 while being written), then the record fields
+    static final int COMMIT_OFFSET = 0;
+    static final int EPOCH_MILLIS_OFFSET = 8;
+    static final int DURATION_OFFSET = 16;
+    static final int THREAD_OFFSET = 24;
+    static final int TYPE_OFFSET = 32;
+    static final int STATUS_OFFSET = 33;
+    static final int NAME_LENGTH_OFFSET = 34;
+    static final int NAME_OFFSET = 36;
+    static final int MAX_NAME_BYTES = SLOT_SIZE - NAME_OFFSET;
+
+    static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final RunJournal DISABLED = new RunJournal(null, null, 0);
+
+    private static volatile RunJournal global;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int slotCount;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private RunJournal(Path file, MappedByteBuffer buffer, int slotCount) {
+        this.file = file;
+        this.buffer = buffer;
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * Gets the journal of this test JVM, creating its file on first use.
+     * Returns a disabled journal when test.journal.enabled is false or the file cannot be created.
+     *
+     * @return global journal
+     */
+    public static RunJournal global() {
+        if (global == null) {
+            synchronized (RunJournal.class) {
+                if (global == null) {
+                    global = open(TestBootstrap.testConfig().getJournal());
+                }
+            }
+        }
+        return global;
+    }
+
+    /**
+     * Creates a journal file in the configured directory, named after this process.
+     *
+     * @param config journal settings
+     * @return journal, disabled if turned off or the file cannot be created
+     */
+    static RunJournal open(TestConfig.JournalConfig config) {
+        if (!config.isEnabled()) {
+            return DISABLED;
+        }
+        Path file = Path.of(config.getDirectory(), "journal-" + ProcessHandle.current().pid() + ".bin");
+        int slotCount = Math.max(1024, config.getSlots());
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                // The mapping stays valid after the channel is closed
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                        HEADER_SIZE + (long) slotCount * SLOT_SIZE);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(8, SLOT_SIZE);
+                buffer.putInt(12, slotCount);
+                buffer.putLong(16, ProcessHandle.current().pid());
+                buffer.putLong(24, System.currentTimeMillis());
+                log.info("Run journal: {} ({} slots)", file, slotCount);
+                return new RunJournal(file, buffer, slotCount);
+            }
+        } catch (IOException e) {
+            log.warn("Run journal disabled, cannot create {}: {}", file, e.getMessage());
+            return DISABLED;
+        }
+    }
+
+    public boolean isEnabled() {
+        return buffer != null;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Writes a start marker.
+     *
+     * @param type start record type
+     * @param name test or step name
+     */
+    public void start(JournalRecord.Type type, String name) {
+        append(type, JournalRecord.Status.PASSED, 0, name);
+    }
+
+    /**
+     * Writes a record for a finished operation.
+     *
+     * @param type          record type
+     * @param status        outcome
+     * @param durationNanos operation duration
+     * @param name          test, step, action or driver name; truncated to fit the slot
+     */
+    public void append(JournalRecord.Type type, JournalRecord.Status status, long durationNanos, String name) {
+        if (buffer == null) {
+            return;
+        }
+        long seq = sequence.getAndIncrement();
+        int slot = HEADER_SIZE + (int) (seq % slotCount) * SLOT_SIZE;
+
+        // Readers skip the slot until the marker matches this sequence again
+        LONGS.setVolatile(buffer, slot + COMMIT_OFFSET, 0L);
+        buffer.putLong(slot + EPOCH_MILLIS_OFFSET, System.currentTimeMillis());
+        buffer.putLong(slot + DURATION_OFFSET, durationNanos);
+        buffer.putLong(slot + THREAD_OFFSET, Thread.currentThread().getId());
+        buffer.put(slot + TYPE_OFFSET, (byte) type.ordinal());
+        buffer.put(slot + STATUS_OFFSET, (byte) status.ordinal());
+        byte[] bytes = truncate(name);
+        buffer.putShort(slot + NAME_LENGTH_OFFSET, (short) bytes.length);
+        buffer.put(slot + NAME_OFFSET, bytes, 0, bytes.length);
+        LONGS.setRelease(buffer, slot + COMMIT_OFFSET, seq + 1);
+    }
+
+    private static byte[] truncate(String name) {
+        byte[] bytes = (name == null ? "" : name).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_NAME_BYTES) {
+            return bytes;
+        }
+        int length = MAX_NAME_BYTES;
+        // Do not cut a multi-byte character in half
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(bytes, 0, truncated, 0, length);
+        return truncated;
+    }
+}
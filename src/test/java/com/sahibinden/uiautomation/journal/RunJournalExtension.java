@@ -0,0 +1,41 @@
+package com.sahibinden.uiautomation.journal;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Writes test start and end records to the run journal. Like the tracing extension it brackets
+ * @BeforeEach and @AfterEach methods, so driver creation and teardown belong to the test.
+ */
+public class RunJournalExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RunJournalExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RunJournal journal = RunJournal.global();
+        if (journal.isEnabled()) {
+            journal.start(JournalRecord.Type.TEST_START, testName(context));
+            context.getStore(NAMESPACE).put("start", System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Long startNanos = context.getStore(NAMESPACE).remove("start", Long.class);
+        if (startNanos == null) {
+            return;
+        }
+        JournalRecord.Status status = context.getExecutionException()
+                .map(e -> e instanceof TestAbortedException ? JournalRecord.Status.SKIPPED
+                        : e instanceof AssertionError ? JournalRecord.Status.FAILED : JournalRecord.Status.BROKEN)
+                .orElse(JournalRecord.Status.PASSED);
+        RunJournal.global().append(JournalRecord.Type.TEST_END, status, System.nanoTime() - startNanos, testName(context));
+    }
+
+    private static String testName(ExtensionContext context) {
+        return context.getRequiredTestClass().getName() + "#" + context.getRequiredTestMethod().getName();
+    }
+}
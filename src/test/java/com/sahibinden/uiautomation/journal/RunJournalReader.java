@@ -0,0 +1,469 @@
+package com.sahibinden.uiautomation.journal;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Converts run journals into a JSON summary and Allure results.
+ * Every test is summarized with its steps and page actions. Tests that started but never finished,
+ * because the JVM crashed or was killed, get an Allure result with status broken and the steps
+ * recorded up to the crash, so they show up in the report instead of disappearing.
+ *
+ * Usage: ./gradlew journalReport (runs after test automatically)
+ */
+@Slf4j
+public final class RunJournalReader {
+
+    private static final JournalRecord.Type[] TYPES = JournalRecord.Type.values();
+    private static final JournalRecord.Status[] STATUSES = JournalRecord.Status.values();
+
+    private RunJournalReader() {
+    }
+
+    /**
+     * @param args journal directory, Allure results directory and summary file
+     */
+    public static void main(String[] args) throws IOException {
+        Path journalDirectory = Path.of(args.length > 0 ? args[0] : "build/journal");
+        Path allureResults = Path.of(args.length > 1 ? args[1] : "build/allure-results");
+        Path summaryFile = Path.of(args.length > 2 ? args[2] : "build/reports/run-journal.json");
+
+        if (!Files.isDirectory(journalDirectory)) {
+            log.info("No run journals in {}", journalDirectory);
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(journalDirectory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(".bin")).sorted().toList();
+        }
+
+        Map<Journal, List<TestRun>> runs = new LinkedHashMap<>();
+        for (Path file : files) {
+            Journal journal = read(file);
+            runs.put(journal, tests(journal));
+        }
+
+        int unfinished = 0;
+        for (List<TestRun> tests : runs.values()) {
+            for (TestRun test : tests) {
+                if (!test.finished) {
+                    writeAllureResult(allureResults, test);
+                    unfinished++;
+                }
+            }
+        }
+        writeSummary(summaryFile, runs);
+        log.info("{} Run journal: {} journals, {} tests, {} unfinished (written to {})",
+                unfinished == 0 ? "✓" : "❌", runs.size(), runs.values().stream().mapToInt(List::size).sum(),
+                unfinished, summaryFile);
+    }
+
+    /**
+     * Reads the committed records of a journal file in write order.
+     * Slots whose commit marker does not match their position (torn or never written) are skipped.
+     *
+     * @param file journal file
+     * @return journal contents
+     * @throws IOException if the file cannot be read or is not a journal
+     */
+    public static Journal read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < RunJournal.HEADER_SIZE || buffer.getInt(0) != RunJournal.MAGIC
+                || buffer.getInt(4) != RunJournal.VERSION || buffer.getInt(8) != RunJournal.SLOT_SIZE) {
+            throw new IOException("Not a run journal: " + file);
+        }
+        int slotCount = buffer.getInt(12);
+        long pid = buffer.getLong(16);
+        long createdEpochMillis = buffer.getLong(24);
+
+        List<JournalRecord> records = new ArrayList<>();
+        for (int index = 0; index < slotCount; index++) {
+            int slot = RunJournal.HEADER_SIZE + index * RunJournal.SLOT_SIZE;
+            if (slot + RunJournal.SLOT_SIZE > buffer.capacity()) {
+                break;
+            }
+            long commit = buffer.getLong(slot + RunJournal.COMMIT_OFFSET);
+            if (commit == 0 || (commit - 1) % slotCount != index) {
+                continue;
+            }
+            int type = buffer.get(slot + RunJournal.TYPE_OFFSET);
+            int status = buffer.get(slot + RunJournal.STATUS_OFFSET);
+            int nameLength = buffer.getShort(slot + RunJournal.NAME_LENGTH_OFFSET);
+            if (type < 0 || type >= TYPES.length || status < 0 || status >= STATUSES.length
+                    || nameLength < 0 || nameLength > RunJournal.MAX_NAME_BYTES) {
+                continue;
+            }
+            records.add(new JournalRecord(commit - 1,
+                    buffer.getLong(slot + RunJournal.EPOCH_MILLIS_OFFSET),
+                    buffer.getLong(slot + RunJournal.DURATION_OFFSET),
+                    buffer.getLong(slot + RunJournal.THREAD_OFFSET),
+                    TYPES[type], STATUSES[status],
+                    new String(buffer.array(), slot + RunJournal.NAME_OFFSET, nameLength, StandardCharsets.UTF_8)));
+        }
+        records.sort(Comparator.comparingLong(JournalRecord::sequence));
+        return new Journal(file, pid, createdEpochMillis, slotCount, records);
+    }
+
+    /**
+     * Rebuilds tests, their step trees and page actions from the records of each thread.
+     *
+     * @param journal journal contents
+     * @return tests in start order
+     */
+    public static List<TestRun> tests(Journal journal) {
+        List<TestRun> tests = new ArrayList<>();
+        Map<Long, TestRun> running = new HashMap<>();
+        Map<Long, Long> lastSeen = new HashMap<>();
+
+        for (JournalRecord record : journal.records()) {
+            lastSeen.put(record.threadId(), record.epochMillis());
+            TestRun test = running.get(record.threadId());
+            switch (record.type()) {
+                case TEST_START -> {
+                    if (test != null) {
+                        test.close(record.epochMillis());
+                    }
+                    TestRun started = new TestRun(record.name(), record.threadId(), record.epochMillis());
+                    running.put(record.threadId(), started);
+                    tests.add(started);
+                }
+                case TEST_END -> {
+                    if (test != null) {
+                        test.finish(record);
+                        running.remove(record.threadId());
+                    }
+                }
+                case STEP_START -> {
+                    if (test != null) {
+                        test.startStep(record);
+                    }
+                }
+                case STEP_END -> {
+                    if (test != null) {
+                        test.stopStep(record);
+                    }
+                }
+                default -> {
+                    if (test != null) {
+                        test.action(record);
+                    }
+                }
+            }
+        }
+
+        running.forEach((thread, test) -> test.close(lastSeen.get(thread)));
+        return tests;
+    }
+
+    private static void writeSummary(Path file, Map<Journal, List<TestRun>> runs) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (JsonGenerator json = new JsonFactory().createGenerator(file.toFile(), JsonEncoding.UTF8)) {
+            json.useDefaultPrettyPrinter();
+            json.writeStartObject();
+            json.writeArrayFieldStart("journals");
+            for (Map.Entry<Journal, List<TestRun>> run : runs.entrySet()) {
+                Journal journal = run.getKey();
+                json.writeStartObject();
+                json.writeStringField("file", journal.file().toString());
+                json.writeNumberField("pid", journal.pid());
+                json.writeNumberField("created", journal.createdEpochMillis());
+                json.writeNumberField("records", journal.records().size());
+                json.writeBooleanField("wrapped", journal.wrapped());
+                json.writeArrayFieldStart("tests");
+                for (TestRun test : run.getValue()) {
+                    writeTest(json, test);
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeTest(JsonGenerator json, TestRun test) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", test.name);
+        json.writeNumberField("thread", test.threadId);
+        json.writeStringField("status", test.status.name().toLowerCase());
+        json.writeBooleanField("finished", test.finished);
+        json.writeNumberField("start", test.start);
+        json.writeNumberField("durationMs", test.stop - test.start);
+        json.writeArrayFieldStart("steps");
+        for (StepNode step : test.steps) {
+            writeStep(json, step);
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("actions");
+        for (ActionStats action : test.actions.values()) {
+            json.writeStartObject();
+            json.writeStringField("type", action.type.name().toLowerCase());
+            json.writeStringField("name", action.name);
+            json.writeNumberField("count", action.count);
+            json.writeNumberField("failed", action.failed);
+            json.writeNumberField("totalMs", action.totalNanos / 1_000_000);
+            json.writeNumberField("maxMs", action.maxNanos / 1_000_000);
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private static void writeStep(JsonGenerator json, StepNode step) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", step.name);
+        json.writeStringField("status", step.status.name().toLowerCase());
+        json.writeNumberField("start", step.start);
+        json.writeNumberField("durationMs", step.stop - step.start);
+        if (!step.children.isEmpty()) {
+            json.writeArrayFieldStart("steps");
+            for (StepNode child : step.children) {
+                writeStep(json, child);
+            }
+            json.writeEndArray();
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeAllureResult(Path directory, TestRun test) throws IOException {
+        int separator = test.name.lastIndexOf('#');
+        String className = separator > 0 ? test.name.substring(0, separator) : test.name;
+        String methodName = separator > 0 ? test.name.substring(separator + 1) : test.name;
+        String fullName = className + "." + methodName;
+        String uuid = UUID.randomUUID().toString();
+
+        Files.createDirectories(directory);
+        try (JsonGenerator json = new JsonFactory().createGenerator(
+                directory.resolve(uuid + "-result.json").toFile(), JsonEncoding.UTF8)) {
+            json.writeStartObject();
+            json.writeStringField("uuid", uuid);
+            json.writeStringField("historyId", UUID.nameUUIDFromBytes(fullName.getBytes(StandardCharsets.UTF_8)).toString());
+            json.writeStringField("fullName", fullName);
+            json.writeStringField("name", methodName);
+            json.writeStringField("status", "broken");
+            json.writeObjectFieldStart("statusDetails");
+            json.writeStringField("message", "Test JVM ended before the test finished (recovered from run journal)");
+            json.writeEndObject();
+            json.writeStringField("stage", "finished");
+            json.writeNumberField("start", test.start);
+            json.writeNumberField("stop", test.stop);
+            json.writeArrayFieldStart("steps");
+            for (StepNode step : test.steps) {
+                writeAllureStep(json, step);
+            }
+            json.writeEndArray();
+            json.writeArrayFieldStart("labels");
+            writeLabel(json, "suite", className.substring(className.lastIndexOf('.') + 1));
+            writeLabel(json, "testClass", className);
+            writeLabel(json, "testMethod", methodName);
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+        log.warn("❌ Unfinished test recovered from run journal: {}", fullName);
+    }
+
+    private static void writeAllureStep(JsonGenerator json, StepNode step) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", step.name);
+        json.writeStringField("status", step.status.name().toLowerCase());
+        json.writeStringField("stage", "finished");
+        json.writeNumberField("start", step.start);
+        json.writeNumberField("stop", step.stop);
+        json.writeArrayFieldStart("steps");
+        for (StepNode child : step.children) {
+            writeAllureStep(json, child);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private static void writeLabel(JsonGenerator json, String name, String value) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", name);
+        json.writeStringField("value", value);
+        json.writeEndObject();
+    }
+
+    /**
+     * Committed records of one journal file.
+     *
+     * @param file               journal file
+     * @param pid                process id of the test JVM that wrote it
+     * @param createdEpochMillis journal creation time
+     * @param slotCount          ring size
+     * @param records            records in write order
+     */
+    public record Journal(Path file, long pid, long createdEpochMillis, int slotCount, List<JournalRecord> records) {
+
+        /**
+         * Whether the ring wrapped around, i.e. the oldest records were overwritten.
+         *
+         * @return true if records were lost to wrap-around
+         */
+        public boolean wrapped() {
+            return !records.isEmpty() && records.get(records.size() - 1).sequence() >= slotCount;
+        }
+    }
+
+    /**
+     * A test reconstructed from the journal.
+     */
+    public static final class TestRun {
+
+        private final String name;
+        private final long threadId;
+        private final long start;
+        private final List<StepNode> steps = new ArrayList<>();
+        private final Deque<StepNode> openSteps = new ArrayDeque<>();
+        private final Map<String, ActionStats> actions = new LinkedHashMap<>();
+        private long stop;
+        private boolean finished;
+        private JournalRecord.Status status = JournalRecord.Status.BROKEN;
+
+        TestRun(String name, long threadId, long start) {
+            this.name = name;
+            this.threadId = threadId;
+            this.start = start;
+            this.stop = start;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public boolean finished() {
+            return finished;
+        }
+
+        public JournalRecord.Status status() {
+            return status;
+        }
+
+        public List<StepNode> steps() {
+            return steps;
+        }
+
+        void startStep(JournalRecord record) {
+            StepNode step = new StepNode(record.name(), record.epochMillis());
+            (openSteps.isEmpty() ? steps : openSteps.peek().children).add(step);
+            openSteps.push(step);
+        }
+
+        void stopStep(JournalRecord record) {
+            // A step end without a matching start (lost to wrap-around) only closes matching steps
+            if (openSteps.stream().noneMatch(step -> step.name.equals(record.name()))) {
+                return;
+            }
+            while (!openSteps.isEmpty()) {
+                StepNode step = openSteps.pop();
+                boolean matches = step.name.equals(record.name());
+                step.close(record.epochMillis(), matches ? record.status() : JournalRecord.Status.BROKEN);
+                if (matches) {
+                    break;
+                }
+            }
+        }
+
+        void action(JournalRecord record) {
+            actions.computeIfAbsent(record.type() + " " + record.name(), key -> new ActionStats(record.type(), record.name()))
+                    .add(record);
+            stop = Math.max(stop, record.epochMillis());
+        }
+
+        void finish(JournalRecord record) {
+            closeSteps(record.epochMillis());
+            stop = record.epochMillis();
+            status = record.status();
+            finished = true;
+        }
+
+        void close(long lastSeenMillis) {
+            closeSteps(lastSeenMillis);
+            stop = Math.max(stop, lastSeenMillis);
+        }
+
+        private void closeSteps(long epochMillis) {
+            while (!openSteps.isEmpty()) {
+                openSteps.pop().close(epochMillis, JournalRecord.Status.BROKEN);
+            }
+        }
+    }
+
+    /**
+     * A step reconstructed from the journal; steps still open at the end are broken.
+     */
+    public static final class StepNode {
+
+        private final String name;
+        private final long start;
+        private final List<StepNode> children = new ArrayList<>();
+        private long stop;
+        private JournalRecord.Status status = JournalRecord.Status.BROKEN;
+
+        StepNode(String name, long start) {
+            this.name = name;
+            this.start = start;
+            this.stop = start;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public JournalRecord.Status status() {
+            return status;
+        }
+
+        public List<StepNode> children() {
+            return children;
+        }
+
+        void close(long epochMillis, JournalRecord.Status status) {
+            this.stop = epochMillis;
+            this.status = status;
+        }
+    }
+
+    private static final class ActionStats {
+
+        private final JournalRecord.Type type;
+        private final String name;
+        private int count;
+        private int failed;
+        private long totalNanos;
+        private long maxNanos;
+
+        ActionStats(JournalRecord.Type type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+
+        void add(JournalRecord record) {
+            count++;
+            if (record.status() != JournalRecord.Status.PASSED) {
+                failed++;
+            }
+            totalNanos += record.durationNanos();
+            maxNanos = Math.max(maxNanos, record.durationNanos());
+        }
+    }
+}
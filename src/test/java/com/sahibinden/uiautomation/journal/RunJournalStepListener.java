@@ -0,0 +1,42 @@
+package com.sahibinden.uiautomation.journal;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+
+/**
+ * Writes Allure step boundaries (@Step methods and Allure.step calls) to the run journal.
+ * Registered through META-INF/services/io.qameta.allure.listener.LifecycleListener.
+ */
+public class RunJournalStepListener implements StepLifecycleListener {
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        RunJournal journal = RunJournal.global();
+        if (journal.isEnabled()) {
+            journal.start(JournalRecord.Type.STEP_START, result.getName());
+        }
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        RunJournal journal = RunJournal.global();
+        if (!journal.isEnabled()) {
+            return;
+        }
+        long durationNanos = result.getStart() != null && result.getStop() != null
+                ? (result.getStop() - result.getStart()) * 1_000_000 : 0;
+        journal.append(JournalRecord.Type.STEP_END, status(result.getStatus()), durationNanos, result.getName());
+    }
+
+    private static JournalRecord.Status status(Status status) {
+        if (status == null || status == Status.PASSED) {
+            return JournalRecord.Status.PASSED;
+        }
+        return switch (status) {
+            case FAILED -> JournalRecord.Status.FAILED;
+            case SKIPPED -> JournalRecord.Status.SKIPPED;
+            default -> JournalRecord.Status.BROKEN;
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.sahibinden.uiautomation.journal;
+
+import com.sahibinden.uiautomation.config.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Offline tests of the journal ring file: records written by {@link RunJournal} and decoded by {@link RunJournalReader}.
+ */
+@DisplayName("RunJournal Birim Testleri")
+class RunJournalTest {
+
+    private static final int SLOTS = 1024;
+
+    @TempDir
+    Path directory;
+
+    private RunJournal open() {
+        TestConfig.JournalConfig config = new TestConfig.JournalConfig();
+        config.setDirectory(directory.toString());
+        config.setSlots(SLOTS);
+        RunJournal journal = RunJournal.open(config);
+        assertThat(journal.isEnabled()).isTrue();
+        return journal;
+    }
+
+    @Test
+    @DisplayName("Kayıtlar yazıldıkları sırayla ve alanlarıyla geri okunmalı")
+    void recordsRoundTrip() throws IOException {
+        RunJournal journal = open();
+        journal.start(JournalRecord.Type.TEST_START, "YepyTest#testSort");
+        journal.append(JournalRecord.Type.CLICK, JournalRecord.Status.FAILED, 1_500_000, "Cihaz Ara Link");
+        journal.append(JournalRecord.Type.TEST_END, JournalRecord.Status.PASSED, 2_000_000_000L, "YepyTest#testSort");
+
+        RunJournalReader.Journal read = RunJournalReader.read(journal.file());
+
+        assertThat(read.pid()).isEqualTo(ProcessHandle.current().pid());
+        assertThat(read.slotCount()).isEqualTo(SLOTS);
+        assertThat(read.wrapped()).isFalse();
+        assertThat(read.records()).extracting(JournalRecord::sequence).containsExactly(0L, 1L, 2L);
+        JournalRecord click = read.records().get(1);
+        assertThat(click.type()).isEqualTo(JournalRecord.Type.CLICK);
+        assertThat(click.status()).isEqualTo(JournalRecord.Status.FAILED);
+        assertThat(click.durationNanos()).isEqualTo(1_500_000);
+        assertThat(click.threadId()).isEqualTo(Thread.currentThread().getId());
+        assertThat(click.name()).isEqualTo("Cihaz Ara Link");
+    }
+
+    @Test
+    @DisplayName("Slota sığmayan isim çok baytlı karakter bölünmeden kısaltılmalı")
+    void longNamesAreTruncatedOnCharacterBoundary() throws IOException {
+        RunJournal journal = open();
+        // One ASCII byte, then two bytes per character, so the byte limit falls inside a character
+        String name = "a" + "ş".repeat(RunJournal.MAX_NAME_BYTES);
+        journal.append(JournalRecord.Type.WAIT, JournalRecord.Status.PASSED, 0, name);
+
+        String read = RunJournalReader.read(journal.file()).records().get(0).name();
+
+        assertThat(read).isEqualTo("a" + "ş".repeat((RunJournal.MAX_NAME_BYTES - 1) / 2));
+    }
+
+    @Test
+    @DisplayName("Halka dolunca en eski kayıtların üzerine yazılmalı")
+    void ringWrapsAroundKeepingNewestRecords() throws IOException {
+        RunJournal journal = open();
+        int written = SLOTS + 476;
+        for (int i = 0; i < written; i++) {
+            journal.append(JournalRecord.Type.WAIT, JournalRecord.Status.PASSED, i, "wait " + i);
+        }
+
+        RunJournalReader.Journal read = RunJournalReader.read(journal.file());
+
+        assertThat(read.wrapped()).isTrue();
+        assertThat(read.records()).extracting(JournalRecord::sequence)
+                .containsExactlyElementsOf(LongStream.range(written - SLOTS, written).boxed().toList());
+        assertThat(read.records().get(0).name()).isEqualTo("wait " + (written - SLOTS));
+        assertThat(read.records().get(SLOTS - 1).name()).isEqualTo("wait " + (written - 1));
+    }
+
+    @Test
+    @DisplayName("Yarım kalmış veya başka konuma ait slotlar atlanmalı")
+    void tornSlotsAreSkipped() throws IOException {
+        RunJournal journal = open();
+        for (int i = 0; i < 4; i++) {
+            journal.append(JournalRecord.Type.CLICK, JournalRecord.Status.PASSED, 0, "click " + i);
+        }
+        // Slot 1 as left by a writer killed mid-record; slot 2 with the marker of sequence SLOTS + 1,
+        // which belongs to slot 1
+        writeCommitMarker(journal.file(), 1, 0);
+        writeCommitMarker(journal.file(), 2, SLOTS + 2);
+
+        List<JournalRecord> records = RunJournalReader.read(journal.file()).records();
+
+        assertThat(records).extracting(JournalRecord::name).containsExactly("click 0", "click 3");
+    }
+
+    @Test
+    @DisplayName("Bitmeden kesilen test, açık adımlarıyla broken olarak çıkarılmalı")
+    void unfinishedTestIsBroken() throws IOException {
+        RunJournal journal = open();
+        journal.start(JournalRecord.Type.TEST_START, "YepyTest#testPriceFilter");
+        journal.start(JournalRecord.Type.STEP_START, "Fiyat filtresi uygula");
+        journal.append(JournalRecord.Type.CLICK, JournalRecord.Status.PASSED, 0, "Filtrele");
+
+        List<RunJournalReader.TestRun> tests = RunJournalReader.tests(RunJournalReader.read(journal.file()));
+
+        assertThat(tests).hasSize(1);
+        RunJournalReader.TestRun test = tests.get(0);
+        assertThat(test.finished()).isFalse();
+        assertThat(test.status()).isEqualTo(JournalRecord.Status.BROKEN);
+        assertThat(test.steps()).extracting(RunJournalReader.StepNode::name).containsExactly("Fiyat filtresi uygula");
+        assertThat(test.steps().get(0).status()).isEqualTo(JournalRecord.Status.BROKEN);
+    }
+
+    // Overwrites a slot's commit marker through the file, as another process would see a torn write
+    private static void writeCommitMarker(Path file, int index, long marker) throws IOException {
+        ByteBuffer value = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, marker);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(value, RunJournal.HEADER_SIZE + (long) index * RunJournal.SLOT_SIZE + RunJournal.COMMIT_OFFSET);
+        }
+    }
+}
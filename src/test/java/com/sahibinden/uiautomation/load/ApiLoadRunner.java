@@ -0,0 +1,66 @@
+package com.sahibinden.uiautomation.load;
+
+import com.sahibinden.uiautomation.api.AccuWeatherApiClient;
+import com.sahibinden.uiautomation.api.AdaptiveRateLimiter;
+import com.sahibinden.uiautomation.api.ApiResponseCache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Runs the load generator from the command line.
+ * Without load.base-url a local StubWeatherServer is started, so the run needs no network or API quota.
+ * The client is created without response cache and rate limiter, so every scheduled request reaches the server.
+ *
+ * Usage: ./gradlew apiLoadTest [-Pload.model=open|closed] [-Pload.rate=50] [-Pload.concurrency=8]
+ *        [-Pload.duration-seconds=30] [-Pload.base-url=...] [-Pload.stub.service-millis=20]
+ *        [-Pload.stub.stall-every-seconds=0] [-Pload.stub.stall-millis=500]
+ */
+@Slf4j
+public final class ApiLoadRunner {
+
+    private static final Path REPORT_DIRECTORY = Path.of("build/reports/load");
+    private static final String DEFAULT_LOCATIONS = "349727,318251,328328,623,226396,178087";
+
+    private ApiLoadRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGenerator.Settings settings = new LoadGenerator.Settings(
+                LoadGenerator.Model.valueOf(System.getProperty("load.model", "open").toUpperCase(Locale.ROOT)),
+                Double.parseDouble(System.getProperty("load.rate", "50")),
+                Integer.getInteger("load.concurrency", 8),
+                Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30)),
+                Integer.getInteger("load.max-in-flight", 10_000),
+                Arrays.stream(System.getProperty("load.locations", DEFAULT_LOCATIONS).split(","))
+                        .map(String::trim).filter(key -> !key.isEmpty()).toList());
+
+        String baseUrl = System.getProperty("load.base-url", "");
+        StubWeatherServer stub = null;
+        if (baseUrl.isBlank()) {
+            stub = new StubWeatherServer(
+                    Duration.ofMillis(Integer.getInteger("load.stub.service-millis", 20)),
+                    Duration.ofSeconds(Integer.getInteger("load.stub.stall-every-seconds", 0)),
+                    Duration.ofMillis(Integer.getInteger("load.stub.stall-millis", 500)),
+                    Integer.getInteger("load.stub.threads", 64));
+            baseUrl = stub.baseUrl();
+        }
+
+        try {
+            AccuWeatherApiClient client = new AccuWeatherApiClient(baseUrl, ApiResponseCache.disabled(),
+                    AdaptiveRateLimiter.unlimited("currentconditions"));
+            LoadReport report = new LoadGenerator(client).run(settings);
+            report.write(REPORT_DIRECTORY);
+            if (report.succeeded() == 0) {
+                throw new IllegalStateException("No request succeeded against " + baseUrl);
+            }
+        } finally {
+            if (stub != null) {
+                stub.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.sahibinden.uiautomation.load;
+
+import com.sahibinden.uiautomation.api.AccuWeatherApiClient;
+import com.sahibinden.uiautomation.api.CurrentConditions;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives AccuWeatherApiClient current conditions requests for a fixed duration.
+ * <ul>
+ *   <li>Open model: requests start at the target rate regardless of how many are outstanding,
+ *       like independent users arriving.</li>
+ *   <li>Closed model: a fixed number of users each send a request, wait for it and send the next,
+ *       optionally paced so that together they send at the target rate.</li>
+ * </ul>
+ * Latency is measured from the time a request was scheduled to start, not from when it was
+ * actually sent. When the server stalls, requests that should have been sent during the stall
+ * therefore count their waiting time, which corrects coordinated omission. Service time
+ * (send to response) is recorded separately for comparison.
+ */
+@Slf4j
+public class LoadGenerator {
+
+    /**
+     * Load model.
+     */
+    public enum Model {
+        OPEN,
+        CLOSED
+    }
+
+    /**
+     * Load settings.
+     *
+     * @param model         open or closed model
+     * @param ratePerSecond target request rate; in the closed model zero means back-to-back without pacing
+     * @param concurrency   users of the closed model
+     * @param duration      time requests are started for
+     * @param maxInFlight   outstanding requests of the open model before further starts are dropped
+     * @param locationKeys  location keys requested in turn
+     */
+    public record Settings(Model model, double ratePerSecond, int concurrency, Duration duration, int maxInFlight,
+                           List<String> locationKeys) {
+    }
+
+    private final AccuWeatherApiClient client;
+
+    /**
+     * Creates a generator.
+     *
+     * @param client client under load, normally without cache and rate limiter
+     */
+    public LoadGenerator(AccuWeatherApiClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Runs the load and waits for outstanding requests.
+     *
+     * @param settings load settings
+     * @return latency report
+     */
+    public LoadReport run(Settings settings) {
+        Recording recording = new Recording();
+        long startNanos = System.nanoTime();
+        log.info("Starting {} model load for {} s (rate {}/s, concurrency {})", settings.model(),
+                settings.duration().toSeconds(), settings.ratePerSecond(), settings.concurrency());
+        if (settings.model() == Model.OPEN) {
+            runOpen(settings, recording, startNanos);
+        } else {
+            runClosed(settings, recording, startNanos);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        return new LoadReport(settings, elapsedNanos, recording.sent.get(), recording.succeeded.get(),
+                recording.failed.get(), recording.dropped.get(), recording.latency, recording.serviceTime);
+    }
+
+    private void runOpen(Settings settings, Recording recording, long startNanos) {
+        if (settings.ratePerSecond() <= 0) {
+            throw new IllegalArgumentException("The open model needs a target rate");
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond());
+        long endNanos = startNanos + settings.duration().toNanos();
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            awaitNanos(intendedNanos);
+            if (!inFlight.tryAcquire()) {
+                // The generator cannot keep more requests open; counted instead of silently slowing down
+                recording.dropped.incrementAndGet();
+                continue;
+            }
+            send(settings, i, intendedNanos, recording).whenComplete((ignored, error) -> inFlight.release());
+        }
+
+        try {
+            if (!inFlight.tryAcquire(settings.maxInFlight(), 60, TimeUnit.SECONDS)) {
+                log.warn("Requests still outstanding 60 s after the load ended");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for outstanding requests", e);
+        }
+    }
+
+    private void runClosed(Settings settings, Recording recording, long startNanos) {
+        long endNanos = startNanos + settings.duration().toNanos();
+        // Each user paces itself to its share of the target rate; users start staggered over one interval
+        long intervalNanos = settings.ratePerSecond() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) * settings.concurrency() / settings.ratePerSecond())
+                : 0;
+        AtomicLong sequence = new AtomicLong();
+
+        List<Thread> users = new ArrayList<>();
+        for (int user = 0; user < settings.concurrency(); user++) {
+            long userStartNanos = startNanos + intervalNanos * user / settings.concurrency();
+            Thread thread = new Thread(() -> {
+                long intendedNanos = userStartNanos;
+                while (intendedNanos < endNanos) {
+                    awaitNanos(intendedNanos);
+                    send(settings, sequence.getAndIncrement(), intendedNanos, recording).join();
+                    intendedNanos = intervalNanos > 0 ? intendedNanos + intervalNanos : System.nanoTime();
+                }
+            }, "load-user-" + user);
+            thread.start();
+            users.add(thread);
+        }
+        for (Thread user : users) {
+            try {
+                user.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for load users", e);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> send(Settings settings, long sequence, long intendedNanos, Recording recording) {
+        String locationKey = settings.locationKeys().get((int) (sequence % settings.locationKeys().size()));
+        recording.sent.incrementAndGet();
+        long sentNanos = System.nanoTime();
+        CompletableFuture<CurrentConditions> request;
+        try {
+            request = client.getCurrentConditionsAsync(locationKey);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        return request.handle((conditions, error) -> {
+            long doneNanos = System.nanoTime();
+            if (error != null) {
+                recording.failed.incrementAndGet();
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                log.debug("Request for {} failed: {}", locationKey, cause.getMessage());
+            } else {
+                recording.succeeded.incrementAndGet();
+                recording.latency.recordValue(TimeUnit.NANOSECONDS.toMicros(doneNanos - intendedNanos));
+                recording.serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(doneNanos - sentNanos));
+            }
+            return null;
+        });
+    }
+
+    private static void awaitNanos(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static final class Recording {
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+    }
+}
@@ -0,0 +1,96 @@
+package com.sahibinden.uiautomation.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a load run.
+ *
+ * @param settings    load settings
+ * @param elapsedNanos time from the first scheduled request until all requests completed
+ * @param sent        requests sent
+ * @param succeeded   requests answered with usable conditions
+ * @param failed      requests that failed or returned an error status
+ * @param dropped     open model starts skipped because too many requests were outstanding
+ * @param latency     scheduled start to response in microseconds, corrected for coordinated omission
+ * @param serviceTime send to response in microseconds
+ */
+@Slf4j
+public record LoadReport(LoadGenerator.Settings settings, long elapsedNanos, long sent, long succeeded, long failed,
+                         long dropped, Histogram latency, Histogram serviceTime) {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    /**
+     * Achieved throughput of successful requests.
+     *
+     * @return requests per second
+     */
+    public double throughput() {
+        return succeeded / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Formats the summary with percentile tables of both histograms.
+     *
+     * @return report text
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%s model, target %.1f/s, concurrency %d, duration %d s%n",
+                settings.model(), settings.ratePerSecond(), settings.concurrency(), settings.duration().toSeconds()));
+        report.append(String.format(Locale.ROOT, "sent %d, succeeded %d, failed %d, dropped %d, throughput %.1f/s%n",
+                sent, succeeded, failed, dropped, throughput()));
+        report.append(String.format("%-14s %10s %10s%n", "percentile", "latency", "service"));
+        for (double percentile : PERCENTILES) {
+            report.append(String.format(Locale.ROOT, "%-14s %10.2f %10.2f%n", "p" + trim(percentile),
+                    millis(latency.getValueAtPercentile(percentile)), millis(serviceTime.getValueAtPercentile(percentile))));
+        }
+        report.append(String.format(Locale.ROOT, "%-14s %10.2f %10.2f%n", "max",
+                millis(latency.getMaxValue()), millis(serviceTime.getMaxValue())));
+        report.append(String.format(Locale.ROOT, "%-14s %10.2f %10.2f%n", "mean",
+                latency.getMean() / 1_000.0, serviceTime.getMean() / 1_000.0));
+        report.append("(milliseconds; latency counts from the scheduled start, service from the actual send)")
+                .append(System.lineSeparator());
+        return report.toString();
+    }
+
+    /**
+     * Writes the summary and the full latency distribution (HdrHistogram .hgrm format, milliseconds).
+     *
+     * @param directory report directory
+     * @return summary file
+     * @throws IOException if the files cannot be written
+     */
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        String name = "api-load-" + settings.model().name().toLowerCase(Locale.ROOT);
+        Path summary = directory.resolve(name + ".txt");
+        Files.writeString(summary, format());
+
+        ByteArrayOutputStream distribution = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(distribution, true, StandardCharsets.UTF_8)) {
+            latency.outputPercentileDistribution(out, 1_000.0);
+        }
+        Files.write(directory.resolve(name + ".hgrm"), distribution.toByteArray());
+        log.info("Load report ({}):{}{}", summary, System.lineSeparator(), format());
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static String trim(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
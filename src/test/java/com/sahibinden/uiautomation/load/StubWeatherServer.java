@@ -0,0 +1,137 @@
+package com.sahibinden.uiautomation.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the AccuWeather current conditions endpoint, for offline load generation.
+ * Answers GET /currentconditions/v1/{locationKey} after a fixed service time. It can also stall
+ * periodically: every stall interval the whole server freezes for the stall duration, like a GC
+ * pause or a lock on the real service. A load generator that only measures from send time hides
+ * such stalls (coordinated omission); the corrected latencies show them.
+ */
+@Slf4j
+public class StubWeatherServer implements AutoCloseable {
+
+    private static final String PATH = "/currentconditions/v1/";
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final long serviceTimeNanos;
+    private final long stallIntervalNanos;
+    private final long stallNanos;
+    private final long startedAtNanos = System.nanoTime();
+    private final AtomicLong requests = new AtomicLong();
+
+    /**
+     * Starts the server on a free loopback port.
+     *
+     * @param serviceTime   time spent on every request
+     * @param stallInterval period of server-wide stalls, zero for none
+     * @param stall         length of each stall
+     * @param threads       request handler threads
+     * @throws IOException if the server cannot be bound
+     */
+    public StubWeatherServer(Duration serviceTime, Duration stallInterval, Duration stall, int threads) throws IOException {
+        this.serviceTimeNanos = serviceTime.toNanos();
+        this.stallIntervalNanos = stallInterval.toNanos();
+        this.stallNanos = Math.min(stall.toNanos(), stallIntervalNanos);
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stub-weather-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(workers);
+        server.start();
+        log.info("Stub weather server listening on {} (service time {} ms, stall {} ms every {} s)", baseUrl(),
+                serviceTime.toMillis(), stall.toMillis(), stallInterval.toSeconds());
+    }
+
+    /**
+     * Base URL to pass to AccuWeatherApiClient.
+     *
+     * @return http://127.0.0.1:port
+     */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            String locationKey = exchange.getRequestURI().getPath().substring(PATH.length());
+            if (!"GET".equals(exchange.getRequestMethod()) || locationKey.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            pause(stallRemainingNanos() + serviceTimeNanos);
+
+            byte[] body = body(locationKey).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.getResponseHeaders().add("ETag", "\"" + locationKey + "\"");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Requests arriving during a stall wait until it ends
+    private long stallRemainingNanos() {
+        if (stallIntervalNanos <= 0 || stallNanos <= 0) {
+            return 0;
+        }
+        long phase = (System.nanoTime() - startedAtNanos) % stallIntervalNanos;
+        long stallStart = stallIntervalNanos - stallNanos;
+        return phase >= stallStart ? stallIntervalNanos - phase : 0;
+    }
+
+    private static void pause(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String body(String locationKey) {
+        double temperature = 10 + Math.floorMod(locationKey.hashCode(), 150) / 10.0;
+        return "[{\"LocalObservationDateTime\":\"2024-01-15T14:25:00+03:00\",\"EpochTime\":1705317900,"
+                + "\"WeatherText\":\"Partly sunny\",\"WeatherIcon\":3,\"HasPrecipitation\":false,"
+                + "\"PrecipitationType\":null,\"IsDayTime\":true,"
+                + "\"Temperature\":{\"Metric\":{\"Value\":" + temperature + ",\"Unit\":\"C\",\"UnitType\":17},"
+                + "\"Imperial\":{\"Value\":" + Math.round(temperature * 1.8 + 32) + ",\"Unit\":\"F\",\"UnitType\":18}},"
+                + "\"MobileLink\":\"http://m.accuweather.com/en/tr/stub/" + locationKey + "/current-weather/"
+                + locationKey + "\",\"Link\":\"http://www.accuweather.com/en/tr/stub/" + locationKey
+                + "/current-weather/" + locationKey + "\"}]";
+    }
+}
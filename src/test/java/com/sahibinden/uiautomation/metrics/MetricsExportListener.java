@@ -0,0 +1,38 @@
+package com.sahibinden.uiautomation.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Exports the global metrics registry when the test run finishes.
+ * Registered through META-INF/services, so it runs for every JUnit Platform launch.
+ * The output directory defaults to build/metrics and can be changed with -Dtest.metrics.dir.
+ */
+@Slf4j
+public class MetricsExportListener implements TestExecutionListener {
+
+    public static final String DIRECTORY_PROPERTY = "test.metrics.dir";
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        MetricsRegistry registry = MetricsRegistry.global();
+        if (registry.counters().isEmpty() && registry.timers().isEmpty() && registry.gauges().isEmpty()) {
+            return;
+        }
+
+        Path directory = Path.of(System.getProperty(DIRECTORY_PROPERTY, "build/metrics"));
+        MetricsExporter exporter = new MetricsExporter(registry);
+        try {
+            exporter.writeOpenMetrics(directory.resolve("metrics.om"));
+            exporter.writePrometheusText(directory.resolve("metrics.prom"));
+            exporter.writeJson(directory.resolve("metrics.json"));
+            log.info("✓ Metrics exported to {}", directory.toAbsolutePath());
+        } catch (IOException e) {
+            log.error("❌ Failed to export metrics to {}", directory, e);
+        }
+    }
+}
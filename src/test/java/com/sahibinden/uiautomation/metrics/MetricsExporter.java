@@ -0,0 +1,213 @@
+package com.sahibinden.uiautomation.metrics;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a registry snapshot as OpenMetrics text, as Prometheus text (format 0.0.4) and as a JSON summary.
+ * Timers are exported as summaries with fixed quantiles in seconds. The Prometheus text file is the one
+ * for the node_exporter textfile collector, which does not parse OpenMetrics counters.
+ * Files are written to a temporary file and moved into place, so a scraper never reads a partial file.
+ */
+public final class MetricsExporter {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99};
+    private static final double MICROS_PER_SECOND = 1_000_000.0;
+
+    private final MetricsRegistry registry;
+
+    public MetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Writes the OpenMetrics text exposition.
+     *
+     * @param file target file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeOpenMetrics(Path file) throws IOException {
+        writeAtomically(file, out -> {
+            try (Writer writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+                writeCounters(writer, true);
+                writeGauges(writer);
+                writeTimers(writer);
+                writer.write("# EOF\n");
+            }
+        });
+    }
+
+    /**
+     * Writes the Prometheus text exposition (format 0.0.4), e.g. for the node_exporter textfile collector.
+     * Unlike OpenMetrics, the counter family is named after its _total sample and there is no EOF marker.
+     *
+     * @param file target file
+     * @throws IOException if the file cannot be written
+     */
+    public void writePrometheusText(Path file) throws IOException {
+        writeAtomically(file, out -> {
+            try (Writer writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+                writeCounters(writer, false);
+                writeGauges(writer);
+                writeTimers(writer);
+            }
+        });
+    }
+
+    /**
+     * Writes a JSON summary with counts, sums and percentiles in milliseconds.
+     *
+     * @param file target file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeJson(Path file) throws IOException {
+        writeAtomically(file, out -> {
+            try (JsonGenerator json = new JsonFactory().createGenerator(out.toFile(), JsonEncoding.UTF8)) {
+                json.useDefaultPrettyPrinter();
+                json.writeStartObject();
+                json.writeStringField("timestamp", Instant.now().toString());
+
+                json.writeArrayFieldStart("counters");
+                for (var entry : new TreeMap<>(registry.counters()).entrySet()) {
+                    writeJsonId(json, entry.getKey());
+                    json.writeNumberField("value", entry.getValue().count());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+
+                json.writeArrayFieldStart("gauges");
+                for (var entry : new TreeMap<>(registry.gauges()).entrySet()) {
+                    writeJsonId(json, entry.getKey());
+                    json.writeNumberField("value", entry.getValue().getAsDouble());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+
+                json.writeArrayFieldStart("timers");
+                for (var entry : new TreeMap<>(registry.timers()).entrySet()) {
+                    Histogram histogram = entry.getValue().snapshot();
+                    writeJsonId(json, entry.getKey());
+                    json.writeNumberField("count", histogram.getTotalCount());
+                    json.writeNumberField("meanMs", histogram.getMean() / 1_000.0);
+                    json.writeNumberField("p50Ms", histogram.getValueAtPercentile(50) / 1_000.0);
+                    json.writeNumberField("p90Ms", histogram.getValueAtPercentile(90) / 1_000.0);
+                    json.writeNumberField("p95Ms", histogram.getValueAtPercentile(95) / 1_000.0);
+                    json.writeNumberField("p99Ms", histogram.getValueAtPercentile(99) / 1_000.0);
+                    json.writeNumberField("maxMs", histogram.getMaxValue() / 1_000.0);
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+
+                json.writeEndObject();
+            }
+        });
+    }
+
+    private void writeCounters(Writer writer, boolean openMetrics) throws IOException {
+        for (var family : byName(registry.counters()).entrySet()) {
+            String sample = family.getKey() + "_total";
+            writeHeader(writer, openMetrics ? family.getKey() : sample, family.getKey(), "counter");
+            for (var entry : family.getValue().entrySet()) {
+                writeSample(writer, sample, entry.getKey().labels(), null, entry.getValue().count());
+            }
+        }
+    }
+
+    private void writeGauges(Writer writer) throws IOException {
+        for (var family : byName(registry.gauges()).entrySet()) {
+            writeHeader(writer, family.getKey(), family.getKey(), "gauge");
+            for (Map.Entry<MetricsRegistry.MetricId, DoubleSupplier> entry : family.getValue().entrySet()) {
+                writeSample(writer, family.getKey(), entry.getKey().labels(), null, entry.getValue().getAsDouble());
+            }
+        }
+    }
+
+    private void writeTimers(Writer writer) throws IOException {
+        for (var family : byName(registry.timers()).entrySet()) {
+            String name = family.getKey();
+            writeHeader(writer, name, name, "summary");
+            for (var entry : family.getValue().entrySet()) {
+                Map<String, String> labels = entry.getKey().labels();
+                Histogram histogram = entry.getValue().snapshot();
+                for (double quantile : QUANTILES) {
+                    writeSample(writer, name, labels, "quantile=\"" + quantile + "\"",
+                            histogram.getValueAtPercentile(quantile * 100) / MICROS_PER_SECOND);
+                }
+                writeSample(writer, name + "_sum", labels, null,
+                        histogram.getMean() * histogram.getTotalCount() / MICROS_PER_SECOND);
+                writeSample(writer, name + "_count", labels, null, histogram.getTotalCount());
+            }
+        }
+    }
+
+    private void writeHeader(Writer writer, String name, String metric, String type) throws IOException {
+        writer.write("# HELP " + name + " " + escape(registry.help(metric)) + "\n");
+        writer.write("# TYPE " + name + " " + type + "\n");
+    }
+
+    private static void writeSample(Writer writer, String name, Map<String, String> labels, String extraLabel,
+                                    double value) throws IOException {
+        String labelText = labels.entrySet().stream()
+                .map(label -> label.getKey() + "=\"" + escape(label.getValue()) + "\"")
+                .collect(Collectors.joining(","));
+        if (extraLabel != null) {
+            labelText = labelText.isEmpty() ? extraLabel : labelText + "," + extraLabel;
+        }
+        writer.write(name + (labelText.isEmpty() ? "" : "{" + labelText + "}") + " " + formatValue(value) + "\n");
+    }
+
+    private static void writeJsonId(JsonGenerator json, MetricsRegistry.MetricId id) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", id.name());
+        json.writeObjectFieldStart("labels");
+        for (var label : id.labels().entrySet()) {
+            json.writeStringField(label.getKey(), label.getValue());
+        }
+        json.writeEndObject();
+    }
+
+    private static <M> Map<String, Map<MetricsRegistry.MetricId, M>> byName(Map<MetricsRegistry.MetricId, M> metrics) {
+        Map<String, Map<MetricsRegistry.MetricId, M>> families = new TreeMap<>();
+        metrics.forEach((id, metric) -> families.computeIfAbsent(id.name(), name -> new TreeMap<>()).put(id, metric));
+        return families;
+    }
+
+    private static String formatValue(double value) {
+        return value == Math.rint(value) && !Double.isInfinite(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static void writeAtomically(Path file, FileWriter content) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            content.write(temp);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FileWriter {
+        void write(Path file) throws IOException;
+    }
+}
@@ -0,0 +1,123 @@
+package com.sahibinden.uiautomation.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Process-wide registry of counters, timers and gauges.
+ * Metrics are identified by name plus label pairs; the same name and labels always
+ * return the same instance, so call sites can look metrics up on every use.
+ * Exported once per run by {@link MetricsExportListener}.
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<MetricId, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<MetricId, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MetricId, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, String> help = new ConcurrentHashMap<>();
+
+    MetricsRegistry() {
+    }
+
+    /**
+     * Gets the registry shared by the whole test JVM.
+     *
+     * @return global registry
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Gets or creates a counter.
+     *
+     * @param name        metric name without the _total suffix (e.g. "webdriver_create_failures")
+     * @param description help text
+     * @param labels      label name/value pairs
+     * @return counter
+     */
+    public Counter counter(String name, String description, String... labels) {
+        return register(counters, name, description, labels, id -> new Counter());
+    }
+
+    /**
+     * Gets or creates a timer.
+     *
+     * @param name        metric name including the unit (e.g. "webdriver_create_seconds")
+     * @param description help text
+     * @param labels      label name/value pairs
+     * @return timer
+     */
+    public Timer timer(String name, String description, String... labels) {
+        return register(timers, name, description, labels, id -> new Timer());
+    }
+
+    /**
+     * Registers a gauge read at export time. Re-registering replaces the supplier.
+     *
+     * @param name        metric name
+     * @param description help text
+     * @param value       current value supplier
+     * @param labels      label name/value pairs
+     */
+    public void gauge(String name, String description, DoubleSupplier value, String... labels) {
+        help.putIfAbsent(name, description);
+        gauges.put(MetricId.of(name, labels), value);
+    }
+
+    public Map<MetricId, Counter> counters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public Map<MetricId, Timer> timers() {
+        return Collections.unmodifiableMap(timers);
+    }
+
+    public Map<MetricId, DoubleSupplier> gauges() {
+        return Collections.unmodifiableMap(gauges);
+    }
+
+    public String help(String name) {
+        return help.getOrDefault(name, name);
+    }
+
+    private <M> M register(Map<MetricId, M> metrics, String name, String description, String[] labels,
+                           Function<MetricId, M> factory) {
+        help.putIfAbsent(name, description);
+        return metrics.computeIfAbsent(MetricId.of(name, labels), factory);
+    }
+
+    /**
+     * Metric name plus ordered labels.
+     *
+     * @param name   metric name
+     * @param labels label name to value, in declaration order
+     */
+    public record MetricId(String name, Map<String, String> labels) implements Comparable<MetricId> {
+
+        static MetricId of(String name, String... labels) {
+            if (labels.length % 2 != 0) {
+                throw new IllegalArgumentException("Labels must be name/value pairs: " + List.of(labels));
+            }
+            Map<String, String> labelMap = new LinkedHashMap<>();
+            for (int i = 0; i < labels.length; i += 2) {
+                labelMap.put(labels[i], Objects.requireNonNullElse(labels[i + 1], ""));
+            }
+            return new MetricId(name, Collections.unmodifiableMap(labelMap));
+        }
+
+        @Override
+        public int compareTo(MetricId other) {
+            int byName = name.compareTo(other.name);
+            return byName != 0 ? byName : labels.toString().compareTo(other.labels.toString());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sahibinden.uiautomation.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Latency distribution backed by an HdrHistogram.
+ * Values are recorded in microseconds with 3 significant digits, so percentiles stay accurate
+ * from sub-millisecond waits up to multi-minute driver creation without configuring ranges.
+ */
+public final class Timer {
+
+    private final Histogram histogram = new ConcurrentHistogram(3);
+
+    Timer() {
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return sample to stop when the operation completes
+     */
+    public Sample start() {
+        return new Sample(this, System.nanoTime());
+    }
+
+    /**
+     * Times the operation, recording its duration even if it throws.
+     *
+     * @param operation operation to time
+     * @return operation result
+     */
+    public <T> T record(Supplier<T> operation) {
+        Sample sample = start();
+        try {
+            return operation.get();
+        } finally {
+            sample.stop();
+        }
+    }
+
+    public void record(Duration duration) {
+        recordNanos(duration.toNanos());
+    }
+
+    public void recordNanos(long nanos) {
+        histogram.recordValue(Math.max(0, nanos / 1_000));
+    }
+
+    /**
+     * Gets a consistent copy of the recorded values.
+     *
+     * @return histogram snapshot, values in microseconds
+     */
+    public Histogram snapshot() {
+        return histogram.copy();
+    }
+
+    /**
+     * A running timing started by {@link #start()}.
+     */
+    public record Sample(Timer timer, long startNanos) {
+
+        /**
+         * Records the elapsed time.
+         *
+         * @return elapsed nanoseconds
+         */
+        public long stop() {
+            long elapsed = System.nanoTime() - startNanos;
+            timer.recordNanos(elapsed);
+            return elapsed;
+        }
+    }
+}
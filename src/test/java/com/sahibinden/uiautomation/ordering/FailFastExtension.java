@@ -0,0 +1,41 @@
+package com.sahibinden.uiautomation.ordering;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Skips the remaining tests of the JVM once test.ordering.fail-fast-after tests have failed.
+ * Together with the history ordering, likely failures run first, so a broken build stops after
+ * a few minutes instead of running every remaining slow UI test into the same failure.
+ * Disabled with the default of 0.
+ */
+@Slf4j
+public class FailFastExtension implements ExecutionCondition, TestWatcher {
+
+    private static final AtomicInteger FAILURES = new AtomicInteger();
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        int limit = TestBootstrap.testConfig().getOrdering().getFailFastAfter();
+        int failures = FAILURES.get();
+        if (limit > 0 && failures >= limit) {
+            return ConditionEvaluationResult.disabled("Fail-fast: " + failures + " tests already failed");
+        }
+        return ConditionEvaluationResult.enabled("Fail-fast limit not reached");
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        int failures = FAILURES.incrementAndGet();
+        int limit = TestBootstrap.testConfig().getOrdering().getFailFastAfter();
+        if (limit > 0 && failures == limit) {
+            log.warn("❌ {} tests failed, skipping the remaining tests (test.ordering.fail-fast-after={})", failures, limit);
+        }
+    }
+}
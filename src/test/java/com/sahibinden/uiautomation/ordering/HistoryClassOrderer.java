@@ -0,0 +1,41 @@
+package com.sahibinden.uiautomation.ordering;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders test classes by the first of their test methods in {@link TestHistory} order, so the class
+ * holding the most recent failure starts first. Configured as junit.jupiter.testclass.order.default
+ * in junit-platform.properties.
+ */
+public class HistoryClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        TestHistory history = TestHistory.global();
+        if (!history.isEnabled()) {
+            return;
+        }
+        Map<ClassDescriptor, TestHistory.Priority> priorities = new HashMap<>();
+        context.getClassDescriptors().forEach(descriptor ->
+                priorities.put(descriptor, priority(history, descriptor.getTestClass())));
+        context.getClassDescriptors().sort(Comparator.comparing(priorities::get, TestHistory.ORDER));
+    }
+
+    private static TestHistory.Priority priority(TestHistory history, Class<?> testClass) {
+        List<TestHistory.Priority> methods = AnnotationSupport
+                .findAnnotatedMethods(testClass, Test.class, HierarchyTraversalMode.TOP_DOWN).stream()
+                .map(method -> history.priority(testClass, method.getName()))
+                .toList();
+        return TestHistory.Priority.first(methods);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sahibinden.uiautomation.ordering;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Orders the test methods of a class by their {@link TestHistory} priority: recently failed first,
+ * then changed and new tests, then the most failure signal per second of runtime.
+ * Configured as junit.jupiter.testmethod.order.default in junit-platform.properties.
+ * Only the submission order changes; methods still run in the configured parallel execution mode.
+ */
+public class HistoryMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        TestHistory history = TestHistory.global();
+        if (!history.isEnabled()) {
+            return;
+        }
+        Map<MethodDescriptor, TestHistory.Priority> priorities = new HashMap<>();
+        context.getMethodDescriptors().forEach(method ->
+                priorities.put(method, history.priority(context.getTestClass(), method.getMethod().getName())));
+        context.getMethodDescriptors().sort(Comparator.comparing(priorities::get, TestHistory.ORDER));
+    }
+
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        // The interface default is SAME_THREAD, which would serialize the methods of every class
+        return Optional.empty();
+    }
+}
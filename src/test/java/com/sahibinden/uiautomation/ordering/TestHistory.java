@@ -0,0 +1,197 @@
+package com.sahibinden.uiautomation.ordering;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test outcomes of previous runs, used to order tests so that failures show up early:
+ * <ol>
+ *   <li>tests that failed in one of the last recent-runs runs, most recent failure first;</li>
+ *   <li>tests whose class changed within the last change-window-runs runs, and tests without history;</li>
+ *   <li>all others by failure probability per second of runtime, so fast tests with high signal come first.</li>
+ * </ol>
+ * Within the first two groups faster tests go first. Outcomes of this JVM are merged into the store
+ * at the end of the run by {@link TestHistoryListener}.
+ */
+@Slf4j
+public final class TestHistory {
+
+    /**
+     * Run order of priorities. Tests without any distinguishing history compare equal, so a stable sort
+     * keeps JUnit's default order for them (deterministic, but not source order).
+     */
+    public static final Comparator<Priority> ORDER = Comparator.comparing(Priority::tier)
+            .thenComparingInt(Priority::runsSinceFailure)
+            .thenComparing(Comparator.comparingDouble(Priority::signalPerSecond).reversed())
+            .thenComparingLong(priority -> priority.expectedMillis() < 0 ? Long.MAX_VALUE : priority.expectedMillis());
+
+    private static volatile TestHistory global;
+
+    private final TestConfig.OrderingConfig config;
+    private final TestHistoryStore store;
+    private final Map<String, TestHistoryStore.Entry> history;
+    private final Map<String, TestHistoryStore.Run> runs = new ConcurrentHashMap<>();
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    TestHistory(TestConfig.OrderingConfig config, TestHistoryStore store, Map<String, TestHistoryStore.Entry> history) {
+        this.config = config;
+        this.store = store;
+        this.history = history;
+    }
+
+    /**
+     * Gets the history of this test JVM, loading the store on first use.
+     *
+     * @return global history
+     */
+    public static TestHistory global() {
+        if (global == null) {
+            synchronized (TestHistory.class) {
+                if (global == null) {
+                    TestConfig.OrderingConfig config = TestBootstrap.testConfig().getOrdering();
+                    TestHistoryStore store = new TestHistoryStore(Path.of(config.getStore()), config.getMaxSamples());
+                    Map<String, TestHistoryStore.Entry> history = Map.of();
+                    if (config.isEnabled()) {
+                        try {
+                            history = store.load();
+                        } catch (IOException e) {
+                            log.warn("Failed to read test history {}: {}", config.getStore(), e.getMessage());
+                        }
+                    }
+                    global = new TestHistory(config, store, history);
+                }
+            }
+        }
+        return global;
+    }
+
+    /**
+     * Gets the history if it was used in this JVM.
+     *
+     * @return global history or null
+     */
+    static TestHistory globalIfInitialized() {
+        return global;
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Ordering priority of a test method.
+     *
+     * @param testClass  class declaring or inheriting the test
+     * @param methodName test method name
+     * @return priority, compare with {@link #ORDER}
+     */
+    public Priority priority(Class<?> testClass, String methodName) {
+        TestHistoryStore.Entry entry = history.get(testId(testClass.getName(), methodName));
+        if (entry == null) {
+            return new Priority(Tier.CHANGED, 0, 0, -1);
+        }
+        long expectedMillis = entry.medianMillis();
+        int runsSinceFailure = entry.runsSinceFailure();
+        if (runsSinceFailure >= 0 && runsSinceFailure < config.getRecentRuns()) {
+            return new Priority(Tier.RECENTLY_FAILED, runsSinceFailure, 0, expectedMillis);
+        }
+        boolean changed = !fingerprint(testClass).equals(entry.fingerprint())
+                || entry.runsSinceChange() < config.getChangeWindowRuns();
+        if (changed) {
+            return new Priority(Tier.CHANGED, 0, 0, expectedMillis);
+        }
+        double signalPerSecond = entry.failureRate() / Math.max(expectedMillis, 1) * 1_000;
+        return new Priority(Tier.STABLE, 0, signalPerSecond, expectedMillis);
+    }
+
+    /**
+     * Records the outcome of a test of this run.
+     *
+     * @param className  test class name
+     * @param methodName test method name
+     * @param passed     whether the test passed
+     * @param millis     test duration
+     */
+    void record(String className, String methodName, boolean passed, long millis) {
+        String fingerprint;
+        try {
+            fingerprint = fingerprint(Class.forName(className, false, Thread.currentThread().getContextClassLoader()));
+        } catch (ClassNotFoundException e) {
+            fingerprint = "";
+        }
+        runs.put(testId(className, methodName), new TestHistoryStore.Run(passed, millis, fingerprint));
+    }
+
+    /**
+     * Merges the outcomes of this run into the store.
+     *
+     * @throws IOException if the store cannot be updated
+     */
+    void persist() throws IOException {
+        if (config.isEnabled() && !runs.isEmpty()) {
+            store.merge(new TreeMap<>(runs));
+        }
+    }
+
+    // Hash of the compiled class, so any edit of the test class counts as a change
+    private String fingerprint(Class<?> testClass) {
+        return fingerprints.computeIfAbsent(testClass.getName(), name -> {
+            try (InputStream in = testClass.getResourceAsStream(testClass.getSimpleName() + ".class")) {
+                if (in == null) {
+                    return "";
+                }
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(in.readAllBytes());
+                return HexFormat.of().formatHex(digest, 0, 8);
+            } catch (IOException | NoSuchAlgorithmException e) {
+                return "";
+            }
+        });
+    }
+
+    private static String testId(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+
+    /**
+     * Ordering group of a test.
+     */
+    public enum Tier {
+        RECENTLY_FAILED,
+        CHANGED,
+        STABLE
+    }
+
+    /**
+     * Where a test goes in the run order.
+     *
+     * @param tier             ordering group
+     * @param runsSinceFailure runs since the latest failure, for recently failed tests
+     * @param signalPerSecond  failure probability per second of runtime, for stable tests
+     * @param expectedMillis   median duration, -1 without history
+     */
+    public record Priority(Tier tier, int runsSinceFailure, double signalPerSecond, long expectedMillis) {
+
+        /**
+         * Best of several priorities, e.g. of the methods of a class.
+         *
+         * @param priorities priorities to combine
+         * @return the first priority in run order, or a changed priority if there are none
+         */
+        public static Priority first(List<Priority> priorities) {
+            return priorities.stream().min(ORDER).orElse(new Priority(Tier.CHANGED, 0, 0, -1));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.sahibinden.uiautomation.ordering;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the outcome and duration of every test method and merges them into the test history
+ * at the end of the run. Aborted tests (e.g. rejected by the site health circuit) and skipped ones
+ * are not recorded. Also logs how long the run took to report its first failure.
+ * Registered through META-INF/services.
+ */
+@Slf4j
+public class TestHistoryListener implements TestExecutionListener {
+
+    private final Map<String, Long> startNanos = new ConcurrentHashMap<>();
+    private final AtomicLong firstFailureNanos = new AtomicLong(-1);
+    private volatile long planStartNanos;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        planStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            startNanos.put(testIdentifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        Long start = startNanos.remove(testIdentifier.getUniqueId());
+        if (start == null || result.getStatus() == TestExecutionResult.Status.ABORTED
+                || !(testIdentifier.getSource().orElse(null) instanceof MethodSource source)) {
+            return;
+        }
+        long now = System.nanoTime();
+        boolean passed = result.getStatus() == TestExecutionResult.Status.SUCCESSFUL;
+        if (!passed) {
+            firstFailureNanos.compareAndSet(-1, now - planStartNanos);
+        }
+        TestHistory.global().record(source.getClassName(), source.getMethodName(), passed,
+                TimeUnit.NANOSECONDS.toMillis(now - start));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        TestHistory history = TestHistory.globalIfInitialized();
+        if (history == null) {
+            return;
+        }
+        long firstFailure = firstFailureNanos.get();
+        if (firstFailure >= 0) {
+            log.info("❌ First test failure reported {} s into the run", TimeUnit.NANOSECONDS.toSeconds(firstFailure));
+        }
+        try {
+            history.persist();
+        } catch (IOException e) {
+            log.warn("Failed to store test history: {}", e.getMessage());
+        }
+    }
+}
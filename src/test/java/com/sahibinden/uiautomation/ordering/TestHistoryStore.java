@@ -0,0 +1,168 @@
+package com.sahibinden.uiautomation.ordering;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tab separated file of recent test outcomes, one line per test:
+ * {@code class#method<TAB>outcomes<TAB>millis,millis,...<TAB>fingerprint<TAB>runsSinceChange}.
+ * Outcomes are P (passed) and F (failed), newest last; durations belong to the same runs.
+ * The fingerprint identifies the compiled test class, so a changed class restarts runsSinceChange.
+ * Like the wait history, concurrent test JVMs merge under a file lock and replace the file atomically.
+ */
+class TestHistoryStore {
+
+    private final Path file;
+    private final int maxSamples;
+
+    TestHistoryStore(Path file, int maxSamples) {
+        this.file = file;
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * Reads all tests.
+     *
+     * @return test id to history; empty if the store does not exist
+     * @throws IOException if the file cannot be read
+     */
+    Map<String, Entry> load() throws IOException {
+        Map<String, Entry> history = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return history;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length != 5 || fields[0].isEmpty()) {
+                continue;
+            }
+            try {
+                List<Long> durations = fields[2].isEmpty() ? new ArrayList<>() : Arrays.stream(fields[2].split(","))
+                        .map(Long::parseLong)
+                        .collect(Collectors.toCollection(ArrayList::new));
+                history.put(fields[0], new Entry(fields[1], durations, fields[3], Integer.parseInt(fields[4])));
+            } catch (NumberFormatException e) {
+                // Skip corrupt lines instead of discarding the whole history
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Appends the outcomes of this run to the stored history.
+     *
+     * @param runs test id to outcome of this JVM
+     * @throws IOException if the store cannot be updated
+     */
+    void merge(Map<String, Run> runs) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path lockFile = directory.resolve(file.getFileName() + ".lock");
+
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            Map<String, Entry> history = new TreeMap<>(load());
+            runs.forEach((test, run) -> history.put(test, history.getOrDefault(test, Entry.EMPTY).plus(run, maxSamples)));
+
+            StringBuilder content = new StringBuilder();
+            history.forEach((test, entry) -> content.append(test).append('\t')
+                    .append(entry.outcomes()).append('\t')
+                    .append(entry.durations().stream().map(String::valueOf).collect(Collectors.joining(","))).append('\t')
+                    .append(entry.fingerprint()).append('\t')
+                    .append(entry.runsSinceChange()).append('\n'));
+
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.writeString(temp, content, StandardCharsets.UTF_8);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * Outcome of one test in this run.
+     *
+     * @param passed      whether the test passed
+     * @param millis      test duration
+     * @param fingerprint fingerprint of the test class that ran
+     */
+    record Run(boolean passed, long millis, String fingerprint) {
+    }
+
+    /**
+     * Stored history of one test.
+     *
+     * @param outcomes        P/F per run, newest last
+     * @param durations       durations in milliseconds, newest last
+     * @param fingerprint     fingerprint of the test class in the latest run
+     * @param runsSinceChange runs recorded since the fingerprint last changed
+     */
+    record Entry(String outcomes, List<Long> durations, String fingerprint, int runsSinceChange) {
+
+        static final Entry EMPTY = new Entry("", List.of(), "", 0);
+
+        Entry plus(Run run, int maxSamples) {
+            String newOutcomes = outcomes + (run.passed() ? 'P' : 'F');
+            List<Long> newDurations = new ArrayList<>(durations);
+            newDurations.add(run.millis());
+            if (newOutcomes.length() > maxSamples) {
+                newOutcomes = newOutcomes.substring(newOutcomes.length() - maxSamples);
+            }
+            if (newDurations.size() > maxSamples) {
+                newDurations.subList(0, newDurations.size() - maxSamples).clear();
+            }
+            // The run that introduced a change is the first one counted against it
+            int runs = Objects.equals(fingerprint, run.fingerprint()) ? runsSinceChange + 1 : 1;
+            return new Entry(newOutcomes, newDurations, run.fingerprint(), runs);
+        }
+
+        /**
+         * Runs since the latest failure.
+         *
+         * @return 0 if the latest run failed, -1 if no stored run failed
+         */
+        int runsSinceFailure() {
+            int last = outcomes.lastIndexOf('F');
+            return last < 0 ? -1 : outcomes.length() - 1 - last;
+        }
+
+        /**
+         * Failure probability smoothed towards one half, so tests with little history are not taken as certain.
+         *
+         * @return (failures + 1) / (runs + 2)
+         */
+        double failureRate() {
+            long failures = outcomes.chars().filter(outcome -> outcome == 'F').count();
+            return (failures + 1) / (double) (outcomes.length() + 2);
+        }
+
+        /**
+         * Median duration of the stored runs.
+         *
+         * @return milliseconds, -1 without runs
+         */
+        long medianMillis() {
+            if (durations.isEmpty()) {
+                return -1;
+            }
+            List<Long> sorted = durations.stream().sorted().toList();
+            return sorted.get(sorted.size() / 2);
+        }
+    }
+}
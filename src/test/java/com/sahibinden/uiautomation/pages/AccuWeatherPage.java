@@ -0,0 +1,90 @@
+package com.sahibinden.uiautomation.pages;
+
+import com.sahibinden.uiautomation.processor.Locator;
+import com.sahibinden.uiautomation.processor.PageObject;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Page Object for an AccuWeather location page.
+ * Used from worker threads by the multi-location comparison, so it does not declare Allure steps;
+ * callers report steps on the test thread.
+ */
+@Slf4j
+@PageObject
+public class AccuWeatherPage extends BasePage {
+
+    @Locator("Sıcaklık")
+    public static final By TEMPERATURE_DISPLAY = By.xpath("//div[@class='display-temp']");
+
+    private static final int TEMPERATURE_WAIT_TIMEOUT = 20;
+    private static final Pattern TEMPERATURE = Pattern.compile("([-+]?\\d+(?:\\.\\d+)?)");
+
+    /**
+     * Constructor.
+     *
+     * @param driver WebDriver instance
+     */
+    public AccuWeatherPage(WebDriver driver) {
+        super(driver);
+    }
+
+    /**
+     * Opens a location page and waits until the current temperature is rendered.
+     *
+     * @param link location page URL from the API response
+     * @return this page object for method chaining
+     * @throws TimeoutException if no temperature is displayed within the timeout
+     */
+    public AccuWeatherPage open(String link) {
+        navigateTo(link);
+        if (!waitForCondition("temperature", TEMPERATURE_WAIT_TIMEOUT, () -> readTemperature() != null)) {
+            throw new TimeoutException(String.format("No temperature displayed within %d seconds: %s",
+                    TEMPERATURE_WAIT_TIMEOUT, link));
+        }
+        return this;
+    }
+
+    /**
+     * Gets the displayed current temperature.
+     *
+     * @return temperature in °C, null if not displayed
+     */
+    public Double getTemperature() {
+        return readTemperature();
+    }
+
+    private Double readTemperature() {
+        try {
+            List<WebElement> elements = driver.findElements(TEMPERATURE_DISPLAY);
+            if (elements.isEmpty()) {
+                return null;
+            }
+            WebElement element = elements.get(0);
+            Double temperature = parseTemperature(element.getText());
+            if (temperature == null) {
+                // Hidden or not yet laid out text is not returned by getText()
+                temperature = parseTemperature(element.getAttribute("textContent"));
+            }
+            return temperature;
+        } catch (StaleElementReferenceException e) {
+            return null;
+        }
+    }
+
+    static Double parseTemperature(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        Matcher matcher = TEMPERATURE.matcher(text.replace("°", "").replace("C", "").trim());
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : null;
+    }
+}
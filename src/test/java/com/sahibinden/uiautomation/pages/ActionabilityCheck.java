@@ -0,0 +1,169 @@
+package com.sahibinden.uiautomation.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks in a single script call whether an element can receive a user action.
+ * The element is located in the page (for id, name, class, tag, CSS and XPath locators), then checked
+ * for being attached, visible, enabled, stable over two animation frames and not covered by another
+ * element at its center. An element whose center is outside the viewport or covered (e.g. clipped by a
+ * scrolling container) is first scrolled to the center and then checked. Each poll is one round trip
+ * instead of the find/isDisplayed/isEnabled sequence of ExpectedConditions.elementToBeClickable,
+ * and a failed poll says why.
+ */
+final class ActionabilityCheck {
+
+    private static final Set<String> SCRIPT_LOCATORS = Set.of("id", "name", "className", "tagName", "cssSelector", "xpath");
+
+    private static final String SCRIPT = """
+            const type = arguments[0];
+            const value = arguments[1];
+            const hitTest = arguments[2];
+            const done = arguments[arguments.length - 1];
+            const first = list => list.length ? list[0] : null;
+            const find = () => {
+                switch (type) {
+                    case 'element': return value;
+                    case 'id': return document.getElementById(value);
+                    case 'name': return first(document.getElementsByName(value));
+                    case 'className': return first(document.getElementsByClassName(value));
+                    case 'tagName': return first(document.getElementsByTagName(value));
+                    case 'cssSelector': return document.querySelector(value);
+                    case 'xpath': return document.evaluate(value, document, null,
+                            XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                }
+                return null;
+            };
+            const describe = node => node.tagName.toLowerCase() + (node.id ? '#' + node.id : '')
+                    + (typeof node.className === 'string' && node.className.trim()
+                            ? '.' + node.className.trim().split(/\\s+/).join('.') : '');
+            // Falls back to a timer where animation frames are throttled (e.g. background windows)
+            const nextFrame = callback => {
+                let fired = false;
+                const fire = () => { if (!fired) { fired = true; callback(); } };
+                requestAnimationFrame(fire);
+                setTimeout(fire, 100);
+            };
+
+            const element = find();
+            if (!element) {
+                return done({ state: 'not_found' });
+            }
+            if (!element.isConnected) {
+                return done({ state: 'detached' });
+            }
+            const style = getComputedStyle(element);
+            let rect = element.getBoundingClientRect();
+            if (style.visibility !== 'visible' || style.display === 'none' || rect.width === 0 || rect.height === 0) {
+                return done({ state: 'not_visible' });
+            }
+            if (element.disabled || element.closest('fieldset[disabled]') || element.getAttribute('aria-disabled') === 'true') {
+                return done({ state: 'disabled' });
+            }
+            // Hit-tests the center of a box; elementFromPoint only sees points inside the viewport
+            const hitAt = box => {
+                const x = box.x + box.width / 2;
+                const y = box.y + box.height / 2;
+                if (x < 0 || y < 0 || x >= innerWidth || y >= innerHeight) {
+                    return { inViewport: false, hit: null, receivesClick: false };
+                }
+                const hit = document.elementFromPoint(x, y);
+                const label = hit && hit.closest('label');
+                const receivesClick = !!hit && (hit === element || element.contains(hit)
+                        || (!!label && (label.control === element || label.contains(element))));
+                return { inViewport: true, hit: hit, receivesClick: receivesClick };
+            };
+            // Like WebDriver's click, scroll elements straddling the fold or clipped by a scrolling container
+            const before = hitAt(rect);
+            if (!before.inViewport || (hitTest && !before.receivesClick)) {
+                element.scrollIntoView({ block: 'center', inline: 'center' });
+                rect = element.getBoundingClientRect();
+            }
+
+            nextFrame(() => nextFrame(() => {
+                const after = element.getBoundingClientRect();
+                if (after.x !== rect.x || after.y !== rect.y || after.width !== rect.width || after.height !== rect.height) {
+                    return done({ state: 'not_stable' });
+                }
+                if (hitTest) {
+                    const check = hitAt(after);
+                    if (!check.receivesClick) {
+                        return done({ state: 'obscured', detail: check.hit ? describe(check.hit) : 'outside viewport' });
+                    }
+                }
+                done({ state: 'actionable', element: element });
+            }));
+            """;
+
+    private ActionabilityCheck() {
+    }
+
+    /**
+     * Runs one poll of the check.
+     *
+     * @param driver  WebDriver instance
+     * @param locator element locator, null when an element is given
+     * @param element already located element, null when a locator is given
+     * @param hitTest whether the element must receive pointer events at its center
+     * @return poll result
+     */
+    @SuppressWarnings("unchecked")
+    static Result poll(WebDriver driver, By locator, WebElement element, boolean hitTest) {
+        String type = "element";
+        Object value = element;
+        if (locator != null) {
+            String[] parts = locator.toString().split(": ", 2);
+            String locatorType = parts[0].startsWith("By.") ? parts[0].substring(3) : parts[0];
+            if (parts.length == 2 && SCRIPT_LOCATORS.contains(locatorType)) {
+                type = locatorType;
+                value = parts[1];
+            } else {
+                // e.g. By.linkText - located through WebDriver, checked in the page; the implicit wait
+                // would otherwise hold every poll for an absent element
+                List<WebElement> found;
+                WebDriver.Timeouts timeouts = driver.manage().timeouts();
+                Duration implicitWait = timeouts.getImplicitWaitTimeout();
+                timeouts.implicitlyWait(Duration.ZERO);
+                try {
+                    found = driver.findElements(locator);
+                } finally {
+                    timeouts.implicitlyWait(implicitWait);
+                }
+                if (found.isEmpty()) {
+                    return new Result("not_found", null, null);
+                }
+                value = found.get(0);
+            }
+        }
+
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeAsyncScript(SCRIPT, type, value, hitTest);
+        return new Result((String) result.get("state"), (String) result.get("detail"), (WebElement) result.get("element"));
+    }
+
+    /**
+     * Outcome of one poll.
+     *
+     * @param state   reason code: actionable, not_found, detached, not_visible, disabled, not_stable or obscured
+     * @param detail  additional detail, e.g. the element covering the target
+     * @param element the checked element when actionable
+     */
+    record Result(String state, String detail, WebElement element) {
+
+        boolean actionable() {
+            return "actionable".equals(state);
+        }
+
+        String describe() {
+            return detail == null ? state : state + " (" + detail + ")";
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.sahibinden.uiautomation.pages;
 
+import com.sahibinden.uiautomation.devtools.BrowserEventBus;
+import com.sahibinden.uiautomation.journal.JournalRecord;
+import com.sahibinden.uiautomation.journal.RunJournal;
+import com.sahibinden.uiautomation.metrics.MetricsRegistry;
+import com.sahibinden.uiautomation.metrics.Timer;
+import com.sahibinden.uiautomation.timeouts.TimeoutAdvisor;
+import com.sahibinden.uiautomation.tracing.Span;
+import com.sahibinden.uiautomation.tracing.Tracer;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -12,6 +20,18 @@ import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Base Page Object class implementing common functionality.
@@ -25,16 +45,22 @@ public abstract class BasePage {
     protected final WebDriverWait wait;
     
     private static final int DEFAULT_WAIT_TIMEOUT = 10;
+    private static final Duration DEFAULT_WAIT = Duration.ofSeconds(DEFAULT_WAIT_TIMEOUT);
+    
+    // Safety net for event-driven waits whose condition depends on state the events do not carry
+    private static final Duration EVENT_RECHECK_INTERVAL = Duration.ofSeconds(2);
+    
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
     
     /**
-     * Constructor initializes PageFactory and WebDriverWait.
+     * Constructor initializes WebDriverWait.
+     * Pages declare their locators as By constants, so no PageFactory proxies are created.
      * 
      * @param driver WebDriver instance
      */
     protected BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_WAIT_TIMEOUT));
-        PageFactory.initElements(driver, this);
         log.debug("Initialized page: {}", this.getClass().getSimpleName());
     }
     
@@ -77,7 +103,7 @@ public abstract class BasePage {
      */
     protected WebElement waitForVisibility(WebElement element) {
         log.debug("Waiting for element visibility");
-        return wait.until(ExpectedConditions.visibilityOf(element));
+        return timedWait("visibility", () -> wait.until(ExpectedConditions.visibilityOf(element)));
     }
     
     /**
@@ -88,7 +114,7 @@ public abstract class BasePage {
      */
     protected WebElement waitForClickability(WebElement element) {
         log.debug("Waiting for element clickability");
-        return wait.until(ExpectedConditions.elementToBeClickable(element));
+        return timedWait("clickable", () -> wait.until(ExpectedConditions.elementToBeClickable(element)));
     }
     
     /**
@@ -99,7 +125,8 @@ public abstract class BasePage {
      */
     public WebElement waitForVisibility(By locator) {
         log.debug("Waiting for element visibility using locator: {}", locator);
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return timedWait("visibility", locator.toString(), DEFAULT_WAIT,
+                timeout -> waitWithin(timeout).until(ExpectedConditions.visibilityOfElementLocated(locator)));
     }
     
     /**
@@ -111,7 +138,8 @@ public abstract class BasePage {
      */
     public boolean waitForUrlContains(String urlFragment) {
         log.debug("Waiting for URL to contain: {}", urlFragment);
-        return wait.until(ExpectedConditions.urlContains(urlFragment));
+        return waitForUrl(url -> url.contains(urlFragment), "URL to contain '" + urlFragment + "'",
+                ExpectedConditions.urlContains(urlFragment));
     }
     
     /**
@@ -122,7 +150,93 @@ public abstract class BasePage {
      */
     protected boolean waitForUrlToBe(String url) {
         log.debug("Waiting for URL to be: {}", url);
-        return wait.until(ExpectedConditions.urlToBe(url));
+        return waitForUrl(url::equals, "URL to be '" + url + "'", ExpectedConditions.urlToBe(url));
+    }
+    
+    /**
+     * Waits for the URL condition on the browser event stream when available,
+     * otherwise polls the driver with the given ExpectedCondition.
+     * With events the wait completes on the navigation event itself, without remote calls.
+     *
+     * @param condition URL predicate
+     * @param description condition description for the timeout message
+     * @param pollingCondition equivalent condition used when events are not available
+     * @return true if the condition was met
+     * @throws TimeoutException if the condition was not met within the default timeout
+     */
+    private boolean waitForUrl(Predicate<String> condition, String description,
+                               ExpectedCondition<Boolean> pollingCondition) {
+        return timedWait("url", description, DEFAULT_WAIT,
+                timeout -> awaitUrl(condition, description, pollingCondition, timeout));
+    }
+    
+    private boolean awaitUrl(Predicate<String> condition, String description,
+                             ExpectedCondition<Boolean> pollingCondition, Duration timeout) {
+        Optional<BrowserEventBus> bus = BrowserEventBus.of(driver);
+        if (bus.isEmpty()) {
+            return waitWithin(timeout).until(pollingCondition);
+        }
+        
+        // Final driver check guards against a missed event before reporting a timeout
+        if (bus.get().awaitUrl(condition, timeout) || condition.test(driver.getCurrentUrl())) {
+            return true;
+        }
+        
+        throw new TimeoutException(String.format("Expected %s within %d ms. Current URL: %s",
+                description, timeout.toMillis(), driver.getCurrentUrl()));
+    }
+    
+    /**
+     * Waits until the condition is true.
+     * With browser events the condition is re-evaluated when a navigation or load event arrives
+     * (and at least every few seconds); without events it is polled by WebDriverWait.
+     *
+     * @param timeoutInSeconds maximum wait time in seconds
+     * @param condition condition to evaluate
+     * @return true if the condition was met within timeout
+     */
+    protected boolean waitForCondition(int timeoutInSeconds, BooleanSupplier condition) {
+        return timedWait("condition", () -> awaitCondition(Duration.ofSeconds(timeoutInSeconds), condition));
+    }
+    
+    /**
+     * Waits until the condition is true within a budget learned from previous runs of the same wait.
+     * The given timeout is used until the wait has enough history, and always bounds the budget.
+     *
+     * @param conditionName stable name of the condition, part of the history key
+     * @param timeoutInSeconds maximum wait time in seconds
+     * @param condition condition to evaluate
+     * @return true if the condition was met within the budget
+     * @see TimeoutAdvisor
+     */
+    protected boolean waitForCondition(String conditionName, int timeoutInSeconds, BooleanSupplier condition) {
+        return timedWait("condition", conditionName, Duration.ofSeconds(timeoutInSeconds),
+                timeout -> awaitCondition(timeout, condition));
+    }
+    
+    private boolean awaitCondition(Duration timeout, BooleanSupplier condition) {
+        Optional<BrowserEventBus> bus = BrowserEventBus.of(driver);
+        if (bus.isPresent()) {
+            return bus.get().awaitCondition(condition, timeout, EVENT_RECHECK_INTERVAL);
+        }
+        
+        try {
+            return waitWithin(timeout).until(d -> condition.getAsBoolean());
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Gets the current URL as observed from navigation events, falling back to the driver.
+     * Cheap enough to call inside wait conditions.
+     *
+     * @return current URL
+     */
+    protected String observedUrl() {
+        return BrowserEventBus.of(driver)
+                .map(BrowserEventBus::currentUrl)
+                .orElseGet(driver::getCurrentUrl);
     }
     
     /**
@@ -132,7 +246,7 @@ public abstract class BasePage {
      */
     protected void click(WebElement element) {
         try {
-            waitForClickability(element);
+            waitForActionable(element, "element");
             element.click();
             log.debug("Clicked element: {}", element);
         } catch (Exception e) {
@@ -149,7 +263,7 @@ public abstract class BasePage {
      */
     protected void sendKeys(WebElement element, String text) {
         try {
-            waitForVisibility(element);
+            waitForActionable(element, "input");
             element.clear();
             element.sendKeys(text);
             log.debug("Sent text '{}' to element: {}", text, element);
@@ -159,6 +273,87 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Waits until the element located by the locator can receive a user action.
+     * Every poll is a single script call that reports why the element is not yet actionable.
+     *
+     * @param locator By locator
+     * @param elementName descriptive name for logging
+     * @return the actionable WebElement
+     * @throws TimeoutException with the last reason code if the element does not become actionable
+     */
+    protected WebElement waitForActionable(By locator, String elementName) {
+        return awaitActionable(locator, null, elementName);
+    }
+    
+    /**
+     * Waits until the element can receive a user action.
+     *
+     * @param element WebElement to check
+     * @param elementName descriptive name for logging
+     * @return the actionable WebElement
+     * @throws TimeoutException with the last reason code if the element does not become actionable
+     */
+    protected WebElement waitForActionable(WebElement element, String elementName) {
+        return awaitActionable(null, element, elementName);
+    }
+    
+    private WebElement awaitActionable(By locator, WebElement element, String elementName) {
+        AtomicReference<ActionabilityCheck.Result> lastPoll = new AtomicReference<>();
+        try {
+            return timedWait("actionable", locator != null ? locator.toString() : null, DEFAULT_WAIT,
+                    timeout -> waitWithin(timeout).until(d -> {
+                        ActionabilityCheck.Result result;
+                        try {
+                            result = ActionabilityCheck.poll(d, locator, element, true);
+                        } catch (StaleElementReferenceException e) {
+                            result = new ActionabilityCheck.Result("detached", null, null);
+                        }
+                        lastPoll.set(result);
+                        if (!result.actionable()) {
+                            log.debug("'{}' not actionable yet: {}", elementName, result.describe());
+                        }
+                        return result.actionable() ? result.element() : null;
+                    }));
+        } catch (TimeoutException e) {
+            ActionabilityCheck.Result last = lastPoll.get();
+            throw new TimeoutException(String.format("Element '%s' not actionable: %s (%s)",
+                    elementName, last != null ? last.describe() : "not checked", e.getMessage()), e);
+        }
+    }
+    
+    /**
+     * Types text into the input located by the locator once it is actionable.
+     *
+     * @param locator By locator of the input
+     * @param text text to type (replaces the current value)
+     * @param elementName descriptive name for logging
+     */
+    public void typeText(By locator, String text, String elementName) {
+        log.info("Typing '{}' into: {}", text, elementName);
+        WebElement input = waitForActionable(locator, elementName);
+        input.clear();
+        input.sendKeys(text);
+        log.info("✓ Typed into: {}", elementName);
+    }
+    
+    /**
+     * Checks the checkbox located by the locator once it is actionable. Already checked boxes are left as they are.
+     *
+     * @param locator By locator of the checkbox input
+     * @param elementName descriptive name for logging
+     */
+    public void checkElement(By locator, String elementName) {
+        log.info("Checking: {}", elementName);
+        WebElement checkbox = waitForActionable(locator, elementName);
+        if (checkbox.isSelected()) {
+            log.info("✓ Already checked: {}", elementName);
+            return;
+        }
+        checkbox.click();
+        log.info("✓ Checked: {}", elementName);
+    }
+    
     /**
      * Gets text from an element with explicit wait.
      * 
@@ -225,6 +420,10 @@ public abstract class BasePage {
         return new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
     }
 
+    private WebDriverWait waitWithin(Duration timeout) {
+        return timeout.equals(DEFAULT_WAIT) ? wait : new WebDriverWait(driver, timeout);
+    }
+
     /**
      * Generic method to click any element by locator.
      * Follows W3C WebDriver standards - STRICT approach.
@@ -238,14 +437,19 @@ public abstract class BasePage {
      */
     public void clickElement(By locator, String elementName) {
         log.info("Attempting to click: {}", elementName);
+        Timer.Sample sample = METRICS.timer("page_click_seconds", "Wait-for-clickable plus click time",
+                "page", getClass().getSimpleName()).start();
         
         try {
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+            WebElement element = waitForActionable(locator, elementName);
             
             element.click();
+            RunJournal.global().append(JournalRecord.Type.CLICK, JournalRecord.Status.PASSED, sample.stop(),
+                    getClass().getSimpleName() + " " + elementName);
             log.info("✓ Successfully clicked: {}", elementName);
             
         } catch (ElementClickInterceptedException e) {
+            countClickFailure(sample, elementName, "intercepted");
             // Element is covered - this indicates a REAL UI problem!
             log.error("❌ Element '{}' is intercepted by another element", elementName);
             log.error("Intercepting element details: {}", e.getMessage());
@@ -261,19 +465,18 @@ public abstract class BasePage {
             );
             
         } catch (TimeoutException e) {
-            log.error("❌ Element '{}' not clickable within {} seconds",
-                     elementName, DEFAULT_WAIT_TIMEOUT);
+            countClickFailure(sample, elementName, "timeout");
+            log.error("❌ {}", e.getMessage());
             
             takeScreenshot(elementName + "_not_clickable");
             
             throw new AssertionError(
-                String.format("Element '%s' not clickable within %d seconds. " +
-                             "Check screenshot for details.",
-                             elementName, DEFAULT_WAIT_TIMEOUT),
+                String.format("%s. Check screenshot for details.", e.getMessage()),
                 e
             );
             
         } catch (NoSuchElementException e) {
+            countClickFailure(sample, elementName, "not_found");
             log.error("❌ Element '{}' not found on page", elementName);
             
             takeScreenshot(elementName + "_not_found");
@@ -285,6 +488,74 @@ public abstract class BasePage {
         }
     }
     
+    private void countClickFailure(Timer.Sample sample, String elementName, String reason) {
+        METRICS.counter("page_click_failures", "Clicks that failed, by reason",
+                "page", getClass().getSimpleName(), "reason", reason).increment();
+        RunJournal.global().append(JournalRecord.Type.CLICK, JournalRecord.Status.FAILED,
+                System.nanoTime() - sample.startNanos(), getClass().getSimpleName() + " " + elementName + " (" + reason + ")");
+    }
+    
+    /**
+     * Runs a wait and records its duration per page and wait type, as a metric, as a span and in the run journal.
+     * A wait that throws TimeoutException or returns false counts as a timeout.
+     *
+     * @param type wait type label (visibility, clickable, url, condition)
+     * @param waitAction wait to run
+     * @return wait result
+     */
+    private <T> T timedWait(String type, Supplier<T> waitAction) {
+        return timedWait(type, null, DEFAULT_WAIT, timeout -> waitAction.get());
+    }
+    
+    /**
+     * Runs a wait with a budget from the TimeoutAdvisor and records the outcome in the wait history.
+     * Waits without a subject (e.g. on an already located element) have no stable key and always
+     * use the default timeout.
+     *
+     * @param type wait type label
+     * @param subject locator or condition name identifying the wait on this page, null if none
+     * @param defaultTimeout hardcoded timeout, upper bound of the budget
+     * @param waitAction wait to run with the budget
+     * @return wait result
+     */
+    private <T> T timedWait(String type, String subject, Duration defaultTimeout, Function<Duration, T> waitAction) {
+        String page = getClass().getSimpleName();
+        String key = subject != null ? page + " " + type + " " + subject : null;
+        TimeoutAdvisor advisor = key != null ? TimeoutAdvisor.global() : null;
+        Duration timeout = advisor != null ? advisor.budget(key, defaultTimeout) : defaultTimeout;
+        if (timeout.compareTo(defaultTimeout) < 0) {
+            log.debug("Adaptive budget {} ms instead of {} ms for: {}", timeout.toMillis(), defaultTimeout.toMillis(), key);
+        }
+        Timer.Sample sample = METRICS.timer("page_wait_seconds", "Explicit wait duration",
+                "page", page, "type", type).start();
+        Span span = Tracer.global().startSpan("wait: " + type)
+                .setAttribute("page", page);
+        boolean timedOut = true;
+        try {
+            T result = waitAction.apply(timeout);
+            timedOut = Boolean.FALSE.equals(result);
+            return result;
+        } finally {
+            long durationNanos = sample.stop();
+            if (advisor != null) {
+                if (timedOut) {
+                    advisor.recordTimeout(key);
+                } else {
+                    advisor.recordSuccess(key, Duration.ofNanos(durationNanos));
+                }
+            }
+            RunJournal.global().append(JournalRecord.Type.WAIT,
+                    timedOut ? JournalRecord.Status.FAILED : JournalRecord.Status.PASSED, durationNanos,
+                    key != null ? key : page + " " + type);
+            if (timedOut) {
+                METRICS.counter("page_wait_timeouts", "Explicit waits that timed out or failed",
+                        "page", page, "type", type).increment();
+                span.recordError("timeout");
+            }
+            span.end();
+        }
+    }
+    
     /**
      * Takes screenshot for debugging purposes.
      * Screenshots are saved in build/screenshots directory.
@@ -318,6 +589,103 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Runs independent read-only checks in separate tabs of the current session.
+     * All tabs are opened up front with window.open, so the browser loads them concurrently;
+     * the checks then run tab by tab, because a WebDriver session executes one command at a time.
+     * Tabs are closed and the original window is restored afterwards.
+     *
+     * @param urlsByName tab name to URL to open
+     * @param check check to run with the driver switched to the named tab
+     * @return tab name to check result, in the order of the given map
+     */
+    public <T> Map<String, T> runInTabs(Map<String, String> urlsByName, Function<String, T> check) {
+        String originalHandle = driver.getWindowHandle();
+        Set<String> knownHandles = new HashSet<>(driver.getWindowHandles());
+        Map<String, String> handlesByName = new LinkedHashMap<>();
+        Map<String, T> results = new LinkedHashMap<>();
+        
+        // Navigation events only cover the original window, so waits poll while other tabs are active
+        BrowserEventBus.setSuspended(driver, true);
+        try {
+            urlsByName.forEach((name, url) -> {
+                String handle = openTab(url, knownHandles, originalHandle);
+                knownHandles.add(handle);
+                handlesByName.put(name, handle);
+                log.info("Opened tab '{}': {}", name, url);
+            });
+            
+            for (Map.Entry<String, String> tab : handlesByName.entrySet()) {
+                driver.switchTo().window(tab.getValue());
+                waitForDocumentReady();
+                results.put(tab.getKey(), check.apply(tab.getKey()));
+                log.info("✓ Check completed in tab '{}'", tab.getKey());
+            }
+            return results;
+        } finally {
+            for (String handle : handlesByName.values()) {
+                try {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                } catch (WebDriverException e) {
+                    log.debug("Failed to close tab {}: {}", handle, e.getMessage());
+                }
+            }
+            driver.switchTo().window(originalHandle);
+            BrowserEventBus.setSuspended(driver, false);
+        }
+    }
+    
+    /**
+     * Opens the URL in a new tab without waiting for it to load.
+     * Falls back to a blocking new-tab navigation if window.open is blocked.
+     *
+     * @return window handle of the new tab
+     */
+    private String openTab(String url, Set<String> knownHandles, String originalHandle) {
+        driver.switchTo().window(originalHandle);
+        executeScript("window.open(arguments[0], '_blank');", url);
+        
+        Set<String> handles = new HashSet<>(driver.getWindowHandles());
+        handles.removeAll(knownHandles);
+        if (!handles.isEmpty()) {
+            return handles.iterator().next();
+        }
+        
+        log.warn("window.open was blocked, opening tab with a blocking navigation: {}", url);
+        driver.switchTo().newWindow(WindowType.TAB);
+        driver.get(url);
+        return driver.getWindowHandle();
+    }
+    
+    /**
+     * Waits until the current document has finished loading.
+     */
+    protected void waitForDocumentReady() {
+        timedWait("document_ready", "document.readyState", DEFAULT_WAIT, timeout -> waitWithin(timeout).until(
+                d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState"))));
+    }
+    
+    /**
+     * Returns the URL with the query parameter set, replacing an existing value.
+     *
+     * @param url base URL
+     * @param name parameter name
+     * @param value parameter value
+     * @return URL with the parameter applied
+     */
+    protected static String withQueryParameter(String url, String name, String value) {
+        int fragmentStart = url.indexOf('#');
+        String fragment = fragmentStart >= 0 ? url.substring(fragmentStart) : "";
+        String base = fragmentStart >= 0 ? url.substring(0, fragmentStart) : url;
+        
+        Matcher existing = Pattern.compile("([?&])" + Pattern.quote(name) + "=[^&]*").matcher(base);
+        if (existing.find()) {
+            return existing.replaceFirst(Matcher.quoteReplacement(existing.group(1) + name + "=" + value)) + fragment;
+        }
+        return base + (base.contains("?") ? "&" : "?") + name + "=" + value + fragment;
+    }
+    
     /**
      * Generic method to check if element is displayed.
      *
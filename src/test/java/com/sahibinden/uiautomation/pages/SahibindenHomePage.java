@@ -1,5 +1,7 @@
 package com.sahibinden.uiautomation.pages;
 
+import com.sahibinden.uiautomation.processor.Locator;
+import com.sahibinden.uiautomation.processor.PageObject;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
@@ -11,8 +13,10 @@ import org.openqa.selenium.WebDriver;
  * Follows Single Responsibility Principle (SRP) - only handles home page interactions.
  */
 @Slf4j
+@PageObject("homePage")
 public class SahibindenHomePage extends BasePage {
     
+    @Locator("Yepy")
     public static final By YEPY_BUTTON = By.id("yepy-link-category-tree");
     
     private final String baseUrl;
@@ -26,7 +30,7 @@ public class SahibindenHomePage extends BasePage {
     public SahibindenHomePage(WebDriver driver, String baseUrl) {
         super(driver);
         this.baseUrl = baseUrl;
-        log.info("Initialized SahibindenHomePage with base URL: {}", baseUrl);
+        log.debug("Initialized SahibindenHomePage with base URL: {}", baseUrl);
     }
     
     /**
@@ -52,15 +56,21 @@ public class SahibindenHomePage extends BasePage {
     public boolean waitForPageLoad(int timeoutInSeconds) {
         log.info("Waiting for page to load (max {} seconds)", timeoutInSeconds);
         try {
-            // Create a custom wait for longer timeouts (for Cloudflare verification)
-            createWait(timeoutInSeconds).until(driver -> {
-                String currentUrl = getCurrentUrl();
+            // Completes on navigation events when available, otherwise polls with a custom wait
+            boolean loaded = waitForCondition("page load", timeoutInSeconds, () -> {
+                String currentUrl = observedUrl();
                 log.debug("Current URL: {}", currentUrl);
                 // Check if we're on the actual Sahibinden domain (not Cloudflare)
-                return currentUrl.contains("sahibinden.com") && 
+                return currentUrl != null &&
+                       currentUrl.contains("sahibinden.com") && 
                        !currentUrl.contains("challenge") &&
                        !currentUrl.contains("waiting");
             });
+            if (!loaded) {
+                log.error("Page failed to load within {} seconds. Current URL: {}", 
+                         timeoutInSeconds, getCurrentUrl());
+                return false;
+            }
             log.info("Page loaded successfully. Current URL: {}", getCurrentUrl());
             return true;
         } catch (Exception e) {
@@ -136,20 +146,21 @@ public class SahibindenHomePage extends BasePage {
         log.warn("Cloudflare verification detected. Waiting for manual user interaction...");
         log.info("USER ACTION REQUIRED: Please complete the Cloudflare verification manually");
         
-        try {
-            createWait(timeoutInSeconds).until(driver -> {
-                boolean stillOnCloudflare = isCloudflareChallenge();
-                if (stillOnCloudflare) {
-                    log.debug("Still on Cloudflare challenge page, waiting...");
-                }
-                return !stillOnCloudflare;
-            });
+        // Re-checked on each navigation/load event instead of every poll tick
+        boolean verified = waitForCondition(timeoutInSeconds, () -> {
+            boolean stillOnCloudflare = isCloudflareChallenge();
+            if (stillOnCloudflare) {
+                log.debug("Still on Cloudflare challenge page, waiting...");
+            }
+            return !stillOnCloudflare;
+        });
+        
+        if (verified) {
             log.info("Cloudflare verification completed successfully!");
-            return true;
-        } catch (Exception e) {
+        } else {
             log.error("Cloudflare verification timeout after {} seconds", timeoutInSeconds);
-            return false;
         }
+        return verified;
     }
     
 }
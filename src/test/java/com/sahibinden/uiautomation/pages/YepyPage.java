@@ -1,50 +1,152 @@
 package com.sahibinden.uiautomation.pages;
 
+import com.sahibinden.uiautomation.processor.Locator;
+import com.sahibinden.uiautomation.processor.PageObject;
+import com.sahibinden.uiautomation.verification.ListingRow;
+import com.sahibinden.uiautomation.verification.PriceParser;
+import com.sahibinden.uiautomation.verification.StreamingPriceVerifier;
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import javax.swing.*;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @Slf4j
+@PageObject
 public class YepyPage extends BasePage {
 
+    @Locator("Cihaz Ara Link")
     public static final By CIHAZ_ARA_BUTTON = By.xpath("//a[normalize-space(text())='Cihaz ara']");
+    @Locator("Gelişmiş Sıralama")
     public static final By GELISMIS_SIRALAMA_DROPDOWN = By.id("advancedSorting");
+    @Locator("Fiyat: Düşükten yükseğe")
     public static final By FIYAT_DUSUKTEN_YUKSEGE_BUTTON = By.xpath("//a[@title='Fiyat: Düşükten yükseğe']");
+    @Locator("Fiyat: Yüksekten düşüğe")
     public static final By FIYAT_YUKSEKTEN_DUSUGE_BUTTON = By.xpath("//a[@title='Fiyat: Yüksekten düşüğe']");
-    public static final By ALL_PRICE_ELEMENTS = By.xpath(
-            "//div[contains(@class, 'searchResultsPriceValue')]//span[contains(@class, 'classified-price-container') or text()]"
-    );
+    public static final String ALL_PRICE_ELEMENTS_XPATH =
+            "//div[contains(@class, 'searchResultsPriceValue')]//span[contains(@class, 'classified-price-container') or text()]";
+    @Locator("Fiyatlar")
+    public static final By ALL_PRICE_ELEMENTS = By.xpath(ALL_PRICE_ELEMENTS_XPATH);
+    public static final String NEXT_PAGE_LINK_XPATH =
+            "//a[@rel='next' or @title='Sonraki' or normalize-space(text())='Sonraki']";
+    @Locator("Sonraki Sayfa")
+    public static final By NEXT_PAGE_LINK = By.xpath(NEXT_PAGE_LINK_XPATH);
+    @Locator("En Yüksek Fiyat")
     public static final By EN_YUKSEK_FIYAT_INPUT = By.cssSelector("input[name='price_max']");
+    @Locator("En Düşük Fiyat")
     public static final By EN_DUSUK_FIYAT_INPUT = By.cssSelector("input[name='price_min']");
+    @Locator("Ara Button")
     public static final By ARA_BUTTON = By.xpath("//button[normalize-space(text())='Ara']");
 
+    @Locator("İyi Durum")
     public static final By KOZMETIK_DURUM_IYI_CHECKBOX = By.xpath("//div[@class='form-check'][.//label[normalize-space(text())='İyi']]//input[@type='checkbox']");
+    @Locator("Depolama")
     public static final By DEPOLAMA_256GB_CHECKBOX = By.xpath(
             "//div[@class='form-check'][.//label[normalize-space(text())='128 GB']]//input[@type='checkbox']"
     );
+    @Locator("Altın Renk")
     public static final By RENK_ALTIN_CHECKBOX = By.xpath("//div[@class='form-check'][.//label[normalize-space(text())='Altın']]//input[@type='checkbox']");
 
     // First product link - excludes banner items, only targets real product links with detail page URLs
+    @Locator("First Product")
     public static final By FIRST_PRODUCT_LINK = By.xpath(
             "//div[contains(@class, 'refurbishment-content')]/ul/li[1]//a[contains(@class, 'refurbishment-classified-url')]"
     );
+    @Locator("İyi durumda")
     public static final By IYI_DURUMDA = By.xpath("//h3[@data-access='detail' and normalize-space(text())='İyi durumda']");
+    @Locator("Altın rengi")
     public static final By ALTIN_RENGI = By.xpath("//span[@data-access='selected-color' and normalize-space(text())='Altın']");
+
+    // Labels used by the cosmetic condition and color filters; result rows show the same labels
+    public static final List<String> CONDITION_LABELS = List.of("Mükemmel", "Çok İyi", "İyi");
+    public static final List<String> COLOR_LABELS = List.of(
+            "Altın", "Beyaz", "Siyah", "Gümüş", "Gri", "Uzay Grisi", "Grafit", "Mavi", "Lacivert",
+            "Kırmızı", "Yeşil", "Mor", "Pembe", "Sarı", "Turuncu");
+
+    // Extracts every real product row (banners have no detail link) with its visible attributes
+    private static final String LISTING_ROWS_SCRIPT = """
+            const conditions = arguments[0];
+            const colors = arguments[1];
+            const rows = [];
+            document.querySelectorAll('div.refurbishment-content > ul > li').forEach(item => {
+                const link = item.querySelector('a.refurbishment-classified-url');
+                if (!link) {
+                    return;
+                }
+                const price = item.querySelector('.searchResultsPriceValue');
+                const row = { price: price ? price.textContent.trim() : null, condition: null, color: null,
+                        storage: null, url: link.href };
+                (item.innerText || '').split('\\n').map(line => line.trim()).forEach(line => {
+                    const label = line.replace(/\\s+durumda$/i, '');
+                    if (!row.condition && conditions.includes(label)) {
+                        row.condition = label;
+                    } else if (!row.color && colors.includes(line)) {
+                        row.color = line;
+                    } else if (!row.storage && /^\\d+\\s*(GB|TB)$/i.test(line)) {
+                        row.storage = line.replace(/\\s+/, ' ').toUpperCase();
+                    }
+                });
+                rows.push(row);
+            });
+            return rows;
+            """;
+
+    // Installs page extraction helpers into the current document. The same extractor reads the
+    // rendered page and HTML of later pages fetched in the background with fetch() + DOMParser.
+    private static final String LISTING_WALKER_SCRIPT = """
+            const priceXPath = arguments[0];
+            const nextXPath = arguments[1];
+            const extract = (doc, baseUrl) => {
+                const prices = [];
+                const snapshot = doc.evaluate(priceXPath, doc, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                for (let i = 0; i < snapshot.snapshotLength; i++) {
+                    const text = (snapshot.snapshotItem(i).textContent || '').trim();
+                    if (text) {
+                        prices.push(text);
+                    }
+                }
+                const next = doc.evaluate(nextXPath, doc, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                const href = next && next.getAttribute('href');
+                return { prices: prices, next: href ? new URL(href, baseUrl).href : null };
+            };
+            window.__listingWalker = {
+                pending: null,
+                fetchPage: (url) => fetch(url, { credentials: 'include' })
+                        .then(response => response.text())
+                        .then(html => extract(new DOMParser().parseFromString(html, 'text/html'), url))
+            };
+            return extract(document, location.href);
+            """;
+
+    // Resolves the prefetched page and, if allowed, immediately starts fetching the page after it
+    private static final String AWAIT_PREFETCH_SCRIPT = """
+            const prefetchFurther = arguments[0];
+            const done = arguments[arguments.length - 1];
+            const walker = window.__listingWalker;
+            walker.pending
+                .then(page => {
+                    walker.pending = prefetchFurther && page.next ? walker.fetchPage(page.next) : null;
+                    done(page);
+                })
+                .catch(error => done({ error: String(error) }));
+            """;
+
     /**
-     * Constructor initializes PageFactory and WebDriverWait.
+     * Constructor initializes WebDriverWait.
      *
      * @param driver WebDriver instance
      */
     public YepyPage(WebDriver driver) {
         super(driver);
-        log.info("Initialized YepyPage");
+        log.debug("Initialized YepyPage");
     }
 
 
@@ -104,7 +206,7 @@ public class YepyPage extends BasePage {
                 }
 
                 // Parse price: "4.999 TL" -> 4999.0
-                double price = parsePrice(priceText);
+                double price = PriceParser.parse(priceText);
                 prices.add(price);
 
             } catch (Exception e) {
@@ -116,24 +218,6 @@ public class YepyPage extends BasePage {
         return prices;
     }
 
-    private double parsePrice(String priceText) {
-        // Remove "TL" and whitespace
-        String cleaned = priceText.replaceAll("TL", "").trim();
-
-        // Remove thousand separators (dots) and replace comma with dot for decimal
-        // "4.999" -> "4999"
-        // "1.234,56" -> "1234.56"
-        cleaned = cleaned.replace(".", ""); // Remove thousand separators
-        cleaned = cleaned.replace(",", "."); // Replace comma with dot for decimal
-
-        try {
-            return Double.parseDouble(cleaned);
-        } catch (NumberFormatException e) {
-            log.error("Failed to parse price: {}", priceText);
-            throw new IllegalArgumentException("Invalid price format: " + priceText, e);
-        }
-    }
-
 
     @Step("Fiyatların {ascending} sıraya göre olup olmadığı kontrol edilir")
     public boolean arePricesSorted(boolean ascending) {
@@ -169,21 +253,116 @@ public class YepyPage extends BasePage {
     }
 
 
+    /**
+     * Verifies prices on every results page of the current listing, not just the first one.
+     * Only the last price is carried across page boundaries. While a page is validated the
+     * browser already downloads the next one with fetch(), so the walk is not bound by
+     * page-by-page navigation.
+     *
+     * @param ascending expected order, null to skip the order check
+     * @param minPrice inclusive lower bound, null for none
+     * @param maxPrice inclusive upper bound, null for none
+     * @param maxPages maximum number of result pages to walk
+     * @return verification result
+     */
+    @Step("Tüm sonuç sayfalarındaki fiyatlar doğrulanır (artan: {ascending}, min: {minPrice}, max: {maxPrice})")
+    public StreamingPriceVerifier.Result verifyPricesAcrossPages(Boolean ascending, Double minPrice,
+                                                                Double maxPrice, int maxPages) {
+        log.info("Verifying prices across up to {} result pages", maxPages);
+        StreamingPriceVerifier verifier = new StreamingPriceVerifier(ascending, minPrice, maxPrice);
+
+        Map<String, Object> page = asPage(executeScript(LISTING_WALKER_SCRIPT, ALL_PRICE_ELEMENTS_XPATH, NEXT_PAGE_LINK_XPATH));
+        String pageUrl = getCurrentUrl();
+        int pageNumber = 1;
+
+        String nextUrl = nextPageUrl(page, pageUrl, pageNumber, maxPages);
+        if (nextUrl != null) {
+            executeScript("window.__listingWalker.pending = window.__listingWalker.fetchPage(arguments[0]);", nextUrl);
+        }
+
+        while (true) {
+            verifyPage(verifier, page);
+            if (nextUrl == null) {
+                break;
+            }
+
+            page = asPage(((JavascriptExecutor) driver).executeAsyncScript(AWAIT_PREFETCH_SCRIPT, pageNumber + 1 < maxPages));
+            pageNumber++;
+            pageUrl = nextUrl;
+            nextUrl = nextPageUrl(page, pageUrl, pageNumber, maxPages);
+        }
+
+        StreamingPriceVerifier.Result result = verifier.result();
+        log.info("{} Checked {} prices on {} pages, {} violations",
+                result.passed() ? "✓" : "❌", result.checked(), result.pages(), result.violations());
+        return result;
+    }
+
+    /**
+     * Extracts every result row of the current page in a single script call.
+     * Price, condition, color, storage and detail URL come from the list itself,
+     * so filter results can be verified without opening detail pages.
+     *
+     * @return rows in listing order
+     */
+    @Step("Sonuç listesindeki tüm satırlar çıkarılır")
+    @SuppressWarnings("unchecked")
+    public List<ListingRow> getListingRows() {
+        List<Map<String, Object>> rawRows = (List<Map<String, Object>>) executeScript(
+                LISTING_ROWS_SCRIPT, CONDITION_LABELS, COLOR_LABELS);
+
+        List<ListingRow> rows = new ArrayList<>();
+        for (Map<String, Object> raw : rawRows) {
+            rows.add(new ListingRow(rows.size() + 1, (String) raw.get("price"), (String) raw.get("condition"),
+                    (String) raw.get("color"), (String) raw.get("storage"), (String) raw.get("url")));
+        }
+        log.info("Extracted {} listing rows", rows.size());
+        return rows;
+    }
+
+    private void verifyPage(StreamingPriceVerifier verifier, Map<String, Object> page) {
+        verifier.startPage();
+        @SuppressWarnings("unchecked")
+        List<Object> priceTexts = (List<Object>) page.getOrDefault("prices", List.of());
+
+        int index = 0;
+        for (Object priceText : priceTexts) {
+            try {
+                verifier.accept(PriceParser.parse(priceText.toString()), index++);
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping unparseable price: {}", priceText);
+            }
+        }
+    }
+
+    private static String nextPageUrl(Map<String, Object> page, String pageUrl, int pageNumber, int maxPages) {
+        Object next = page.get("next");
+        if (next == null || pageNumber >= maxPages || next.toString().equals(pageUrl)) {
+            return null;
+        }
+        return next.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asPage(Object scriptResult) {
+        Map<String, Object> page = (Map<String, Object>) scriptResult;
+        if (page.containsKey("error")) {
+            throw new IllegalStateException("Failed to load next results page: " + page.get("error"));
+        }
+        return page;
+    }
+
     @Step("Maksimum fiyat girilir: {maxPrice}")
     public void setMaxPrice(int maxPrice) {
         log.info("Setting maximum price filter to: {}", maxPrice);
-        WebElement priceInput = waitForVisibility(EN_YUKSEK_FIYAT_INPUT);
-        priceInput.clear();
-        priceInput.sendKeys(String.valueOf(maxPrice));
+        typeText(EN_YUKSEK_FIYAT_INPUT, String.valueOf(maxPrice), "En Yüksek Fiyat");
         log.info("✓ Maximum price filter set to: {}", maxPrice);
     }
 
     @Step("Minimum fiyat girilir: {minPrice}")
     public int setMinPrice(int minPrice) {
         log.info("Setting minimum price filter to: {}", minPrice);
-        WebElement priceInput = waitForVisibility(EN_DUSUK_FIYAT_INPUT);
-        priceInput.clear();
-        priceInput.sendKeys(String.valueOf(minPrice));
+        typeText(EN_DUSUK_FIYAT_INPUT, String.valueOf(minPrice), "En Düşük Fiyat");
         log.info("✓ Minimum price filter set to: {}", minPrice);
         return minPrice;
     }
@@ -236,6 +415,70 @@ public class YepyPage extends BasePage {
         log.info("✓ Price sorting applied: {}", ascending ? "ascending" : "descending");
     }
 
+    /**
+     * Checks ascending and descending price order of the current listing in parallel tabs.
+     * Both sorted variants load concurrently in one browser session instead of each
+     * paying for its own session and navigation preamble.
+     *
+     * @return sorting parameter (price_asc, price_desc) to whether the listing was sorted
+     */
+    @Step("Artan ve azalan fiyat sıralamaları ayrı sekmelerde kontrol edilir")
+    public Map<String, Boolean> checkPriceSortingInTabs() {
+        String listingUrl = getCurrentUrl();
+        Map<String, String> urlsBySorting = new LinkedHashMap<>();
+        urlsBySorting.put("price_asc", withQueryParameter(listingUrl, "sorting", "price_asc"));
+        urlsBySorting.put("price_desc", withQueryParameter(listingUrl, "sorting", "price_desc"));
+
+        Map<String, Boolean> results = runInTabs(urlsBySorting, sorting -> arePricesSorted("price_asc".equals(sorting)));
+        log.info("Sort order results across tabs: {}", results);
+        return results;
+    }
+
+    /**
+     * Builds the listing URL the sorting and price filter controls would navigate to.
+     * Lets checks that do not depend on the interaction itself load the result directly.
+     *
+     * @param listingUrl base listing URL
+     * @param sorting sorting parameter (price_asc, price_desc), null to keep the current one
+     * @param minPrice minimum price filter, null for none
+     * @param maxPrice maximum price filter, null for none
+     * @return listing URL with the parameters applied
+     */
+    public static String listingUrl(String listingUrl, String sorting, Integer minPrice, Integer maxPrice) {
+        String url = listingUrl;
+        if (sorting != null) {
+            url = withQueryParameter(url, "sorting", sorting);
+        }
+        if (minPrice != null) {
+            url = withQueryParameter(url, "price_min", String.valueOf(minPrice));
+        }
+        if (maxPrice != null) {
+            url = withQueryParameter(url, "price_max", String.valueOf(maxPrice));
+        }
+        return url;
+    }
+
+    /**
+     * Opens a listing URL directly and waits until the document is loaded.
+     *
+     * @param url listing URL
+     */
+    @Step("Liste sayfası açılır: {url}")
+    public void openListing(String url) {
+        navigateTo(url);
+        waitForDocumentReady();
+    }
+
+    /**
+     * Gets the absolute URL of the next results page.
+     *
+     * @return next page URL, null on the last page
+     */
+    public String getNextPageUrl() {
+        List<WebElement> links = driver.findElements(NEXT_PAGE_LINK);
+        return links.isEmpty() ? null : links.get(0).getAttribute("href");
+    }
+
     /**
      * Applies a price filter (min or max) and waits for URL update.
      * This is a page-level operation, so it belongs in the Page Object.
@@ -265,7 +508,7 @@ public class YepyPage extends BasePage {
     }
 
     /**
-     * Clicks a checkbox by its locator.
+     * Checks a checkbox by its locator once it is actionable; an already checked box is left unchanged.
      * Generic method for any checkbox on the page.
      *
      * @param checkboxLocator The By locator for the checkbox
@@ -274,7 +517,7 @@ public class YepyPage extends BasePage {
     @Step("Checkbox işaretleniyor: {checkboxName}")
     public void clickCheckbox(By checkboxLocator, String checkboxName) {
         log.info("Clicking checkbox: {}", checkboxName);
-        clickElement(checkboxLocator, checkboxName);
+        checkElement(checkboxLocator, checkboxName);
         log.info("✓ Checkbox clicked: {}", checkboxName);
     }
 }
@@ -0,0 +1,97 @@
+package com.sahibinden.uiautomation.profiling;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * WebDriver command counts and timings grouped by command, locator and calling page method.
+ */
+public class CommandProfile {
+
+    private final Map<CommandKey, CommandStats> stats = new ConcurrentHashMap<>();
+
+    void record(CommandKey key, long nanos) {
+        stats.computeIfAbsent(key, k -> new CommandStats()).record(nanos);
+    }
+
+    public long totalCommands() {
+        return stats.values().stream().mapToLong(CommandStats::count).sum();
+    }
+
+    public long totalNanos() {
+        return stats.values().stream().mapToLong(CommandStats::totalNanos).sum();
+    }
+
+    /**
+     * Formats the top entries by total time, by call count and by slowest single call.
+     *
+     * @param topN rows per table
+     * @return human readable report
+     */
+    public String format(int topN) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("WebDriver commands: %d, total: %.0f ms%n", totalCommands(), totalNanos() / 1e6));
+        appendTable(text, "Slowest (total time)", topN, CommandStats::totalNanos);
+        appendTable(text, "Most frequent", topN, CommandStats::count);
+        appendTable(text, "Slowest single call", topN, CommandStats::maxNanos);
+        return text.toString();
+    }
+
+    private void appendTable(StringBuilder text, String title, int topN, ToLongFunction<CommandStats> order) {
+        List<Map.Entry<CommandKey, CommandStats>> rows = stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<CommandKey, CommandStats> entry) ->
+                        order.applyAsLong(entry.getValue())).reversed())
+                .limit(topN)
+                .toList();
+
+        text.append(String.format("%n%s%n", title));
+        text.append(String.format("%8s %10s %9s %9s  %-22s %-40s %s%n",
+                "count", "total ms", "avg ms", "max ms", "command", "caller", "locator"));
+        for (Map.Entry<CommandKey, CommandStats> row : rows) {
+            CommandKey key = row.getKey();
+            CommandStats value = row.getValue();
+            text.append(String.format("%8d %10.0f %9.1f %9.0f  %-22s %-40s %s%n",
+                    value.count(), value.totalNanos() / 1e6, value.totalNanos() / 1e6 / value.count(),
+                    value.maxNanos() / 1e6, key.command(), key.caller(), key.locator()));
+        }
+    }
+
+    /**
+     * Grouping key of a command.
+     *
+     * @param command command, e.g. WebElement.getText
+     * @param locator locator the command (or its element) was found with, "-" if none
+     * @param caller  page object class and method that issued the command
+     */
+    public record CommandKey(String command, String locator, String caller) {
+    }
+
+    static class CommandStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        long maxNanos() {
+            return maxNanos.get();
+        }
+    }
+}
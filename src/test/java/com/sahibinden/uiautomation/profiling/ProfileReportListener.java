@@ -0,0 +1,35 @@
+package com.sahibinden.uiautomation.profiling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the run-wide WebDriver command profile to build/reports/webdriver-profile.txt.
+ * Registered through META-INF/services; does nothing when profiling is disabled.
+ */
+@Slf4j
+public class ProfileReportListener implements TestExecutionListener {
+
+    private static final Path REPORT = Path.of("build", "reports", "webdriver-profile.txt");
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        WebDriverCommandProfiler.active().ifPresent(profiler -> {
+            String report = profiler.runProfile().format(profiler.topN());
+            log.info("WebDriver command profile:{}{}", System.lineSeparator(), report);
+            try {
+                Files.createDirectories(REPORT.getParent());
+                Files.writeString(REPORT, report, StandardCharsets.UTF_8);
+                log.info("✓ WebDriver command profile written to {}", REPORT.toAbsolutePath());
+            } catch (IOException e) {
+                log.error("❌ Failed to write WebDriver command profile to {}", REPORT, e);
+            }
+        });
+    }
+}
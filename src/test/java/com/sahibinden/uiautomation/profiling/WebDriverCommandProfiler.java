@@ -0,0 +1,183 @@
+package com.sahibinden.uiautomation.profiling;
+
+import com.sahibinden.uiautomation.metrics.MetricsRegistry;
+import com.sahibinden.uiautomation.pages.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Counts and times every WebDriver command made through a driver decorated with EventFiringDecorator.
+ * Commands are grouped by command name, the locator used to find the target element and the
+ * page object method that issued the command, both per test and for the whole run. This makes
+ * per-row round trips (e.g. one getText per listing price) and expensive locators visible.
+ */
+public final class WebDriverCommandProfiler implements WebDriverListener {
+
+    private static final String PAGES_PACKAGE = BasePage.class.getPackageName();
+    private static final String NO_LOCATOR = "-";
+
+    private static volatile WebDriverCommandProfiler active;
+
+    private final int topN;
+    private final CommandProfile runProfile = new CommandProfile();
+    private final Map<WebElement, String> elementLocators = Collections.synchronizedMap(new WeakHashMap<>());
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<CommandProfile> testProfile = new ThreadLocal<>();
+    private final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private WebDriverCommandProfiler(int topN) {
+        this.topN = topN;
+    }
+
+    /**
+     * Enables the run-wide profiler. Subsequent calls return the same instance.
+     *
+     * @param topN rows per report table
+     * @return active profiler
+     */
+    public static synchronized WebDriverCommandProfiler enable(int topN) {
+        if (active == null) {
+            active = new WebDriverCommandProfiler(topN);
+        }
+        return active;
+    }
+
+    /**
+     * Gets the profiler if profiling was enabled in this JVM.
+     *
+     * @return active profiler
+     */
+    public static Optional<WebDriverCommandProfiler> active() {
+        return Optional.ofNullable(active);
+    }
+
+    public int topN() {
+        return topN;
+    }
+
+    /**
+     * Starts a per-test profile for commands issued on the current thread.
+     */
+    public void startTest() {
+        testProfile.set(new CommandProfile());
+    }
+
+    /**
+     * Ends the current thread's test profile.
+     *
+     * @return profile of the finished test, empty if none was started
+     */
+    public Optional<CommandProfile> finishTest() {
+        CommandProfile profile = testProfile.get();
+        testProfile.remove();
+        return Optional.ofNullable(profile);
+    }
+
+    public CommandProfile runProfile() {
+        return runProfile;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(target, method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(target, method, args);
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        elementLocators.put(result, locator.toString());
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        result.forEach(element -> elementLocators.put(element, locator.toString()));
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        elementLocators.put(result, locator.toString());
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        result.forEach(found -> elementLocators.put(found, locator.toString()));
+    }
+
+    private void record(Object target, Method method, Object[] args) {
+        Long start = startTimes.get().poll();
+        if (start == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+
+        String command = commandType(target) + "." + method.getName();
+        CommandProfile.CommandKey key = new CommandProfile.CommandKey(command, locatorOf(target, args), caller());
+        runProfile.record(key, nanos);
+        CommandProfile profile = testProfile.get();
+        if (profile != null) {
+            profile.record(key, nanos);
+        }
+        MetricsRegistry.global().timer("webdriver_command_seconds", "WebDriver command round trip time",
+                "command", command).recordNanos(nanos);
+    }
+
+    private String locatorOf(Object target, Object[] args) {
+        if (args != null && args.length > 0 && args[0] instanceof By by) {
+            return by.toString();
+        }
+        if (target instanceof WebElement element) {
+            return elementLocators.getOrDefault(element, NO_LOCATOR);
+        }
+        return NO_LOCATOR;
+    }
+
+    // First page object frame, or the first frame outside Selenium and this profiler
+    private String caller() {
+        return stackWalker.walk(frames -> {
+            String fallback = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                Class<?> type = frame.getDeclaringClass();
+                String name = type.getName();
+                if (name.startsWith(PAGES_PACKAGE)) {
+                    return type.getSimpleName() + "." + frame.getMethodName();
+                }
+                if (fallback == null && name.startsWith("com.sahibinden.") && type != getClass()) {
+                    fallback = type.getSimpleName() + "." + frame.getMethodName();
+                }
+            }
+            return fallback != null ? fallback : "other";
+        });
+    }
+
+    private static String commandType(Object target) {
+        if (target instanceof WebElement) {
+            return "WebElement";
+        }
+        if (target instanceof WebDriver) {
+            return "WebDriver";
+        }
+        Class<?>[] interfaces = target.getClass().getInterfaces();
+        return interfaces.length > 0 ? interfaces[0].getSimpleName() : target.getClass().getSimpleName();
+    }
+}
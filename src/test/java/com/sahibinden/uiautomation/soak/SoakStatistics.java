@@ -0,0 +1,118 @@
+package com.sahibinden.uiautomation.soak;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Step and journey latencies and errors of one soak run, recorded concurrently by all sessions.
+ * Durations are kept in microseconds; only successful steps and journeys enter the histograms,
+ * so a timed-out wait shows up as an error instead of stretching the percentiles.
+ */
+public final class SoakStatistics {
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final Map<String, Outcomes> steps = new ConcurrentSkipListMap<>();
+    private final Map<String, Outcomes> journeys = new ConcurrentSkipListMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+
+    void recordStep(YepyJourney journey, String step, long micros, Throwable error) {
+        steps.computeIfAbsent(journey.label() + "/" + step, key -> new Outcomes()).record(micros, error);
+        if (error != null) {
+            errors.computeIfAbsent(journey.label() + "/" + step + ": " + error.getClass().getSimpleName(),
+                    key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    void recordJourney(YepyJourney journey, long micros, Throwable error) {
+        journeys.computeIfAbsent(journey.label(), key -> new Outcomes()).record(micros, error);
+    }
+
+    public long completedJourneys() {
+        return journeys.values().stream().mapToLong(outcomes -> outcomes.succeeded.get()).sum();
+    }
+
+    public long failedJourneys() {
+        return journeys.values().stream().mapToLong(outcomes -> outcomes.failed.get()).sum();
+    }
+
+    /**
+     * Share of journeys that failed.
+     *
+     * @return failed / (completed + failed), zero without journeys
+     */
+    public double errorRate() {
+        long total = completedJourneys() + failedJourneys();
+        return total == 0 ? 0 : failedJourneys() / (double) total;
+    }
+
+    /**
+     * 90th percentile of successful journey durations across all journeys.
+     *
+     * @return milliseconds, zero without successful journeys
+     */
+    public double journeyP90Millis() {
+        Histogram all = new Histogram(3);
+        journeys.values().forEach(outcomes -> all.add(outcomes.latency));
+        return all.getTotalCount() == 0 ? 0 : all.getValueAtPercentile(90) / 1_000.0;
+    }
+
+    /**
+     * Formats journey and step tables followed by the error breakdown.
+     *
+     * @return report text
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        appendTable(report, "journey", journeys);
+        report.append(System.lineSeparator());
+        appendTable(report, "step", steps);
+        if (!errors.isEmpty()) {
+            report.append(System.lineSeparator()).append("errors").append(System.lineSeparator());
+            new TreeMap<>(errors).forEach((key, count) ->
+                    report.append(String.format(Locale.ROOT, "  %-52s %6d%n", key, count.get())));
+        }
+        return report.toString();
+    }
+
+    private static void appendTable(StringBuilder report, String title, Map<String, Outcomes> rows) {
+        report.append(String.format("%-28s %7s %7s %7s", title, "ok", "errors", "err%"));
+        for (double percentile : PERCENTILES) {
+            report.append(String.format(" %9s", "p" + (long) percentile));
+        }
+        report.append(String.format(" %9s%n", "max"));
+        rows.forEach((name, outcomes) -> {
+            long succeeded = outcomes.succeeded.get();
+            long failed = outcomes.failed.get();
+            report.append(String.format(Locale.ROOT, "%-28s %7d %7d %6.1f%%", name, succeeded, failed,
+                    succeeded + failed == 0 ? 0 : 100.0 * failed / (succeeded + failed)));
+            for (double percentile : PERCENTILES) {
+                report.append(String.format(Locale.ROOT, " %9.0f", outcomes.latency.getValueAtPercentile(percentile) / 1_000.0));
+            }
+            report.append(String.format(Locale.ROOT, " %9.0f%n", outcomes.latency.getMaxValue() / 1_000.0));
+        });
+        report.append("(milliseconds of successful runs)").append(System.lineSeparator());
+    }
+
+    private static final class Outcomes {
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        void record(long micros, Throwable error) {
+            if (error == null) {
+                succeeded.incrementAndGet();
+                latency.recordValue(Math.max(0, micros));
+            } else {
+                failed.incrementAndGet();
+            }
+        }
+    }
+}
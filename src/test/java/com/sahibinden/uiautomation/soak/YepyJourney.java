@@ -0,0 +1,140 @@
+package com.sahibinden.uiautomation.soak;
+
+import com.sahibinden.uiautomation.pages.SahibindenHomePage;
+import com.sahibinden.uiautomation.pages.YepyPage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * User journeys of YepyTest, split into named steps so the soak runner can time each of them.
+ * Every journey starts on the home page and walks to the refurbished phones listing like a user
+ * would, then applies its sorting or filters and checks the result. A failed check throws, which
+ * counts the step and the journey as failed.
+ */
+public enum YepyJourney {
+
+    SORT_ASCENDING("sort-asc") {
+        @Override
+        void runOnListing(Steps steps, YepyPage yepyPage) {
+            steps.run("sort", () -> yepyPage.applyPriceSorting(true));
+            steps.run("verify", () -> check(yepyPage.arePricesSorted(true), "prices are not in ascending order"));
+        }
+    },
+
+    SORT_DESCENDING("sort-desc") {
+        @Override
+        void runOnListing(Steps steps, YepyPage yepyPage) {
+            steps.run("sort", () -> yepyPage.applyPriceSorting(false));
+            steps.run("verify", () -> check(yepyPage.arePricesSorted(false), "prices are not in descending order"));
+        }
+    },
+
+    PRICE_FILTER("price-filter") {
+        @Override
+        void runOnListing(Steps steps, YepyPage yepyPage) {
+            steps.run("filter", () -> yepyPage.applyPriceFilter(MAX_PRICE, true));
+            steps.run("sort", () -> yepyPage.applyPriceSorting(false));
+            steps.run("verify", () -> check(yepyPage.getFirstPrice() <= MAX_PRICE,
+                    "first price is above " + MAX_PRICE));
+        }
+    },
+
+    MULTI_FILTER_DETAIL("multi-filter") {
+        @Override
+        void runOnListing(Steps steps, YepyPage yepyPage) {
+            steps.run("filter", () -> {
+                yepyPage.clickCheckbox(YepyPage.KOZMETIK_DURUM_IYI_CHECKBOX, "İyi Durum");
+                yepyPage.clickCheckbox(YepyPage.RENK_ALTIN_CHECKBOX, "Altın Renk");
+                yepyPage.clickSearchButton();
+                check(yepyPage.waitForUrlContains("/apple-cep-telefonu?"), "filtered listing did not open");
+            });
+            steps.run("detail", () -> {
+                yepyPage.clickElement(YepyPage.FIRST_PRODUCT_LINK, "First Product");
+                check(yepyPage.waitForUrlContains("/yepy/yenilenmis-telefonlar/detay/"), "detail page did not open");
+            });
+            steps.run("verify", () -> check(yepyPage.isElementDisplayed(YepyPage.IYI_DURUMDA, "İyi durumda")
+                    && yepyPage.isElementDisplayed(YepyPage.ALTIN_RENGI, "Altın rengi"),
+                    "detail page does not show the selected condition and color"));
+        }
+    };
+
+    private static final int MAX_PRICE = 9000;
+    private static final int PAGE_LOAD_TIMEOUT = 30;
+    private static final By COOKIE_ACCEPT_ALL = By.id("onetrust-accept-btn-handler");
+
+    private final String label;
+
+    YepyJourney(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Runs the journey from the home page.
+     *
+     * @param steps             step timer
+     * @param driver            driver of the session
+     * @param homePage          home page of the session
+     * @param yepyPage          Yepy page of the session
+     * @param cloudflareTimeout seconds to wait for a Cloudflare challenge
+     */
+    void run(Steps steps, WebDriver driver, SahibindenHomePage homePage, YepyPage yepyPage, int cloudflareTimeout) {
+        steps.run("home", () -> {
+            homePage.open();
+            if (homePage.isCloudflareChallenge()) {
+                check(homePage.waitForCloudflareVerification(cloudflareTimeout), "Cloudflare verification timed out");
+            }
+            check(homePage.waitForPageLoad(PAGE_LOAD_TIMEOUT), "home page did not load");
+            acceptCookies(driver);
+        });
+        steps.run("yepy", () -> {
+            homePage.clickElement(SahibindenHomePage.YEPY_BUTTON, "Yepy");
+            check(yepyPage.waitForUrlContains("/yepy"), "Yepy page did not open");
+        });
+        steps.run("listing", () -> {
+            yepyPage.clickElement(YepyPage.CIHAZ_ARA_BUTTON, "Cihaz Ara Link");
+            check(yepyPage.waitForUrlContains("/yepy/yenilenmis-telefonlar"), "listing did not open");
+        });
+        runOnListing(steps, yepyPage);
+    }
+
+    abstract void runOnListing(Steps steps, YepyPage yepyPage);
+
+    // The banner only appears until it is accepted once per session, so it is clicked without waiting;
+    // the session's implicit wait would otherwise add its full timeout to every later journey
+    private static void acceptCookies(WebDriver driver) {
+        List<WebElement> buttons;
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration implicitWait = timeouts.getImplicitWaitTimeout();
+        timeouts.implicitlyWait(Duration.ZERO);
+        try {
+            buttons = driver.findElements(COOKIE_ACCEPT_ALL);
+        } finally {
+            timeouts.implicitlyWait(implicitWait);
+        }
+        if (!buttons.isEmpty() && buttons.get(0).isDisplayed()) {
+            buttons.get(0).click();
+        }
+    }
+
+    private static void check(boolean condition, String failure) {
+        if (!condition) {
+            throw new IllegalStateException(failure);
+        }
+    }
+
+    /**
+     * Times the named steps of one journey run.
+     */
+    @FunctionalInterface
+    interface Steps {
+        void run(String step, Runnable action);
+    }
+}
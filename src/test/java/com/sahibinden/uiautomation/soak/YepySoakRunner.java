@@ -0,0 +1,267 @@
+package com.sahibinden.uiautomation.soak;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import com.sahibinden.uiautomation.config.WebDriverFactory;
+import com.sahibinden.uiautomation.pages.SahibindenHomePage;
+import com.sahibinden.uiautomation.pages.YepyPage;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Soak runner for the Yepy journeys: K browser sessions repeat the journeys round-robin for a fixed
+ * duration, and every step and journey is timed. Running it for several session counts in turn
+ * shows where journeys per minute stop growing with more sessions (the plateau of the site and the
+ * Grid together) and how latency and error rate behave beyond it.
+ *
+ * Usage: ./gradlew yepySoak [-Psoak.sessions=1,2,4,8] [-Psoak.duration-seconds=600]
+ *        [-Psoak.journeys=SORT_ASCENDING,PRICE_FILTER] [-Dselenium.grid.hub-url=... ...]
+ */
+@Slf4j
+public final class YepySoakRunner {
+
+    private static final Path REPORT_FILE = Path.of("build/reports/soak/yepy-soak.txt");
+
+    // A sweep step that adds less than this share of throughput counts as the plateau
+    private static final double PLATEAU_GAIN = 0.10;
+
+    private static final Duration SESSION_RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final WebDriverFactory webDriverFactory;
+    private final TestConfig testConfig;
+    private final List<YepyJourney> journeys;
+
+    /**
+     * Creates a runner.
+     *
+     * @param webDriverFactory factory of the sessions
+     * @param testConfig       base URL and Cloudflare timeout
+     * @param journeys         journeys each session repeats in turn
+     */
+    public YepySoakRunner(WebDriverFactory webDriverFactory, TestConfig testConfig, List<YepyJourney> journeys) {
+        this.webDriverFactory = webDriverFactory;
+        this.testConfig = testConfig;
+        this.journeys = List.copyOf(journeys);
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Integer> sessionCounts = Arrays.stream(System.getProperty("soak.sessions", "1,2,4").split(","))
+                .map(String::trim).filter(count -> !count.isEmpty()).map(Integer::valueOf).toList();
+        Duration duration = Duration.ofSeconds(Integer.getInteger("soak.duration-seconds", 300));
+        String journeyNames = System.getProperty("soak.journeys", "");
+        List<YepyJourney> journeys = journeyNames.isBlank()
+                ? List.of(YepyJourney.values())
+                : Arrays.stream(journeyNames.split(",")).map(String::trim)
+                        .map(name -> YepyJourney.valueOf(name.toUpperCase(Locale.ROOT))).toList();
+
+        YepySoakRunner runner = new YepySoakRunner(TestBootstrap.webDriverFactory(), TestBootstrap.testConfig(), journeys);
+        List<Result> results = new ArrayList<>();
+        for (int sessions : sessionCounts) {
+            results.add(runner.run(sessions, duration));
+        }
+
+        String report = format(results);
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.writeString(REPORT_FILE, report);
+        log.info("Soak report ({}):{}{}", REPORT_FILE, System.lineSeparator(), report);
+    }
+
+    /**
+     * Runs the journeys in the given number of parallel sessions.
+     *
+     * @param sessions parallel browser sessions
+     * @param duration time new journeys are started for; running journeys are finished
+     * @return statistics of the run
+     */
+    public Result run(int sessions, Duration duration) {
+        SoakStatistics statistics = new SoakStatistics();
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        log.info("Starting Yepy soak with {} sessions for {} s", sessions, duration.toSeconds());
+
+        List<Thread> workers = new ArrayList<>();
+        for (int session = 0; session < sessions; session++) {
+            int offset = session;
+            Thread thread = new Thread(() -> runSession(offset, endNanos, statistics), "soak-session-" + session);
+            thread.start();
+            workers.add(thread);
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for soak sessions", e);
+            }
+        }
+
+        Result result = new Result(sessions, duration, System.nanoTime() - startNanos, statistics);
+        log.info("✓ {} sessions: {} journeys completed, {} failed", sessions,
+                statistics.completedJourneys(), statistics.failedJourneys());
+        return result;
+    }
+
+    private void runSession(int offset, long endNanos, SoakStatistics statistics) {
+        WebDriver driver = null;
+        try {
+            // Sessions start at different journeys so that all of them run from the first minute
+            for (int iteration = offset; System.nanoTime() < endNanos; iteration++) {
+                YepyJourney journey = journeys.get(iteration % journeys.size());
+                if (driver == null) {
+                    driver = createDriver(journey, statistics);
+                    if (driver == null) {
+                        sleep(SESSION_RETRY_DELAY);
+                        continue;
+                    }
+                }
+
+                WebDriver current = driver;
+                long journeyStart = System.nanoTime();
+                try {
+                    journey.run((step, action) -> timeStep(journey, step, action, statistics), current,
+                            new SahibindenHomePage(current, testConfig.getBaseUrl()), new YepyPage(current),
+                            testConfig.getCloudflareWaitTimeout());
+                    statistics.recordJourney(journey, micros(journeyStart), null);
+                } catch (RuntimeException e) {
+                    statistics.recordJourney(journey, micros(journeyStart), e);
+                    log.warn("❌ {} failed on {}: {}", journey.label(), Thread.currentThread().getName(), e.getMessage());
+                    if (isSessionLost(e)) {
+                        quitQuietly(driver);
+                        driver = null;
+                    }
+                }
+            }
+        } finally {
+            quitQuietly(driver);
+        }
+    }
+
+    private WebDriver createDriver(YepyJourney journey, SoakStatistics statistics) {
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = webDriverFactory.createDriver();
+            statistics.recordStep(journey, "session", micros(start), null);
+            return driver;
+        } catch (RuntimeException e) {
+            statistics.recordStep(journey, "session", micros(start), e);
+            statistics.recordJourney(journey, micros(start), e);
+            log.warn("❌ Could not create a browser session: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void timeStep(YepyJourney journey, String step, Runnable action, SoakStatistics statistics) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            statistics.recordStep(journey, step, micros(start), e);
+            throw e;
+        }
+        statistics.recordStep(journey, step, micros(start), null);
+    }
+
+    private static boolean isSessionLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoSuchSessionException || cause instanceof UnreachableBrowserException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            webDriverFactory.quitDriver(driver);
+        } catch (RuntimeException e) {
+            log.debug("Ignoring failure to quit a soak session: {}", e.getMessage());
+        }
+    }
+
+    private static long micros(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a browser session", e);
+        }
+    }
+
+    /**
+     * Formats the sweep summary, the plateau and the per-run tables.
+     *
+     * @param results runs in sweep order
+     * @return report text
+     */
+    static String format(List<Result> results) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-9s %14s %11s %16s%n", "sessions", "journeys/min", "error rate", "journey p90 (s)"));
+        for (Result result : results) {
+            report.append(String.format(Locale.ROOT, "%-9d %14.1f %10.1f%% %16.1f%n", result.sessions(),
+                    result.journeysPerMinute(), 100 * result.statistics().errorRate(),
+                    result.statistics().journeyP90Millis() / 1_000.0));
+        }
+        report.append(plateau(results)).append(System.lineSeparator());
+
+        for (Result result : results) {
+            report.append(System.lineSeparator())
+                    .append(String.format(Locale.ROOT, "=== %d sessions, %d s, %d completed, %d failed ===%n",
+                            result.sessions(), result.duration().toSeconds(),
+                            result.statistics().completedJourneys(), result.statistics().failedJourneys()))
+                    .append(result.statistics().format());
+        }
+        return report.toString();
+    }
+
+    private static String plateau(List<Result> results) {
+        for (int i = 1; i < results.size(); i++) {
+            Result previous = results.get(i - 1);
+            Result current = results.get(i);
+            if (current.sessions() > previous.sessions()
+                    && current.journeysPerMinute() < previous.journeysPerMinute() * (1 + PLATEAU_GAIN)) {
+                return String.format(Locale.ROOT, "Throughput plateaus at %d sessions: %d sessions added less than %.0f%%",
+                        previous.sessions(), current.sessions(), 100 * PLATEAU_GAIN);
+            }
+        }
+        return "No plateau within the measured session counts";
+    }
+
+    /**
+     * Outcome of one soak run.
+     *
+     * @param sessions     parallel browser sessions
+     * @param duration     time new journeys were started for
+     * @param elapsedNanos time until the last session finished
+     * @param statistics   step and journey statistics
+     */
+    public record Result(int sessions, Duration duration, long elapsedNanos, SoakStatistics statistics) {
+
+        /**
+         * Completed journeys per minute of elapsed time.
+         *
+         * @return throughput
+         */
+        public double journeysPerMinute() {
+            return statistics.completedJourneys() / (elapsedNanos / (double) TimeUnit.MINUTES.toNanos(1));
+        }
+    }
+}
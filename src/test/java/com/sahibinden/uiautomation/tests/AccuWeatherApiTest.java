@@ -1,24 +1,30 @@
 package com.sahibinden.uiautomation.tests;
 
 import com.sahibinden.uiautomation.api.AccuWeatherApiClient;
+import com.sahibinden.uiautomation.api.CurrentConditions;
+import com.sahibinden.uiautomation.config.TestBootstrap;
 import com.sahibinden.uiautomation.config.WebDriverFactory;
+import com.sahibinden.uiautomation.config.TestConfig;
+import com.sahibinden.uiautomation.journal.RunJournalExtension;
+import com.sahibinden.uiautomation.ordering.FailFastExtension;
+import com.sahibinden.uiautomation.pages.AccuWeatherPage;
+import com.sahibinden.uiautomation.tracing.TracingExtension;
+import com.sahibinden.uiautomation.weather.MultiLocationComparison;
 import io.qameta.allure.*;
-import io.restassured.path.json.JsonPath;
+import io.qameta.allure.model.Status;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.openqa.selenium.By;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
 
 import java.io.ByteArrayInputStream;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,21 +33,19 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Validates that API temperature matches UI temperature.
  */
 @Slf4j
-@SpringBootTest
+@ExtendWith({TracingExtension.class, RunJournalExtension.class, FailFastExtension.class})
 @Epic("AccuWeather API")
 @Feature("Current Conditions")
 @DisplayName("AccuWeather API ve UI Karşılaştırma Testleri")
 public class AccuWeatherApiTest {
     
-    @Autowired
-    private WebDriverFactory webDriverFactory;
+    private final WebDriverFactory webDriverFactory = TestBootstrap.webDriverFactory();
+    private final TestConfig.WeatherConfig weatherConfig = TestBootstrap.testConfig().getWeather();
     
     private final AccuWeatherApiClient apiClient = new AccuWeatherApiClient();
     private WebDriver driver;
     
     private static final String LOCATION = "349727";
-    private static final By TEMPERATURE_DISPLAY = By.xpath("//div[@class='display-temp']");
-    private static final double TEMPERATURE_TOLERANCE = 1.0;
     
     @BeforeEach
     public void setUp() {
@@ -51,7 +55,7 @@ public class AccuWeatherApiTest {
     @AfterEach
     public void tearDown() {
         if (driver != null) {
-            driver.quit();
+            webDriverFactory.quitDriver(driver);
         }
     }
 
@@ -62,15 +66,25 @@ public class AccuWeatherApiTest {
     @Description("AccuWeather API'den alınan sıcaklık değeri ile web sitesinde görüntülenen sıcaklık değerinin eşleşip eşleşmediği kontrol edilir.")
     public void testTemperatureMatchesBetweenApiAndUi() {
         Response response = getApiResponse();
-        String responseBody = response.getBody().asString();
         
-        ApiWeatherData weatherData = extractWeatherData(response, responseBody);
+        CurrentConditions weatherData = extractWeatherData(response);
         
         navigateToWeatherPage(weatherData.link());
         Double uiTemperature = getTemperatureFromUi();
         
         compareTemperatures(weatherData.temperature(), uiTemperature);
     }
+
+    @Test
+    @Story("Çoklu Lokasyon Karşılaştırması")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Tüm Lokasyonlarda API ve UI Sıcaklık Değerleri Eşleşmeli")
+    @Description("test.weather.location-keys listesindeki lokasyonlar için API çağrıları eşzamanlı yapılır, "
+            + "sayfa kontrolleri birden fazla tarayıcı oturumuna dağıtılır ve her lokasyonun sıcaklığı karşılaştırılır.")
+    public void testTemperatureMatchesForAllLocations() {
+        List<MultiLocationComparison.LocationResult> results = compareLocations(weatherConfig.getLocationKeys());
+        verifyAllLocationsMatch(results);
+    }
     
     @Step("API'den mevcut hava durumu bilgisi alınıyor")
     private Response getApiResponse() {
@@ -80,7 +94,7 @@ public class AccuWeatherApiTest {
                 .as("API response status code should be 200")
                 .isEqualTo(200);
         
-        assertThat(response.getBody().asString())
+        assertThat(response.asByteArray())
                 .as("Response body should not be empty")
                 .isNotEmpty();
         
@@ -88,13 +102,13 @@ public class AccuWeatherApiTest {
     }
     
     @Step("JSON response'tan link ve sıcaklık değerleri extract ediliyor")
-    private ApiWeatherData extractWeatherData(Response response, String responseBody) {
+    private CurrentConditions extractWeatherData(Response response) {
         Allure.addAttachment("API Response (JSON)", "application/json",
-                new ByteArrayInputStream(responseBody.getBytes()), ".json");
+                new ByteArrayInputStream(response.asByteArray()), ".json");
         
-        JsonPath jsonPath = response.jsonPath();
-        String link = jsonPath.getString("[0].Link");
-        Double temperature = jsonPath.getDouble("[0].Temperature.Metric.Value");
+        CurrentConditions conditions = CurrentConditions.parse(LOCATION, response.asInputStream());
+        String link = conditions.link();
+        Double temperature = conditions.temperature();
         
         assertThat(link)
                 .as("Link should not be null or empty")
@@ -105,76 +119,71 @@ public class AccuWeatherApiTest {
                 .as("API temperature should not be null")
                 .isNotNull();
         
-        return new ApiWeatherData(link, temperature);
+        return conditions;
     }
     
     @Step("Web sitesine gidiliyor: {link}")
     private void navigateToWeatherPage(String link) {
-        driver.get(link);
-        
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Waits for the temperature to render instead of sleeping a fixed time
+        new AccuWeatherPage(driver).open(link);
     }
     
     @Step("Web sitesinden sıcaklık değeri okunuyor")
     private Double getTemperatureFromUi() {
-        try {
-            WebElement tempElement = driver.findElement(TEMPERATURE_DISPLAY);
-            String tempText = tempElement.getText().trim();
-            
-            Double temperature = parseTemperature(tempText);
-            
-            if (temperature == null) {
-                tempText = tempElement.getAttribute("textContent");
-                if (tempText == null || tempText.trim().isEmpty()) {
-                    tempText = tempElement.getAttribute("innerText");
-                }
-                temperature = parseTemperature(tempText);
-            }
-            
-            assertThat(temperature)
-                    .as("UI temperature should not be null")
-                    .isNotNull();
-            
-            return temperature;
-            
-        } catch (Exception e) {
-            log.error("UI'dan sıcaklık değeri okunurken hata oluştu", e);
-            throw new RuntimeException("Failed to get temperature from UI", e);
-        }
+        Double temperature = new AccuWeatherPage(driver).getTemperature();
+        
+        assertThat(temperature)
+                .as("UI temperature should not be null")
+                .isNotNull();
+        
+        return temperature;
     }
     
     @Step("API ve UI sıcaklık değerleri karşılaştırılıyor")
     private void compareTemperatures(Double apiTemperature, Double uiTemperature) {
         double difference = Math.abs(apiTemperature - uiTemperature);
+        double tolerance = weatherConfig.getTemperatureTolerance();
         
         assertThat(difference)
                 .as("Sıcaklık değerleri eşleşmeli. API: %s°C, UI: %s°C, Fark: %s°C, Tolerans: %s°C",
-                        apiTemperature, uiTemperature, difference, TEMPERATURE_TOLERANCE)
-                .isLessThanOrEqualTo(TEMPERATURE_TOLERANCE);
+                        apiTemperature, uiTemperature, difference, tolerance)
+                .isLessThanOrEqualTo(tolerance);
     }
     
-    private Double parseTemperature(String tempText) {
-        if (tempText == null || tempText.trim().isEmpty()) {
-            return null;
-        }
-        
-        Pattern pattern = Pattern.compile("([-+]?\\d+(?:\\.\\d+)?)");
-        Matcher matcher = pattern.matcher(tempText.replace("°", "").replace("C", "").trim());
+    @Step("{locationKeys} lokasyonları için API ve UI sıcaklıkları eşzamanlı alınıyor")
+    private List<MultiLocationComparison.LocationResult> compareLocations(List<String> locationKeys) {
+        MultiLocationComparison comparison = new MultiLocationComparison(apiClient, webDriverFactory,
+                weatherConfig.getUiSessions());
+        List<MultiLocationComparison.LocationResult> results = comparison.compare(locationKeys, driver);
         
-        if (matcher.find()) {
-            try {
-                return Double.parseDouble(matcher.group(1));
-            } catch (NumberFormatException e) {
-                return null;
-            }
+        // Worker threads have no Allure context, so the per-location outcome is reported here
+        for (MultiLocationComparison.LocationResult result : results) {
+            boolean matches = result.matches(weatherConfig.getTemperatureTolerance());
+            Allure.step("Lokasyon " + result.locationKey() + ": " + result.describe(),
+                    matches ? Status.PASSED : Status.FAILED);
         }
+        String table = results.stream()
+                .map(MultiLocationComparison.LocationResult::describe)
+                .collect(Collectors.joining("\n"));
+        Allure.addAttachment("Lokasyon Karşılaştırması", "text/plain",
+                new ByteArrayInputStream(table.getBytes(StandardCharsets.UTF_8)), ".txt");
+        return results;
+    }
+    
+    @Step("Tüm lokasyonların sıcaklık değerleri karşılaştırılıyor")
+    private void verifyAllLocationsMatch(List<MultiLocationComparison.LocationResult> results) {
+        List<String> mismatches = results.stream()
+                .filter(result -> !result.matches(weatherConfig.getTemperatureTolerance()))
+                .map(MultiLocationComparison.LocationResult::describe)
+                .toList();
         
-        return null;
+        mismatches.forEach(mismatch -> log.error("❌ {}", mismatch));
+        log.info("{} {}/{} locations match", mismatches.isEmpty() ? "✓" : "❌",
+                results.size() - mismatches.size(), results.size());
+        
+        assertThat(mismatches)
+                .as("Tüm lokasyonlarda sıcaklık değerleri eşleşmeli (Tolerans: %s°C)",
+                        weatherConfig.getTemperatureTolerance())
+                .isEmpty();
     }
-
-    private record ApiWeatherData(String link, Double temperature) {}
 }
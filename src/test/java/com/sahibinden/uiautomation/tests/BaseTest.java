@@ -1,12 +1,26 @@
 package com.sahibinden.uiautomation.tests;
 
+import com.sahibinden.uiautomation.config.SeleniumConfig;
+import com.sahibinden.uiautomation.config.TestBootstrap;
 import com.sahibinden.uiautomation.config.TestConfig;
 import com.sahibinden.uiautomation.config.WebDriverFactory;
+import com.sahibinden.uiautomation.devtools.BrowserEvent;
+import com.sahibinden.uiautomation.devtools.BrowserEventBus;
+import com.sahibinden.uiautomation.devtools.HarRecorder;
+import com.sahibinden.uiautomation.devtools.HarSummary;
+import com.sahibinden.uiautomation.health.SiteHealthCircuitBreaker;
+import com.sahibinden.uiautomation.journal.RunJournalExtension;
+import com.sahibinden.uiautomation.ordering.FailFastExtension;
+import com.sahibinden.uiautomation.pages.Pages;
 import com.sahibinden.uiautomation.pages.SahibindenHomePage;
 import com.sahibinden.uiautomation.pages.YepyPage;
+import com.sahibinden.uiautomation.profiling.WebDriverCommandProfiler;
+import com.sahibinden.uiautomation.timeouts.TimeoutAdvisor;
+import com.sahibinden.uiautomation.tracing.TracingExtension;
 import io.qameta.allure.Allure;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.extension.*;
@@ -19,10 +33,12 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,20 +48,24 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Implements Template Method pattern - provides common setup/teardown.
  * Follows DRY principle - all tests inherit common functionality.
  * Includes automatic Cloudflare verification handling.
+ * Components are resolved through TestBootstrap (Spring context or lite mode, see -Dtest.bootstrap).
  */
 @Slf4j
-@SpringBootTest
+@ExtendWith({TracingExtension.class, RunJournalExtension.class, FailFastExtension.class})
 public abstract class BaseTest {
     
-    @Autowired
-    protected WebDriverFactory webDriverFactory;
+    protected final WebDriverFactory webDriverFactory = TestBootstrap.webDriverFactory();
     
-    @Autowired
-    protected TestConfig testConfig;
+    protected final TestConfig testConfig = TestBootstrap.testConfig();
+    
+    private final SeleniumConfig seleniumConfig = TestBootstrap.seleniumConfig();
     
     protected WebDriver driver;
-    protected SahibindenHomePage homePage;
-    protected YepyPage yepyPage;
+    private Pages pages;
+    
+    private HarRecorder harRecorder;
+    private boolean testFailed;
+    private SiteHealthCircuitBreaker.Permit siteHealthPermit;
     
     private static final int COOKIE_BANNER_WAIT_TIMEOUT = 30; // Shorter timeout for optional element
     private static final By COOKIE_ACCEPT_ALL = By.id("onetrust-accept-btn-handler");
@@ -63,6 +83,8 @@ public abstract class BaseTest {
     final TestExecutionExceptionHandler screenshotHandler = new TestExecutionExceptionHandler() {
         @Override
         public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+            testFailed = true;
+            
             // Get WebDriver from ThreadLocal
             WebDriver webDriver = webDriverThreadLocal.get();
             
@@ -73,6 +95,7 @@ public abstract class BaseTest {
                 
                 log.info("Test failed: {} - Capturing screenshot", testName);
                 attachPageScreenshot(webDriver, attachmentName);
+                attachBrowserConsole(webDriver);
             } else {
                 log.warn("WebDriver not found in ThreadLocal, cannot capture screenshot");
             }
@@ -96,20 +119,52 @@ public abstract class BaseTest {
         }
     }
 
+    /**
+     * Attaches recent browser console events to Allure report when event streaming is active.
+     */
+    private void attachBrowserConsole(WebDriver webDriver) {
+        BrowserEventBus.of(webDriver).ifPresent(bus -> {
+            String console = bus.describeRecent(BrowserEvent.Type.CONSOLE);
+            if (!console.isEmpty()) {
+                Allure.addAttachment("Browser console", "text/plain", console, ".txt");
+            }
+        });
+    }
+
     @BeforeEach
     public void setUp(TestInfo testInfo) {
         log.info("╔════════════════════════════════════════════════════════════╗");
         log.info("║  Starting: {}", testInfo.getDisplayName());
         log.info("╚════════════════════════════════════════════════════════════╝");
         
+        // Rejected before a browser session is taken while the site keeps failing
+        siteHealthPermit = SiteHealthCircuitBreaker.global().admit();
+        Assumptions.assumeFalse(siteHealthPermit.isRejected(), siteHealthPermit::rejectionReason);
+        
         driver = webDriverFactory.createDriver();
+        WebDriverCommandProfiler.active().ifPresent(WebDriverCommandProfiler::startTest);
         
         // Store WebDriver in ThreadLocal for screenshot handler
         // This allows TestExecutionExceptionHandler to access it when test fails
         webDriverThreadLocal.set(driver);
         
-        homePage = new SahibindenHomePage(driver, testConfig.getBaseUrl());
-        yepyPage = new YepyPage(driver);
+        if (seleniumConfig.getHar().isEnabled()) {
+            String testName = testInfo.getTestMethod().map(Method::getName).orElse(testInfo.getDisplayName());
+            harRecorder = BrowserEventBus.of(driver)
+                    .map(bus -> HarRecorder.start(bus, seleniumConfig.getHar(), testName))
+                    .orElse(null);
+        }
+        
+        // Page objects are created on first use; a test only pays for the pages it touches
+        pages = new Pages(driver, testConfig.getBaseUrl());
+    }
+
+    protected SahibindenHomePage homePage() {
+        return pages.homePage();
+    }
+
+    protected YepyPage yepyPage() {
+        return pages.yepyPage();
     }
 
     @AfterEach
@@ -117,12 +172,18 @@ public abstract class BaseTest {
         // Log test completion (JUnit will show if passed/failed)
         log.info("╔════════════════════════════════════════════════════════════╗");
         log.info("║  Completed: {}", testInfo.getDisplayName());
-        log.info("║  Final URL: {}", getCurrentUrl());
+        log.info("║  Final URL: {}", driver != null ? getCurrentUrl() : "-");
         log.info("╚════════════════════════════════════════════════════════════╝");
         
+        if (siteHealthPermit != null) {
+            SiteHealthCircuitBreaker.global().release(siteHealthPermit);
+        }
+        finishHarRecording();
+        finishCommandProfile();
+        
         if (driver != null) {
             try {
-                driver.quit();
+                webDriverFactory.quitDriver(driver);
                 log.debug("WebDriver closed successfully");
             } catch (Exception e) {
                 log.error("Error closing WebDriver", e);
@@ -133,56 +194,105 @@ public abstract class BaseTest {
         }
     }
 
+    /**
+     * Stops HAR recording and attaches the HAR to Allure only when the test failed
+     * or the recording breaches the configured size/latency thresholds.
+     */
+    private void finishHarRecording() {
+        if (harRecorder == null) {
+            return;
+        }
+        
+        HarSummary summary = harRecorder.stop();
+        harRecorder = null;
+        log.info("Network summary ({}):{}{}", summary.file(), System.lineSeparator(), summary.format());
+        
+        SeleniumConfig.HarConfig har = seleniumConfig.getHar();
+        if (testFailed || summary.breaches(har.getAttachThresholdBytes(), har.getAttachThresholdMillis())) {
+            Allure.addAttachment("Network summary", "text/plain", summary.format(), ".txt");
+            try (InputStream harContent = Files.newInputStream(summary.file())) {
+                Allure.addAttachment("HAR", "application/json", harContent, ".har");
+                log.info("✓ HAR attached to Allure: {}", summary.file());
+            } catch (IOException e) {
+                log.warn("Failed to attach HAR file {}: {}", summary.file(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Logs and attaches the WebDriver command profile of the finished test when profiling is enabled.
+     */
+    private void finishCommandProfile() {
+        WebDriverCommandProfiler.active().ifPresent(profiler -> profiler.finishTest().ifPresent(profile -> {
+            String report = profile.format(profiler.topN());
+            log.info("WebDriver command profile:{}{}", System.lineSeparator(), report);
+            Allure.addAttachment("WebDriver command profile", "text/plain", report, ".txt");
+        }));
+    }
+
     protected SahibindenHomePage navigateToSahibinden() {
         log.info("Navigating to Sahibinden.com with automatic overlay handling...");
         
-        // Step 1: Open the page
-        homePage.open();
+        try {
+            // Step 1: Open the page
+            homePage().open();
         
-        // Step 2: Check for Cloudflare challenge
-        if (homePage.isCloudflareChallenge()) {
-            log.warn("╔════════════════════════════════════════════════════════════╗");
-            log.warn("║  CLOUDFLARE CHALLENGE DETECTED                             ║");
-            log.warn("║  Waiting for automatic/manual verification...              ║");
-            log.warn("║  Timeout: {} seconds                                       ║", getCloudflareTimeout());
-            log.warn("╚════════════════════════════════════════════════════════════╝");
+            // Step 2: Check for Cloudflare challenge
+            if (homePage().isCloudflareChallenge()) {
+                log.warn("╔════════════════════════════════════════════════════════════╗");
+                log.warn("║  CLOUDFLARE CHALLENGE DETECTED                             ║");
+                log.warn("║  Waiting for automatic/manual verification...              ║");
+                log.warn("║  Timeout: {} seconds                                       ║", getCloudflareTimeout());
+                log.warn("╚════════════════════════════════════════════════════════════╝");
             
-            // Wait for verification (automatic or manual)
-            boolean verified = homePage.waitForCloudflareVerification(getCloudflareTimeout());
+                // Wait for verification (automatic or manual)
+                boolean verified = homePage().waitForCloudflareVerification(getCloudflareTimeout());
             
-            if (!verified) {
-                log.error("Cloudflare verification failed or timed out!");
-                throw new RuntimeException("Failed to bypass Cloudflare verification");
-            }
+                if (!verified) {
+                    log.error("Cloudflare verification failed or timed out!");
+                    throw new RuntimeException("Failed to bypass Cloudflare verification");
+                }
             
-            log.info("✓ Cloudflare verification completed successfully");
-        } else {
-            log.info("✓ No Cloudflare challenge detected");
-        }
+                log.info("✓ Cloudflare verification completed successfully");
+            } else {
+                log.info("✓ No Cloudflare challenge detected");
+            }
         
-        // Step 3: Wait for page to fully load
-        boolean pageLoaded = homePage.waitForPageLoad(30);
-        if (!pageLoaded) {
-            log.error("Page failed to load within timeout");
-            throw new RuntimeException("Sahibinden.com page load timeout");
+            // Step 3: Wait for page to fully load
+            boolean pageLoaded = homePage().waitForPageLoad(30);
+            if (!pageLoaded) {
+                log.error("Page failed to load within timeout");
+                throw new RuntimeException("Sahibinden.com page load timeout");
+            }
+        } catch (RuntimeException e) {
+            SiteHealthCircuitBreaker.global().recordFailure(siteHealthPermit, e);
+            throw e;
         }
+        SiteHealthCircuitBreaker.global().recordSuccess(siteHealthPermit);
         
         // Step 4: Dismiss cookie banner (appears on home page, one-time)
         dismissCookieBanner();
         
         log.info("✓ Successfully navigated to Sahibinden.com");
-        return homePage;
+        return homePage();
     }
 
     protected WebElement waitForElementClickable(By locator, String elementName, int timeoutSeconds) {
-        log.debug("Waiting for element '{}' to be clickable (timeout: {}s)...", elementName, timeoutSeconds);
+        // Optional elements: the budget shrinks to what the element needed in previous runs
+        String waitKey = getClass().getSimpleName() + " clickable " + locator;
+        TimeoutAdvisor timeoutAdvisor = TimeoutAdvisor.global();
+        Duration timeout = timeoutAdvisor.budget(waitKey, Duration.ofSeconds(timeoutSeconds));
+        log.debug("Waiting for element '{}' to be clickable (timeout: {} ms)...", elementName, timeout.toMillis());
+        long startNanos = System.nanoTime();
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+            WebDriverWait wait = new WebDriverWait(driver, timeout);
             WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+            timeoutAdvisor.recordSuccess(waitKey, Duration.ofNanos(System.nanoTime() - startNanos));
             log.debug("✓ Element '{}' is now clickable", elementName);
             return element;
         } catch (TimeoutException e) {
-            log.debug("Element '{}' not clickable within {} seconds: {}", elementName, timeoutSeconds, e.getMessage());
+            timeoutAdvisor.recordTimeout(waitKey);
+            log.debug("Element '{}' not clickable within {} ms: {}", elementName, timeout.toMillis(), e.getMessage());
             return null;
         }
     }
@@ -251,13 +361,13 @@ public abstract class BaseTest {
     }
 
     protected boolean isOnSahibinden() {
-        boolean result = homePage.isOnSahibindenPage();
+        boolean result = homePage().isOnSahibindenPage();
         log.debug("Is on Sahibinden page: {}", result);
         return result;
     }
 
     protected String getCurrentUrl() {
-        return homePage.getUrl();
+        return driver.getCurrentUrl();
     }
 
     protected String getBaseUrl() {
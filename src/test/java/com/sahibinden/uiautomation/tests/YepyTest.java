@@ -1,15 +1,22 @@
 package com.sahibinden.uiautomation.tests;
 
+import com.sahibinden.uiautomation.hybrid.HybridListingEngine;
 import com.sahibinden.uiautomation.pages.SahibindenHomePage;
 import com.sahibinden.uiautomation.pages.YepyPage;
+import com.sahibinden.uiautomation.verification.ListingRow;
+import com.sahibinden.uiautomation.verification.ListingValidator;
+import com.sahibinden.uiautomation.verification.RowValidator;
+import com.sahibinden.uiautomation.verification.StreamingPriceVerifier;
 import io.qameta.allure.*;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -26,7 +33,7 @@ public class YepyTest extends BaseTest {
     @Description("Kullanıcı 'Fiyat: Düşükten Yükseğe' seçeneğini seçtiğinde ürünler ucuzdan pahalıya sıralanmalıdır.")
     public void testPriceOrderAscending() {
         navigateToYenilenmisTelefonlar();
-        yepyPage.applyPriceSorting(true);
+        yepyPage().applyPriceSorting(true);
         verifyPricesAreSorted(true);
     }
 
@@ -37,10 +44,28 @@ public class YepyTest extends BaseTest {
     @Description("Kullanıcı 'Fiyat: Yüksekten Düşüğe' seçeneğini seçtiğinde ürünler pahalıdan ucuza sıralanmalıdır.")
     public void testPriceOrderDescending() {
         navigateToYenilenmisTelefonlar();
-        yepyPage.applyPriceSorting(false);
+        yepyPage().applyPriceSorting(false);
         verifyPricesAreSorted(true);
     }
 
+    @Test
+    @Story("Fiyat Sıralama")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Artan ve Azalan Fiyat Sıralaması Tek Oturumda Kontrolü")
+    @Description("Artan ve azalan fiyat sıralamaları aynı tarayıcı oturumunda ayrı sekmelerde açılır; her iki sıralama da doğru olmalıdır.")
+    public void testPriceOrdersInParallelTabs() {
+        navigateToYenilenmisTelefonlar();
+
+        Map<String, Boolean> results = yepyPage().checkPriceSortingInTabs();
+
+        assertThat(results)
+                .as("Both sort orders should be checked")
+                .containsOnlyKeys("price_asc", "price_desc");
+        results.forEach((sorting, sorted) -> assertThat(sorted)
+                .as("Prices should be sorted for '%s'", sorting)
+                .isTrue());
+    }
+
     @Test
     @Story("Fiyat Filtreleme")
     @Severity(SeverityLevel.NORMAL)
@@ -50,10 +75,10 @@ public class YepyTest extends BaseTest {
         navigateToYenilenmisTelefonlar();
 
         // Apply maximum price filter
-        yepyPage.applyPriceFilter(9000, true);
+        yepyPage().applyPriceFilter(9000, true);
 
         // Sort by price descending and verify
-        yepyPage.applyPriceSorting(false);
+        yepyPage().applyPriceSorting(false);
         verifyFirstPriceIsWithinLimit(9000, true);
     }
 
@@ -63,26 +88,102 @@ public class YepyTest extends BaseTest {
         navigateToYenilenmisTelefonlar();
 
         // Apply minimum price filter
-        yepyPage.applyPriceFilter(5000, false);
+        yepyPage().applyPriceFilter(5000, false);
 
         // Sort by price ascending and verify
-        yepyPage.applyPriceSorting(true);
+        yepyPage().applyPriceSorting(true);
         verifyFirstPriceIsWithinLimit(5000, false);
     }
 
+    @Test
+    @Story("Fiyat Sıralama")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Tüm Sayfalarda Artan Fiyat Sıralaması Kontrolü")
+    @Description("Artan fiyat sıralaması sadece ilk sayfada değil, tüm sonuç sayfaları boyunca kesintisiz olmalıdır.")
+    public void testPriceOrderAscendingAcrossAllPages() {
+        navigateToYenilenmisTelefonlar();
+        yepyPage().applyPriceSorting(true);
+
+        verifyPricesAcrossPages(yepyPage().verifyPricesAcrossPages(true, null, null, testConfig.getListingMaxPages()));
+    }
+
+    @Test
+    @Story("Fiyat Filtreleme")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Tüm Sayfalarda Maksimum Fiyat Filtresi Kontrolü")
+    @Description("Maksimum fiyat filtresi uygulandığında tüm sonuç sayfalarındaki fiyatlar limit dahilinde ve azalan sırada olmalıdır.")
+    public void testMaxPriceFilterAcrossAllPages() {
+        navigateToYenilenmisTelefonlar();
+        yepyPage().applyPriceFilter(9000, true);
+        yepyPage().applyPriceSorting(false);
+
+        verifyPricesAcrossPages(yepyPage().verifyPricesAcrossPages(false, null, 9000.0, testConfig.getListingMaxPages()));
+    }
+
+    @Test
+    @Story("Fiyat Sıralama")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Fiyat Sıralama ve Filtrelerinin HTTP Üzerinden Kontrolü")
+    @Description("Sıralama ve fiyat filtresi URL'leri tarayıcı oturumunun çerezleriyle HTTP üzerinden doğrulanır; örneklenen sayfalar tarayıcıda tekrar kontrol edilir ve iki yol aynı fiyatları vermelidir.")
+    public void testPriceRulesOverHttp() {
+        navigateToYenilenmisTelefonlar();
+
+        String listingUrl = getCurrentUrl();
+        int maxPages = testConfig.getListingMaxPages();
+        HybridListingEngine engine = new HybridListingEngine(driver, yepyPage(), testConfig.getHybrid());
+
+        verifyPricesAcrossPages(engine.verifyPrices(
+                YepyPage.listingUrl(listingUrl, "price_asc", null, null), true, null, null, maxPages));
+        verifyPricesAcrossPages(engine.verifyPrices(
+                YepyPage.listingUrl(listingUrl, "price_desc", null, null), false, null, null, maxPages));
+        verifyPricesAcrossPages(engine.verifyPrices(
+                YepyPage.listingUrl(listingUrl, "price_desc", null, 9000), false, null, 9000.0, maxPages));
+        verifyPricesAcrossPages(engine.verifyPrices(
+                YepyPage.listingUrl(listingUrl, "price_asc", 5000, null), true, 5000.0, null, maxPages));
+
+        // The first HTTP page is always sampled, so no checks means every page fell back to the browser
+        List<HybridListingEngine.CrossCheck> checks = engine.crossCheck();
+        Assumptions.assumeFalse(checks.isEmpty(),
+                "Every listing page fell back to the browser, so the HTTP path could not be cross-checked");
+        checks.forEach(check -> assertThat(check.agrees())
+                .as("HTTP and browser should extract the same prices for %s: %s", check.url(), check.describe())
+                .isTrue());
+    }
+
     @Test
     @DisplayName("Multiple filters should be applied")
     public void testMultipleFiltersShouldBeApplied() {
         navigateToYenilenmisTelefonlar();
-        yepyPage.clickCheckbox(YepyPage.KOZMETIK_DURUM_IYI_CHECKBOX, "İyi Durum");
-        yepyPage.clickCheckbox(YepyPage.RENK_ALTIN_CHECKBOX, "Altın Renk");
-        yepyPage.clickSearchButton();
+        yepyPage().clickCheckbox(YepyPage.KOZMETIK_DURUM_IYI_CHECKBOX, "İyi Durum");
+        yepyPage().clickCheckbox(YepyPage.RENK_ALTIN_CHECKBOX, "Altın Renk");
+        yepyPage().clickSearchButton();
 
         verifyUrlContains("/apple-cep-telefonu?");
-        yepyPage.clickElement(YepyPage.FIRST_PRODUCT_LINK, "First Product");
+        yepyPage().clickElement(YepyPage.FIRST_PRODUCT_LINK, "First Product");
         verifyUrlContains("/yepy/yenilenmis-telefonlar/detay/");
-        yepyPage.isElementDisplayed(YepyPage.IYI_DURUMDA, "İyi durumda");
-        yepyPage.isElementDisplayed(YepyPage.ALTIN_RENGI, "Altın rengi");
+        yepyPage().isElementDisplayed(YepyPage.IYI_DURUMDA, "İyi durumda");
+        yepyPage().isElementDisplayed(YepyPage.ALTIN_RENGI, "Altın rengi");
+    }
+
+    @Test
+    @Story("Fiyat Filtreleme")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Filtre Sonuç Listesinin Tamamının Kontrolü")
+    @Description("Kozmetik durum, renk ve maksimum fiyat filtreleri ile azalan sıralama uygulandığında listedeki her satır tüm filtrelere ve sıralamaya uymalıdır.")
+    public void testFilteredResultListMatchesAllFilters() {
+        navigateToYenilenmisTelefonlar();
+        yepyPage().clickCheckbox(YepyPage.KOZMETIK_DURUM_IYI_CHECKBOX, "İyi Durum");
+        yepyPage().clickCheckbox(YepyPage.RENK_ALTIN_CHECKBOX, "Altın Renk");
+        yepyPage().applyPriceFilter(9000, true);
+        yepyPage().applyPriceSorting(false);
+
+        ListingValidator validator = new ListingValidator(List.of(
+                RowValidator.sortedByPrice(false),
+                RowValidator.priceBetween(null, 9000.0),
+                RowValidator.attributeEquals("condition", ListingRow::condition, "İyi"),
+                RowValidator.attributeEquals("color", ListingRow::color, "Altın")));
+
+        verifyListingRows(validator.validate(yepyPage().getListingRows()));
     }
 
     // ========== Navigation Helper Methods ==========
@@ -103,31 +204,31 @@ public class YepyTest extends BaseTest {
 
     // ========== Yepy Category Navigation Steps ==========
     private void verifyYepyLinkIsDisplayed() {
-        assertThat(homePage.isElementDisplayed(SahibindenHomePage.YEPY_BUTTON, "Yepy"))
+        assertThat(homePage().isElementDisplayed(SahibindenHomePage.YEPY_BUTTON, "Yepy"))
                 .as("Yepy link should be visible on home page")
                 .isTrue();
     }
 
     private void clickYepyLink() {
-        homePage.clickElement(SahibindenHomePage.YEPY_BUTTON, "Yepy");
+        homePage().clickElement(SahibindenHomePage.YEPY_BUTTON, "Yepy");
     }
 
     // ========== Yenilenmiş Telefonlar Navigation Steps ==========
 
     private void verifyCihazAraLinkIsDisplayed() {
-        assertThat(yepyPage.isElementDisplayed(YepyPage.CIHAZ_ARA_BUTTON, "Cihaz Ara Link"))
+        assertThat(yepyPage().isElementDisplayed(YepyPage.CIHAZ_ARA_BUTTON, "Cihaz Ara Link"))
                 .as("Cihaz ara link should be visible on Yepy page")
                 .isTrue();
     }
 
     private void clickCihazAraButton() {
-        yepyPage.clickElement(YepyPage.CIHAZ_ARA_BUTTON, "Cihaz Ara Link");
+        yepyPage().clickElement(YepyPage.CIHAZ_ARA_BUTTON, "Cihaz Ara Link");
     }
 
     // ========== URL Verification (Parametrized) ==========
 
     private void verifyUrlContains(String urlFragment) {
-        yepyPage.waitForUrlContains(urlFragment);
+        yepyPage().waitForUrlContains(urlFragment);
         assertThat(getCurrentUrl())
                 .as("URL should contain '%s'", urlFragment)
                 .contains(urlFragment);
@@ -137,14 +238,14 @@ public class YepyTest extends BaseTest {
 
     private void verifyPricesAreSorted(boolean ascending) {
         String sortType = ascending ? "price_asc" : "price_desc";
-        yepyPage.waitForUrlContains("sorting=" + sortType);
-        List<Double> prices = yepyPage.getAllPricesAsDoubles();
+        yepyPage().waitForUrlContains("sorting=" + sortType);
+        List<Double> prices = yepyPage().getAllPricesAsDoubles();
 
         assertThat(prices)
                 .as("Price list should not be empty")
                 .isNotEmpty();
 
-        assertThat(yepyPage.arePricesSorted(ascending))
+        assertThat(yepyPage().arePricesSorted(ascending))
                 .as("Prices should be sorted in %s order", ascending ? "ascending" : "descending")
                 .isTrue();
 
@@ -152,16 +253,44 @@ public class YepyTest extends BaseTest {
                 ascending ? "ascending" : "descending");
     }
 
+    private void verifyPricesAcrossPages(StreamingPriceVerifier.Result result) {
+        assertThat(result.checked())
+                .as("Price list should not be empty")
+                .isPositive();
+
+        assertThat(result.violations())
+                .as("All %d prices on %d pages should satisfy sort/filter rules. First violation: %s",
+                        result.checked(), result.pages(), result.firstViolation())
+                .isZero();
+
+        log.info("✓ Verified {} prices across {} pages", result.checked(), result.pages());
+    }
+
+    private void verifyListingRows(ListingValidator.Report report) {
+        assertThat(report.rows())
+                .as("Result list should not be empty")
+                .isPositive();
+
+        if (!report.passed()) {
+            Allure.addAttachment("Listing row failures", "text/plain", report.format(), ".txt");
+        }
+        assertThat(report.failures())
+                .as("All %d rows should satisfy %s:%n%s", report.rows(), report.validators(), report.format())
+                .isEmpty();
+
+        log.info("✓ Verified {} listing rows against {}", report.rows(), report.validators());
+    }
+
     // ========== Price Filter Verification (Test Assertions) ==========
 
     private void verifyFirstPriceIsWithinLimit(double limit, boolean isMax) {
-        List<Double> prices = yepyPage.getAllPricesAsDoubles();
+        List<Double> prices = yepyPage().getAllPricesAsDoubles();
 
         assertThat(prices)
                 .as("Price list should not be empty after filtering and sorting")
                 .isNotEmpty();
 
-        double firstPrice = yepyPage.getFirstPrice();
+        double firstPrice = yepyPage().getFirstPrice();
         String limitType = isMax ? "maximum" : "minimum";
         String comparison = isMax ? "<=" : ">=";
 
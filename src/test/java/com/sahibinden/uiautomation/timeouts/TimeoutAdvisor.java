@@ -0,0 +1,182 @@
+package com.sahibinden.uiautomation.timeouts;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Derives wait budgets from previously observed wait durations.
+ * Successful waits are recorded per page and wait key (e.g. "YepyPage visibility By.id: advancedSorting")
+ * and merged into an on-disk history at the end of the run. Once a key has enough history its budget is
+ * p99 × safety factor, bounded by a minimum and by the hardcoded timeout, so a wait for something that is
+ * truly broken fails in seconds instead of running into the full timeout.
+ * Budgets are only applied with test.adaptive-timeouts.enabled; recording runs independently so history
+ * can be collected first.
+ */
+@Slf4j
+public final class TimeoutAdvisor {
+
+    private static volatile TimeoutAdvisor global;
+
+    private final TestConfig.AdaptiveTimeoutsConfig config;
+    private final WaitHistoryStore store;
+    private final Map<String, List<Long>> history;
+    private final Map<String, List<Long>> runSamples = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> runTimeouts = new ConcurrentHashMap<>();
+
+    TimeoutAdvisor(TestConfig.AdaptiveTimeoutsConfig config, WaitHistoryStore store, Map<String, List<Long>> history) {
+        this.config = config;
+        this.store = store;
+        this.history = history;
+    }
+
+    /**
+     * Gets the advisor of this test JVM, loading the stored history on first use.
+     *
+     * @return global advisor
+     */
+    public static TimeoutAdvisor global() {
+        if (global == null) {
+            synchronized (TimeoutAdvisor.class) {
+                if (global == null) {
+                    TestConfig.AdaptiveTimeoutsConfig config = TestBootstrap.testConfig().getAdaptiveTimeouts();
+                    WaitHistoryStore store = new WaitHistoryStore(Path.of(config.getStore()), config.getMaxSamples());
+                    Map<String, List<Long>> history = Map.of();
+                    if (config.isEnabled() || config.isRecord()) {
+                        try {
+                            history = store.load();
+                        } catch (IOException e) {
+                            log.warn("Failed to read wait history {}: {}", config.getStore(), e.getMessage());
+                        }
+                    }
+                    global = new TimeoutAdvisor(config, store, history);
+                }
+            }
+        }
+        return global;
+    }
+
+    /**
+     * Gets the advisor if it was used in this JVM.
+     *
+     * @return global advisor or null
+     */
+    static TimeoutAdvisor globalIfInitialized() {
+        return global;
+    }
+
+    /**
+     * Gets the wait budget for a key.
+     *
+     * @param key            wait key (page, wait type and locator or condition)
+     * @param defaultTimeout hardcoded timeout, also the upper bound of the budget
+     * @return adaptive budget, or the default when disabled or the key has too little history
+     */
+    public Duration budget(String key, Duration defaultTimeout) {
+        if (!config.isEnabled()) {
+            return defaultTimeout;
+        }
+        List<Long> samples = history.get(sanitize(key));
+        if (samples == null || samples.size() < config.getMinSamples()) {
+            return defaultTimeout;
+        }
+        long budgetMillis = (long) (percentile(samples, 99) * config.getSafetyFactor());
+        budgetMillis = Math.max(budgetMillis, config.getMinTimeoutMillis());
+        return budgetMillis < defaultTimeout.toMillis() ? Duration.ofMillis(budgetMillis) : defaultTimeout;
+    }
+
+    /**
+     * Records a successful wait.
+     *
+     * @param key      wait key
+     * @param duration how long the wait took
+     */
+    public void recordSuccess(String key, Duration duration) {
+        if (config.isRecord()) {
+            runSamples.computeIfAbsent(sanitize(key), k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(duration.toMillis());
+        }
+    }
+
+    /**
+     * Records a wait that ran into its budget.
+     *
+     * @param key wait key
+     */
+    public void recordTimeout(String key) {
+        if (config.isRecord()) {
+            runTimeouts.computeIfAbsent(sanitize(key), k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Merges this run's samples into the on-disk history.
+     *
+     * @throws IOException if the store cannot be updated
+     */
+    void persist() throws IOException {
+        if (!runSamples.isEmpty()) {
+            Map<String, List<Long>> snapshot = new TreeMap<>();
+            runSamples.forEach((key, samples) -> {
+                synchronized (samples) {
+                    snapshot.put(key, new ArrayList<>(samples));
+                }
+            });
+            store.merge(snapshot);
+        }
+    }
+
+    /**
+     * Lists waits whose timing in this run moved away from their history, and waits that timed out.
+     *
+     * @return drift report, empty if nothing drifted
+     */
+    String driftReport() {
+        StringBuilder report = new StringBuilder();
+        new TreeMap<>(runSamples).forEach((key, samples) -> {
+            List<Long> past = history.get(key);
+            List<Long> current;
+            synchronized (samples) {
+                current = new ArrayList<>(samples);
+            }
+            if (past == null || past.size() < config.getMinSamples() || current.size() < 3) {
+                return;
+            }
+            double before = percentile(past, 90);
+            double now = percentile(current, 90);
+            double ratio = before > 0 ? now / before : Double.POSITIVE_INFINITY;
+            if (ratio >= config.getDriftFactor() || ratio <= 1 / config.getDriftFactor()) {
+                report.append(String.format("%-8s p90 %6.0f ms -> %6.0f ms (x%.2f, %d samples)  %s%n",
+                        ratio > 1 ? "SLOWER" : "FASTER", before, now, ratio, current.size(), key));
+            }
+        });
+        new TreeMap<>(runTimeouts).forEach((key, count) -> {
+            Duration budget = budget(key, Duration.ofDays(1));
+            report.append(String.format("%-8s %d timeout(s)%s  %s%n", "TIMEOUT", count.get(),
+                    budget.toDays() < 1 ? String.format(" with adaptive budget %d ms", budget.toMillis()) : "", key));
+        });
+        return report.toString();
+    }
+
+    private static double percentile(List<Long> samples, double percentile) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static String sanitize(String key) {
+        return key.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
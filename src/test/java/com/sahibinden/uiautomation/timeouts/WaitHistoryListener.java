@@ -0,0 +1,42 @@
+package com.sahibinden.uiautomation.timeouts;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Stores the wait durations of the run and reports waits whose timing drifted.
+ * Registered through META-INF/services; does nothing if no wait was recorded.
+ */
+@Slf4j
+public class WaitHistoryListener implements TestExecutionListener {
+
+    // One report per test JVM, so parallel forks do not overwrite each other
+    private static final Path DRIFT_REPORT = Path.of("build", "reports",
+            "timeout-drift-" + ProcessHandle.current().pid() + ".txt");
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        TimeoutAdvisor advisor = TimeoutAdvisor.globalIfInitialized();
+        if (advisor == null) {
+            return;
+        }
+
+        String drift = advisor.driftReport();
+        try {
+            advisor.persist();
+            Files.createDirectories(DRIFT_REPORT.getParent());
+            Files.writeString(DRIFT_REPORT, drift, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Failed to store wait history: {}", e.getMessage());
+        }
+        if (!drift.isEmpty()) {
+            log.warn("Wait timings drifting from history:{}{}", System.lineSeparator(), drift);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sahibinden.uiautomation.timeouts;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tab separated file of recent successful wait durations per wait key, one line per key:
+ * {@code key<TAB>millis,millis,...} with the newest sample last. Only the latest samples
+ * are kept per key, so the file stays small. Concurrent test JVMs merge their samples under
+ * a file lock and replace the file atomically.
+ */
+class WaitHistoryStore {
+
+    private final Path file;
+    private final int maxSamplesPerKey;
+
+    WaitHistoryStore(Path file, int maxSamplesPerKey) {
+        this.file = file;
+        this.maxSamplesPerKey = maxSamplesPerKey;
+    }
+
+    /**
+     * Reads all samples.
+     *
+     * @return wait key to samples in milliseconds, oldest first; empty if the store does not exist
+     * @throws IOException if the file cannot be read
+     */
+    Map<String, List<Long>> load() throws IOException {
+        Map<String, List<Long>> history = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return history;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int tab = line.indexOf('\t');
+            if (tab <= 0 || tab == line.length() - 1) {
+                continue;
+            }
+            try {
+                List<Long> samples = Arrays.stream(line.substring(tab + 1).split(","))
+                        .map(Long::parseLong)
+                        .collect(Collectors.toCollection(ArrayList::new));
+                history.put(line.substring(0, tab), samples);
+            } catch (NumberFormatException e) {
+                // Skip corrupt lines instead of discarding the whole history
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Appends the samples of this run to the stored history.
+     *
+     * @param runSamples wait key to samples in milliseconds recorded by this JVM
+     * @throws IOException if the store cannot be updated
+     */
+    void merge(Map<String, List<Long>> runSamples) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path lockFile = directory.resolve(file.getFileName() + ".lock");
+
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            Map<String, List<Long>> history = new TreeMap<>(load());
+            runSamples.forEach((key, samples) -> {
+                List<Long> merged = history.computeIfAbsent(key, k -> new ArrayList<>());
+                merged.addAll(samples);
+                if (merged.size() > maxSamplesPerKey) {
+                    merged.subList(0, merged.size() - maxSamplesPerKey).clear();
+                }
+            });
+
+            StringBuilder content = new StringBuilder();
+            history.forEach((key, samples) -> content.append(key).append('\t')
+                    .append(samples.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                    .append('\n'));
+
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.writeString(temp, content, StandardCharsets.UTF_8);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+}
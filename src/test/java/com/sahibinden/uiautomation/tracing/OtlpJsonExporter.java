@@ -0,0 +1,114 @@
+package com.sahibinden.uiautomation.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends spans to a JSON Lines file in the OTLP/JSON trace format, one ExportTraceServiceRequest per line.
+ * This is the layout of the OpenTelemetry Collector file exporter, so the file can be replayed into a
+ * collector (otlpjsonfile receiver) or loaded by any OTLP-aware viewer.
+ */
+class OtlpJsonExporter {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final Path file;
+    private final String serviceName;
+
+    OtlpJsonExporter(Path file, String serviceName) {
+        this.file = file;
+        this.serviceName = serviceName;
+    }
+
+    synchronized void write(List<Span> spans) throws IOException {
+        StringWriter line = new StringWriter();
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("resourceSpans");
+            json.writeStartObject();
+
+            json.writeObjectFieldStart("resource");
+            json.writeArrayFieldStart("attributes");
+            writeAttribute(json, "service.name", serviceName);
+            writeAttribute(json, "process.pid", ProcessHandle.current().pid());
+            json.writeEndArray();
+            json.writeEndObject();
+
+            json.writeArrayFieldStart("scopeSpans");
+            json.writeStartObject();
+            json.writeObjectFieldStart("scope");
+            json.writeStringField("name", "com.sahibinden.uiautomation.tracing");
+            json.writeEndObject();
+            json.writeArrayFieldStart("spans");
+            for (Span span : spans) {
+                writeSpan(json, span);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeEndArray();
+
+            json.writeEndObject();
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+        line.write('\n');
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, line.toString(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static void writeSpan(JsonGenerator json, Span span) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("traceId", span.traceId);
+        json.writeStringField("spanId", span.spanId);
+        if (span.parentSpanId != null) {
+            json.writeStringField("parentSpanId", span.parentSpanId);
+        }
+        json.writeStringField("name", span.name);
+        json.writeNumberField("kind", span.kind.otlpCode);
+        // 64-bit integers are encoded as strings in OTLP/JSON
+        json.writeStringField("startTimeUnixNano", Long.toString(span.startEpochNanos));
+        json.writeStringField("endTimeUnixNano", Long.toString(span.endEpochNanos));
+
+        json.writeArrayFieldStart("attributes");
+        for (Map.Entry<String, Object> attribute : span.attributes.entrySet()) {
+            writeAttribute(json, attribute.getKey(), attribute.getValue());
+        }
+        json.writeEndArray();
+
+        json.writeObjectFieldStart("status");
+        json.writeNumberField("code", span.error ? 2 : 1);
+        if (span.errorMessage != null) {
+            json.writeStringField("message", span.errorMessage);
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+
+    private static void writeAttribute(JsonGenerator json, String key, Object value) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("key", key);
+        json.writeObjectFieldStart("value");
+        if (value instanceof Boolean bool) {
+            json.writeBooleanField("boolValue", bool);
+        } else if (value instanceof Integer || value instanceof Long) {
+            json.writeStringField("intValue", value.toString());
+        } else if (value instanceof Number number) {
+            json.writeNumberField("doubleValue", number.doubleValue());
+        } else {
+            json.writeStringField("stringValue", String.valueOf(value));
+        }
+        json.writeEndObject();
+        json.writeEndObject();
+    }
+}
@@ -0,0 +1,113 @@
+package com.sahibinden.uiautomation.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed operation inside a trace, modelled after the OpenTelemetry span data model.
+ * Spans are started through {@link Tracer} and must be ended on the thread that started them,
+ * except detached spans, which may be ended from any thread.
+ */
+public class Span {
+
+    /**
+     * OTLP span kinds used by the framework.
+     */
+    public enum Kind {
+        INTERNAL(1),
+        CLIENT(3);
+
+        final int otlpCode;
+
+        Kind(int otlpCode) {
+            this.otlpCode = otlpCode;
+        }
+    }
+
+    static final Span NOOP = new Span(null, null, null, null, null, Kind.INTERNAL, 0, true);
+
+    private final Tracer tracer;
+    final String traceId;
+    final String spanId;
+    final String parentSpanId;
+    final String name;
+    final Kind kind;
+    final long startEpochNanos;
+    final boolean detached;
+    final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    long endEpochNanos;
+    String errorMessage;
+    boolean error;
+    private boolean ended;
+
+    Span(Tracer tracer, String traceId, String spanId, String parentSpanId, String name, Kind kind,
+         long startEpochNanos, boolean detached) {
+        this.tracer = tracer;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = startEpochNanos;
+        this.detached = detached;
+    }
+
+    /**
+     * Sets an attribute. Strings, booleans and numbers are kept as typed OTLP values.
+     *
+     * @param key   attribute key
+     * @param value attribute value, ignored if null
+     * @return this span
+     */
+    public Span setAttribute(String key, Object value) {
+        if (tracer != null && value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Marks the span as failed.
+     *
+     * @param throwable failure cause
+     * @return this span
+     */
+    public Span recordError(Throwable throwable) {
+        return recordError(throwable.getClass().getSimpleName() + ": " + throwable.getMessage());
+    }
+
+    /**
+     * Marks the span as failed.
+     *
+     * @param message failure description
+     * @return this span
+     */
+    public Span recordError(String message) {
+        if (tracer != null) {
+            error = true;
+            errorMessage = message;
+        }
+        return this;
+    }
+
+    /**
+     * Ends the span and hands it to the tracer for export. Ending twice has no effect.
+     */
+    public void end() {
+        if (tracer == null || ended) {
+            return;
+        }
+        ended = true;
+        endEpochNanos = Tracer.nowEpochNanos();
+        tracer.finish(this);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long durationNanos() {
+        return endEpochNanos - startEpochNanos;
+    }
+}
@@ -0,0 +1,194 @@
+package com.sahibinden.uiautomation.tracing;
+
+import com.sahibinden.uiautomation.config.TestBootstrap;
+import com.sahibinden.uiautomation.config.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process tracer producing OpenTelemetry-compatible spans.
+ * The current span is tracked per thread, so spans started while another span is open become
+ * its children; tests running in parallel get separate traces. Finished spans are buffered and
+ * written as OTLP-JSON lines in batches: when flush-spans spans are buffered, when flush-interval-seconds
+ * have passed since the last write, at the end of the test plan and when the JVM exits.
+ * Enabled with test.tracing.enabled; when disabled every span is a no-op.
+ */
+@Slf4j
+public final class Tracer {
+
+    // Anchors nanoTime to the epoch once, so span timestamps are both precise and absolute
+    private static final long EPOCH_OFFSET_NANOS = System.currentTimeMillis() * 1_000_000 - System.nanoTime();
+
+    private static volatile Tracer global;
+
+    private final boolean enabled;
+    private final OtlpJsonExporter exporter;
+    private final ThreadLocal<Deque<Span>> currentSpans = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Queue<Span> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final int flushSpans;
+    private final long flushIntervalNanos;
+    private volatile long lastFlushNanos = System.nanoTime();
+
+    Tracer(boolean enabled, OtlpJsonExporter exporter, int flushSpans, long flushIntervalNanos) {
+        this.enabled = enabled;
+        this.exporter = exporter;
+        this.flushSpans = flushSpans;
+        this.flushIntervalNanos = flushIntervalNanos;
+    }
+
+    /**
+     * Gets the tracer configured for this test JVM.
+     *
+     * @return global tracer
+     */
+    public static Tracer global() {
+        if (global == null) {
+            synchronized (Tracer.class) {
+                if (global == null) {
+                    TestConfig.TracingConfig config = TestBootstrap.testConfig().getTracing();
+                    Path file = Path.of(config.getDirectory(), "traces-" + ProcessHandle.current().pid() + ".jsonl");
+                    Tracer tracer = new Tracer(config.isEnabled(), new OtlpJsonExporter(file, config.getServiceName()),
+                            config.getFlushSpans(), TimeUnit.SECONDS.toNanos(config.getFlushIntervalSeconds()));
+                    if (config.isEnabled()) {
+                        // Runners outside JUnit (soak, load generation) have no end-of-plan flush
+                        Runtime.getRuntime().addShutdownHook(new Thread(tracer::flush, "tracer-flush"));
+                        log.info("Tracing enabled, spans are written to {}", file);
+                    }
+                    global = tracer;
+                }
+            }
+        }
+        return global;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a span as a child of the current span on this thread, or as a new trace root.
+     *
+     * @param name span name
+     * @param kind span kind
+     * @return started span (no-op when tracing is disabled)
+     */
+    public Span startSpan(String name, Span.Kind kind) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        Deque<Span> stack = currentSpans.get();
+        Span parent = stack.peek();
+        String traceId = parent != null ? parent.traceId : randomHex(16);
+        Span span = new Span(this, traceId, randomHex(8), parent != null ? parent.spanId : null, name, kind,
+                nowEpochNanos(), false);
+        stack.push(span);
+        return span;
+    }
+
+    /**
+     * Starts a child of the current span that is not made current, for work that completes on
+     * another thread (e.g. asynchronous HTTP requests). It may be ended from any thread.
+     *
+     * @param name span name
+     * @param kind span kind
+     * @return started span (no-op when tracing is disabled)
+     */
+    public Span startDetachedSpan(String name, Span.Kind kind) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        Span parent = currentSpans.get().peek();
+        String traceId = parent != null ? parent.traceId : randomHex(16);
+        return new Span(this, traceId, randomHex(8), parent != null ? parent.spanId : null, name, kind,
+                nowEpochNanos(), true);
+    }
+
+    /**
+     * Starts an internal span.
+     *
+     * @param name span name
+     * @return started span
+     */
+    public Span startSpan(String name) {
+        return startSpan(name, Span.Kind.INTERNAL);
+    }
+
+    /**
+     * Flushes the global tracer if it was used in this JVM, without initializing it otherwise.
+     */
+    public static void flushGlobal() {
+        Tracer tracer = global;
+        if (tracer != null) {
+            tracer.flush();
+        }
+    }
+
+    /**
+     * Writes all finished spans to the trace file.
+     */
+    public void flush() {
+        if (!enabled || finished.isEmpty()) {
+            return;
+        }
+        lastFlushNanos = System.nanoTime();
+        List<Span> batch = new ArrayList<>();
+        for (Span span = finished.poll(); span != null; span = finished.poll()) {
+            batch.add(span);
+        }
+        buffered.addAndGet(-batch.size());
+        if (batch.isEmpty()) {
+            // Drained by a concurrent flush
+            return;
+        }
+        try {
+            exporter.write(batch);
+        } catch (IOException e) {
+            log.warn("Failed to write {} spans: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    void finish(Span span) {
+        // Detached spans were never made current and may end on any thread, so no stack is touched
+        if (!span.detached) {
+            Deque<Span> stack = currentSpans.get();
+            // Children left open (e.g. by an exception) are dropped from the context together with the span
+            if (stack.contains(span)) {
+                while (stack.pop() != span) {
+                    // unwind
+                }
+            }
+            if (stack.isEmpty()) {
+                currentSpans.remove();
+            }
+        }
+        finished.add(span);
+        if (buffered.incrementAndGet() >= flushSpans || System.nanoTime() - lastFlushNanos >= flushIntervalNanos) {
+            flush();
+        }
+    }
+
+    static long nowEpochNanos() {
+        return System.nanoTime() + EPOCH_OFFSET_NANOS;
+    }
+
+    private static String randomHex(int bytes) {
+        StringBuilder hex = new StringBuilder(bytes * 2);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < bytes; i++) {
+            hex.append(String.format("%02x", random.nextInt(256)));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.sahibinden.uiautomation.tracing;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Opens a root span per test. The span covers @BeforeEach and @AfterEach methods too,
+ * so driver creation and teardown show up inside the test's trace.
+ */
+public class TracingExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TracingExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Span span = Tracer.global().startSpan(context.getRequiredTestClass().getSimpleName() + "."
+                + context.getRequiredTestMethod().getName());
+        span.setAttribute("test.class", context.getRequiredTestClass().getName())
+                .setAttribute("test.method", context.getRequiredTestMethod().getName())
+                .setAttribute("test.display_name", context.getDisplayName())
+                .setAttribute("thread.name", Thread.currentThread().getName());
+        context.getStore(NAMESPACE).put(Span.class, span);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Span span = context.getStore(NAMESPACE).remove(Span.class, Span.class);
+        if (span == null) {
+            return;
+        }
+        context.getExecutionException().ifPresent(span::recordError);
+        span.end();
+    }
+}
@@ -0,0 +1,16 @@
+package com.sahibinden.uiautomation.tracing;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Writes spans still buffered at the end of the run (e.g. from work outside any test).
+ * Registered through META-INF/services.
+ */
+public class TracingFlushListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        Tracer.flushGlobal();
+    }
+}
@@ -0,0 +1,35 @@
+package com.sahibinden.uiautomation.tracing;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * RestAssured filter that emits a client span per HTTP request.
+ */
+public class TracingRestAssuredFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        Span span = Tracer.global().startSpan("HTTP " + requestSpec.getMethod(), Span.Kind.CLIENT)
+                .setAttribute("http.request.method", requestSpec.getMethod())
+                .setAttribute("url.path", requestSpec.getUserDefinedPath())
+                .setAttribute("url.full", requestSpec.getURI());
+        try {
+            Response response = context.next(requestSpec, responseSpec);
+            span.setAttribute("http.response.status_code", response.getStatusCode());
+            if (response.getStatusCode() >= 400) {
+                span.recordError("HTTP " + response.getStatusCode());
+            }
+            return response;
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
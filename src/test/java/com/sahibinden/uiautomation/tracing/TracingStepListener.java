@@ -0,0 +1,39 @@
+package com.sahibinden.uiautomation.tracing;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Turns every Allure step (@Step methods and Allure.step calls) into a span.
+ * Registered through META-INF/services/io.qameta.allure.listener.LifecycleListener.
+ */
+public class TracingStepListener implements StepLifecycleListener {
+
+    private final Map<StepResult, Span> spans = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        Tracer tracer = Tracer.global();
+        if (tracer.isEnabled()) {
+            spans.put(result, tracer.startSpan("step: " + result.getName()).setAttribute("allure.step", true));
+        }
+    }
+
+    @Override
+    public void beforeStepStop(StepResult result) {
+        Span span = spans.remove(result);
+        if (span == null) {
+            return;
+        }
+        if (result.getStatus() != null && result.getStatus() != Status.PASSED) {
+            String message = result.getStatusDetails() != null ? result.getStatusDetails().getMessage() : null;
+            span.recordError(result.getStatus().value() + (message != null ? ": " + message : ""));
+        }
+        span.end();
+    }
+}
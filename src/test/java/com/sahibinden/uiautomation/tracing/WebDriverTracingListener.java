@@ -0,0 +1,73 @@
+package com.sahibinden.uiautomation.tracing;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.stream.Collectors;
+
+/**
+ * Emits a client span for every WebDriver, WebElement and navigation call made through a driver
+ * decorated with EventFiringDecorator. Each call is one round trip to the browser or Grid.
+ */
+public class WebDriverTracingListener implements WebDriverListener {
+
+    private static final int MAX_ARGUMENT_LENGTH = 200;
+
+    private final Tracer tracer;
+    private final ThreadLocal<Deque<Span>> calls = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public WebDriverTracingListener(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        Span span = tracer.startSpan(targetType(target) + "." + method.getName(), Span.Kind.CLIENT)
+                .setAttribute("webdriver.command", method.getName());
+        if (args != null && args.length > 0) {
+            span.setAttribute("webdriver.args", describe(args));
+        }
+        calls.get().push(span);
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        Span span = calls.get().poll();
+        if (span != null) {
+            span.end();
+        }
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        Span span = calls.get().poll();
+        if (span != null) {
+            span.recordError(e.getTargetException()).end();
+        }
+    }
+
+    private static String targetType(Object target) {
+        if (target instanceof WebElement) {
+            return "WebElement";
+        }
+        if (target instanceof WebDriver) {
+            return "WebDriver";
+        }
+        return target.getClass().getInterfaces().length > 0
+                ? target.getClass().getInterfaces()[0].getSimpleName()
+                : target.getClass().getSimpleName();
+    }
+
+    private static String describe(Object[] args) {
+        String text = Arrays.stream(args)
+                .map(arg -> arg instanceof CharSequence[] keys ? String.join("", keys) : String.valueOf(arg))
+                .collect(Collectors.joining(", "));
+        return text.length() > MAX_ARGUMENT_LENGTH ? text.substring(0, MAX_ARGUMENT_LENGTH) + "..." : text;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sahibinden.uiautomation.verification;
+
+/**
+ * One row of the search results list as extracted from the page.
+ *
+ * @param position  1-based position in the results list
+ * @param priceText price as displayed, null if the row has none
+ * @param condition cosmetic condition label (e.g. "İyi"), null if not shown
+ * @param color     color label (e.g. "Altın"), null if not shown
+ * @param storage   storage label (e.g. "128 GB"), null if not shown
+ * @param url       detail page URL
+ */
+public record ListingRow(int position, String priceText, String condition, String color, String storage, String url) {
+
+    /**
+     * Parses the displayed price.
+     *
+     * @return numeric price, null if the row has no parseable price
+     */
+    public Double price() {
+        if (priceText == null || priceText.isBlank()) {
+            return null;
+        }
+        try {
+            return PriceParser.parse(priceText);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
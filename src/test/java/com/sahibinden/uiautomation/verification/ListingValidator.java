@@ -0,0 +1,98 @@
+package com.sahibinden.uiautomation.verification;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a set of row validators over a results list in a single pass.
+ * Every row is offered to every validator, so one walk reports all broken invariants
+ * together with the rows that broke them.
+ */
+@Slf4j
+public class ListingValidator {
+
+    private final List<RowValidator> validators;
+    private final List<RowFailure> failures = new ArrayList<>();
+    private int rows;
+
+    public ListingValidator(List<RowValidator> validators) {
+        this.validators = List.copyOf(validators);
+    }
+
+    /**
+     * Validates all rows.
+     *
+     * @param listingRows rows in listing order
+     * @return validation report
+     */
+    public Report validate(List<ListingRow> listingRows) {
+        listingRows.forEach(this::accept);
+        return report();
+    }
+
+    /**
+     * Checks the next row against all validators.
+     *
+     * @param row listing row
+     */
+    public void accept(ListingRow row) {
+        rows++;
+        for (RowValidator validator : validators) {
+            String failure = validator.check(row);
+            if (failure != null) {
+                failures.add(new RowFailure(row, validator.name(), failure));
+                log.error("❌ Row {} failed '{}': {} ({})", row.position(), validator.name(), failure, row.url());
+            }
+        }
+    }
+
+    /**
+     * Gets the report of the rows validated so far.
+     *
+     * @return validation report
+     */
+    public Report report() {
+        return new Report(rows, validators.stream().map(RowValidator::name).toList(), List.copyOf(failures));
+    }
+
+    /**
+     * A single broken invariant on a row.
+     *
+     * @param row       offending row
+     * @param validator name of the validator
+     * @param message   failure description
+     */
+    public record RowFailure(ListingRow row, String validator, String message) {
+    }
+
+    /**
+     * Outcome of a listing validation.
+     *
+     * @param rows       rows validated
+     * @param validators names of the validators that ran
+     * @param failures   failures in row order
+     */
+    public record Report(int rows, List<String> validators, List<RowFailure> failures) {
+
+        public boolean passed() {
+            return rows > 0 && failures.isEmpty();
+        }
+
+        /**
+         * Formats the failures one per line.
+         *
+         * @return human readable failure report
+         */
+        public String format() {
+            StringBuilder text = new StringBuilder();
+            text.append(String.format("%d rows, %d failures, validators: %s%n", rows, failures.size(), validators));
+            for (RowFailure failure : failures) {
+                text.append(String.format("#%d [%s] %s - %s%n", failure.row().position(), failure.validator(),
+                        failure.message(), failure.row().url()));
+            }
+            return text.toString();
+        }
+    }
+}
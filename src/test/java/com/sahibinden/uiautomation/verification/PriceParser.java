@@ -0,0 +1,39 @@
+package com.sahibinden.uiautomation.verification;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Parses Turkish formatted listing prices ("4.999 TL", "1.234,56 TL").
+ * Shared by browser and HTTP based price extraction so both paths agree on values.
+ */
+@Slf4j
+public final class PriceParser {
+
+    private PriceParser() {
+    }
+
+    /**
+     * Parses a price text into a number.
+     *
+     * @param priceText price as displayed, e.g. "4.999 TL"
+     * @return numeric price, e.g. 4999.0
+     * @throws IllegalArgumentException if the text is not a price
+     */
+    public static double parse(String priceText) {
+        // Remove "TL" and whitespace (including non-breaking spaces from textContent)
+        String cleaned = priceText.replace("TL", "").replace('\u00a0', ' ').trim();
+
+        // Remove thousand separators (dots) and replace comma with dot for decimal
+        // "4.999" -> "4999"
+        // "1.234,56" -> "1234.56"
+        cleaned = cleaned.replace(".", ""); // Remove thousand separators
+        cleaned = cleaned.replace(",", "."); // Replace comma with dot for decimal
+
+        try {
+            return Double.parseDouble(cleaned);
+        } catch (NumberFormatException e) {
+            log.error("Failed to parse price: {}", priceText);
+            throw new IllegalArgumentException("Invalid price format: " + priceText, e);
+        }
+    }
+}
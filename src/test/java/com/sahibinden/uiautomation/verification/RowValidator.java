@@ -0,0 +1,119 @@
+package com.sahibinden.uiautomation.verification;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Invariant checked against listing rows one at a time.
+ * Validators may keep state between rows (e.g. the previous price for sort order),
+ * so a new instance is used for every validated result set.
+ * Follows Open/Closed Principle - new invariants are added as new validators.
+ */
+public interface RowValidator {
+
+    /**
+     * Name used in failure reports.
+     *
+     * @return validator name
+     */
+    String name();
+
+    /**
+     * Checks the next row.
+     *
+     * @param row listing row
+     * @return failure description, null if the row satisfies the invariant
+     */
+    String check(ListingRow row);
+
+    /**
+     * Rows must be sorted by price.
+     *
+     * @param ascending true for ascending order, false for descending
+     * @return sort order validator
+     */
+    static RowValidator sortedByPrice(boolean ascending) {
+        return new RowValidator() {
+            private Double previous;
+
+            @Override
+            public String name() {
+                return ascending ? "price ascending" : "price descending";
+            }
+
+            @Override
+            public String check(ListingRow row) {
+                Double price = row.price();
+                if (price == null) {
+                    return "price missing or unparseable: " + row.priceText();
+                }
+                String failure = null;
+                if (previous != null && (ascending ? previous > price : previous < price)) {
+                    failure = String.format("price %s %s previous price %s", price, ascending ? "<" : ">", previous);
+                }
+                previous = price;
+                return failure;
+            }
+        };
+    }
+
+    /**
+     * Row prices must be within the range.
+     *
+     * @param minPrice inclusive lower bound, null for none
+     * @param maxPrice inclusive upper bound, null for none
+     * @return price range validator
+     */
+    static RowValidator priceBetween(Double minPrice, Double maxPrice) {
+        String name = String.format("price in [%s, %s]", minPrice == null ? "-" : minPrice, maxPrice == null ? "-" : maxPrice);
+        return of(name, row -> {
+            Double price = row.price();
+            if (price == null) {
+                return "price missing or unparseable: " + row.priceText();
+            }
+            if (minPrice != null && price < minPrice) {
+                return String.format("price %s below minimum %s", price, minPrice);
+            }
+            if (maxPrice != null && price > maxPrice) {
+                return String.format("price %s above maximum %s", price, maxPrice);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * A row attribute must match the selected filter value.
+     *
+     * @param attribute attribute name for reports (e.g. "color")
+     * @param accessor  reads the attribute from a row
+     * @param expected  expected value
+     * @return attribute validator
+     */
+    static RowValidator attributeEquals(String attribute, Function<ListingRow, String> accessor, String expected) {
+        return of(attribute + " = " + expected, row -> {
+            String actual = accessor.apply(row);
+            return Objects.equals(expected, actual) ? null : String.format("%s is '%s', expected '%s'", attribute, actual, expected);
+        });
+    }
+
+    /**
+     * Creates a stateless validator.
+     *
+     * @param name  validator name
+     * @param check returns a failure description, null if the row is valid
+     * @return validator
+     */
+    static RowValidator of(String name, Function<ListingRow, String> check) {
+        return new RowValidator() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String check(ListingRow row) {
+                return check.apply(row);
+            }
+        };
+    }
+}
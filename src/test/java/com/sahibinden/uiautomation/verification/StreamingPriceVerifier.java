@@ -0,0 +1,104 @@
+package com.sahibinden.uiautomation.verification;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Incremental price verifier for listings that span several result pages.
+ * Prices are fed one at a time; only the previous price is kept across page boundaries,
+ * so memory use is constant no matter how many listings are walked.
+ */
+@Slf4j
+public class StreamingPriceVerifier {
+
+    private final Boolean ascending;
+    private final Double minPrice;
+    private final Double maxPrice;
+
+    private double lastPrice = Double.NaN;
+    private long checked;
+    private int pages;
+    private long violations;
+    private String firstViolation;
+
+    /**
+     * Creates a verifier.
+     *
+     * @param ascending true for ascending order, false for descending, null to skip the order check
+     * @param minPrice  inclusive lower bound, null for none
+     * @param maxPrice  inclusive upper bound, null for none
+     */
+    public StreamingPriceVerifier(Boolean ascending, Double minPrice, Double maxPrice) {
+        this.ascending = ascending;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    /**
+     * Marks the start of the next results page.
+     */
+    public void startPage() {
+        pages++;
+    }
+
+    /**
+     * Checks the next price against order and range invariants.
+     *
+     * @param price price value
+     * @param index position of the price on the current page
+     * @return true if the price satisfies all invariants
+     */
+    public boolean accept(double price, int index) {
+        checked++;
+        String violation = null;
+
+        if (ascending != null && !Double.isNaN(lastPrice)) {
+            boolean inOrder = ascending ? lastPrice <= price : lastPrice >= price;
+            if (!inOrder) {
+                violation = String.format("price %s %s previous price %s", price, ascending ? "<" : ">", lastPrice);
+            }
+        }
+        if (violation == null && minPrice != null && price < minPrice) {
+            violation = String.format("price %s below minimum %s", price, minPrice);
+        }
+        if (violation == null && maxPrice != null && price > maxPrice) {
+            violation = String.format("price %s above maximum %s", price, maxPrice);
+        }
+
+        lastPrice = price;
+
+        if (violation != null) {
+            violations++;
+            String location = String.format("page %d, position %d: %s", pages, index + 1, violation);
+            if (firstViolation == null) {
+                firstViolation = location;
+            }
+            log.error("❌ Price check failed at {}", location);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the outcome of the verification so far.
+     *
+     * @return verification result
+     */
+    public Result result() {
+        return new Result(pages, checked, violations, firstViolation);
+    }
+
+    /**
+     * Outcome of a streaming price verification.
+     *
+     * @param pages          result pages walked
+     * @param checked        prices checked
+     * @param violations     prices that broke an invariant
+     * @param firstViolation description of the first violation, null if none
+     */
+    public record Result(int pages, long checked, long violations, String firstViolation) {
+
+        public boolean passed() {
+            return checked > 0 && violations == 0;
+        }
+    }
+}
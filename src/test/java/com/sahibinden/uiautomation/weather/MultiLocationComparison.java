@@ -0,0 +1,203 @@
+package com.sahibinden.uiautomation.weather;
+
+import com.sahibinden.uiautomation.api.AccuWeatherApiClient;
+import com.sahibinden.uiautomation.api.CurrentConditions;
+import com.sahibinden.uiautomation.config.WebDriverFactory;
+import com.sahibinden.uiautomation.pages.AccuWeatherPage;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares API and UI temperatures for many locations at once.
+ * All API calls are issued concurrently through the async client; each response is queued for the
+ * UI check as soon as it arrives, and a fixed set of browser sessions drains the queue in parallel.
+ * The total time approaches the API latency plus (locations / sessions) page loads instead of
+ * the sum of all calls and page loads.
+ */
+@Slf4j
+public class MultiLocationComparison {
+
+    // Tells a UI worker that no more locations will arrive
+    private static final CurrentConditions END = new CurrentConditions(null, null, null);
+
+    private final AccuWeatherApiClient apiClient;
+    private final WebDriverFactory webDriverFactory;
+    private final int sessions;
+
+    /**
+     * Creates a comparison.
+     *
+     * @param apiClient        API client
+     * @param webDriverFactory factory for the additional browser sessions
+     * @param sessions         maximum number of browser sessions used for UI checks
+     */
+    public MultiLocationComparison(AccuWeatherApiClient apiClient, WebDriverFactory webDriverFactory, int sessions) {
+        this.apiClient = apiClient;
+        this.webDriverFactory = webDriverFactory;
+        this.sessions = Math.max(1, sessions);
+    }
+
+    /**
+     * Compares all locations.
+     *
+     * @param locationKeys location keys, duplicates are compared once
+     * @param sharedDriver session of the calling test, used as one of the UI sessions and not quit; may be null
+     * @return one comparison per location, in the order of the keys
+     */
+    public List<LocationResult> compare(List<String> locationKeys, WebDriver sharedDriver) {
+        List<String> keys = locationKeys.stream().distinct().toList();
+        long startNanos = System.nanoTime();
+        Map<String, LocationResult> results = new ConcurrentHashMap<>();
+        BlockingQueue<CurrentConditions> ready = new LinkedBlockingQueue<>();
+        int workers = Math.min(sessions, Math.max(1, keys.size()));
+
+        CompletableFuture<?>[] calls = keys.stream()
+                .map(key -> apiClient.getCurrentConditionsAsync(key).handle((conditions, error) -> {
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        results.put(key, failed(key, null, "API: " + cause.getMessage()));
+                    } else if (conditions.link() == null || conditions.temperature() == null) {
+                        results.put(key, failed(key, conditions, "API: response without link or temperature"));
+                    } else {
+                        ready.add(conditions);
+                    }
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(calls).whenComplete((ignored, error) -> {
+            for (int i = 0; i < workers; i++) {
+                ready.add(END);
+            }
+        });
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers,
+                runnable -> new Thread(runnable, "weather-ui-" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                WebDriver driver = i == 0 ? sharedDriver : null;
+                running.add(pool.submit(() -> {
+                    checkUi(driver, ready, results);
+                    return null;
+                }));
+            }
+            for (Future<?> worker : running) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while comparing locations", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("UI worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<LocationResult> comparisons = keys.stream().map(results::get).toList();
+        long uiMillis = comparisons.stream().mapToLong(LocationResult::uiMillis).sum();
+        log.info("Compared {} locations with {} browser sessions in {} ms (sequential UI time {} ms)",
+                keys.size(), workers, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), uiMillis);
+        return comparisons;
+    }
+
+    private void checkUi(WebDriver sharedDriver, BlockingQueue<CurrentConditions> ready,
+                         Map<String, LocationResult> results) throws InterruptedException {
+        WebDriver driver = sharedDriver;
+        try {
+            for (CurrentConditions conditions = ready.take(); conditions != END; conditions = ready.take()) {
+                long startNanos = System.nanoTime();
+                try {
+                    if (driver == null) {
+                        driver = webDriverFactory.createDriver();
+                    }
+                    Double uiTemperature = new AccuWeatherPage(driver).open(conditions.link()).getTemperature();
+                    results.put(conditions.locationKey(), new LocationResult(conditions.locationKey(),
+                            conditions.link(), conditions.temperature(), uiTemperature, null, elapsedMillis(startNanos)));
+                } catch (RuntimeException e) {
+                    log.warn("UI check failed for location {}: {}", conditions.locationKey(), e.getMessage());
+                    results.put(conditions.locationKey(), new LocationResult(conditions.locationKey(),
+                            conditions.link(), conditions.temperature(), null, "UI: " + e.getMessage(),
+                            elapsedMillis(startNanos)));
+                    if (e instanceof NoSuchSessionException || e instanceof UnreachableBrowserException) {
+                        // The next location gets a fresh session; a lost shared session is left to its owner
+                        if (driver != sharedDriver) {
+                            quietlyQuit(driver);
+                        }
+                        driver = null;
+                    }
+                }
+            }
+        } finally {
+            if (driver != null && driver != sharedDriver) {
+                quietlyQuit(driver);
+            }
+        }
+    }
+
+    private void quietlyQuit(WebDriver driver) {
+        try {
+            webDriverFactory.quitDriver(driver);
+        } catch (RuntimeException e) {
+            log.debug("Failed to quit browser session: {}", e.getMessage());
+        }
+    }
+
+    private static LocationResult failed(String key, CurrentConditions conditions, String error) {
+        return new LocationResult(key, conditions != null ? conditions.link() : null,
+                conditions != null ? conditions.temperature() : null, null, error, 0);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * API and UI temperature of one location.
+     *
+     * @param locationKey    AccuWeather location key
+     * @param link           location page, null if the API call failed
+     * @param apiTemperature temperature from the API, null if the API call failed
+     * @param uiTemperature  temperature shown on the page, null if the UI check failed
+     * @param error          failure description, null if both values were read
+     * @param uiMillis       time spent on the UI check
+     */
+    public record LocationResult(String locationKey, String link, Double apiTemperature, Double uiTemperature,
+                                 String error, long uiMillis) {
+
+        /**
+         * Whether both temperatures were read and differ by at most the tolerance.
+         *
+         * @param tolerance allowed difference in °C
+         * @return true if the location matches
+         */
+        public boolean matches(double tolerance) {
+            return error == null && apiTemperature != null && uiTemperature != null
+                    && Math.abs(apiTemperature - uiTemperature) <= tolerance;
+        }
+
+        public String describe() {
+            if (error != null) {
+                return String.format("%-10s ERROR %s", locationKey, error);
+            }
+            return String.format("%-10s API %6.1f°C  UI %6.1f°C  diff %4.1f°C  (%d ms)  %s", locationKey,
+                    apiTemperature, uiTemperature, Math.abs(apiTemperature - uiTemperature), uiMillis, link);
+        }
+    }
+}